@@ -0,0 +1,205 @@
+package com.wirebarley.account.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.wirebarley.account.dto.AccountCacheStatsResponse;
+import com.wirebarley.account.dto.AccountResponse;
+import com.wirebarley.account.entity.Account;
+import com.wirebarley.common.db.ReadConsistencyContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 조회용 읽기 캐시. 계좌 ID와 계좌번호 양쪽으로 찾으며, 크기 초과 시 W-TinyLFU(Caffeine)로 내보낸다.
+ * 잔액을 바꾼 트랜잭션은 커밋 후 새 스냅샷을 넣거나(refreshAfterCommit) 항목을 지운다(evictAfterCommit).
+ * 스냅샷은 Account.version을 함께 저장해 더 낮은 버전으로 덮어쓰지 않는다.
+ * 버전이 오르지 않는 변경(분산 잔액 슬롯 입금)이나 버전을 모르는 변경은 항목을 지우고,
+ * 지우기 전에 시작한 같은 계좌(같은 스트라이프)의 조회 결과는 캐시에 넣지 않는다.
+ * 다른 노드의 변경은 expireAfterWrite가 지난 뒤 반영된다.
+ * 일관성 토큰이 있는 요청은 반영이 늦은 레플리카에서 채운 항목을 볼 수 있으므로 캐시를 거치지 않는다.
+ */
+@Component
+public class AccountCache {
+
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    private final AccountCacheProperties properties;
+    private final Cache<Long, AccountSnapshot> byId;
+    private final Cache<String, Long> idByNumber;
+    // 항목을 지울 때마다 증가하는 순번. 조회는 시작할 때의 순번을 기억한다
+    private final AtomicLong invalidations = new AtomicLong();
+    // 스트라이프별로 마지막에 지운 순번. 조회 시작 이후에 같은 스트라이프가 지워졌으면 조회 결과를 캐시하지 않는다.
+    // 다른 계좌를 지운 것은 영향을 주지 않으며, 버전 비교는 그대로 적용된다
+    private final AtomicLongArray lastInvalidated = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder stalePutsRejected = new LongAdder();
+
+    public AccountCache(AccountCacheProperties properties) {
+        this.properties = properties;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .evictionListener((Long id, AccountSnapshot snapshot, RemovalCause cause) -> evictions.increment())
+                .build();
+        this.idByNumber = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .build();
+    }
+
+    public Optional<AccountResponse> getById(Long accountId, Function<Long, Optional<Account>> loader) {
+        if (bypass()) {
+            return loader.apply(accountId).map(AccountResponse::from);
+        }
+        AccountSnapshot snapshot = byId.getIfPresent(accountId);
+        if (snapshot != null) {
+            hits.increment();
+            return Optional.of(snapshot.response());
+        }
+        return load(() -> loader.apply(accountId));
+    }
+
+    public Optional<AccountResponse> getByNumber(String accountNumber, Function<String, Optional<Account>> loader) {
+        if (bypass()) {
+            return loader.apply(accountNumber).map(AccountResponse::from);
+        }
+        Long accountId = idByNumber.getIfPresent(accountNumber);
+        AccountSnapshot snapshot = accountId != null ? byId.getIfPresent(accountId) : null;
+        // 삭제 후 같은 번호로 다시 만든 계좌는 ID가 다르므로 번호가 맞는지 확인한다
+        if (snapshot != null && accountNumber.equals(snapshot.response().getAccountNumber())) {
+            hits.increment();
+            return Optional.of(snapshot.response());
+        }
+        return load(() -> loader.apply(accountNumber));
+    }
+
+    /**
+     * 캐시에 있는 스냅샷의 ETag. 조건부 조회 전용이라 적중률 통계에 넣지 않고, 없어도 DB에서 읽어 채우지 않는다.
+     */
+    public Optional<String> peekEtag(Long accountId) {
+        if (bypass()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byId.getIfPresent(accountId)).map(AccountSnapshot::etag);
+    }
+
+    /**
+     * 커밋 후 계좌의 새 스냅샷을 넣는다. 버전은 flush 시점에 오르므로 스냅샷도 커밋 후에 만든다.
+     * 분산 잔액 계좌는 슬롯 입금에 버전이 오르지 않아 항목을 지운다.
+     */
+    public void refreshAfterCommit(Account account) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (account.isStriped()) {
+            evictAfterCommit(account.getId());
+            return;
+        }
+        afterCommit(() -> put(AccountSnapshot.of(account), -1));
+    }
+
+    public void evictAfterCommit(Long accountId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        afterCommit(() -> invalidate(accountId));
+    }
+
+    public AccountCacheStatsResponse getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return AccountCacheStatsResponse.builder()
+                .enabled(properties.isEnabled())
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .hitRate(requests == 0 ? 0.0 : (double) hitCount / requests)
+                .averageLoadMillis(missCount == 0 ? 0.0 : loadNanos.sum() / 1_000_000.0 / missCount)
+                .evictionCount(evictions.sum())
+                .stalePutsRejected(stalePutsRejected.sum())
+                .estimatedSize(byId.estimatedSize())
+                .build();
+    }
+
+    private boolean bypass() {
+        return !properties.isEnabled() || ReadConsistencyContext.hasToken();
+    }
+
+    private Optional<AccountResponse> load(Supplier<Optional<Account>> loader) {
+        misses.increment();
+        long epoch = invalidations.get();
+        long start = System.nanoTime();
+        Optional<Account> account = loader.get();
+        loadNanos.add(System.nanoTime() - start);
+        return account.map(found -> {
+            AccountSnapshot snapshot = AccountSnapshot.of(found);
+            put(snapshot, epoch);
+            return snapshot.response();
+        });
+    }
+
+    // 같은 키의 지우기와 같은 잠금(compute) 안에서 비교하므로 지운 직후에 이전 조회 결과가 들어가지 않는다
+    private void put(AccountSnapshot snapshot, long epoch) {
+        Long accountId = snapshot.response().getId();
+        byId.asMap().compute(accountId, (id, current) -> {
+            if (epoch >= 0 && lastInvalidated.get(stripe(id)) > epoch) {
+                return current;
+            }
+            if (current != null && current.version() > snapshot.version()) {
+                stalePutsRejected.increment();
+                return current;
+            }
+            return snapshot;
+        });
+        idByNumber.put(snapshot.response().getAccountNumber(), accountId);
+    }
+
+    private void invalidate(Long accountId) {
+        byId.asMap().compute(accountId, (id, current) -> {
+            long sequence = invalidations.incrementAndGet();
+            lastInvalidated.accumulateAndGet(stripe(id), sequence, Math::max);
+            return null;
+        });
+    }
+
+    private static int stripe(Long accountId) {
+        return Math.floorMod(accountId.hashCode(), INVALIDATION_STRIPES);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    record AccountSnapshot(AccountResponse response, long version) {
+
+        static AccountSnapshot of(Account account) {
+            return new AccountSnapshot(AccountResponse.from(account),
+                    account.getVersion() != null ? account.getVersion() : 0L);
+        }
+
+        String etag() {
+            return AccountEtag.of(response.getId(), version, response.getStripeCount(), response.getBalance());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.wirebarley.account.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.cache")
+public class AccountCacheProperties {
+
+    // false면 계좌 조회가 항상 DB를 읽는다
+    private boolean enabled = true;
+
+    // 캐시할 최대 계좌 수. 넘으면 W-TinyLFU로 자주 쓰이지 않는 계좌부터 내보낸다
+    private long maximumSize = 10_000;
+
+    // 저장 후 이 시간이 지나면 다시 읽는다. 다른 노드에서 바뀐 잔액이 보일 때까지 걸리는 최대 시간이다
+    private Duration expireAfterWrite = Duration.ofSeconds(10);
+}
@@ -0,0 +1,21 @@
+package com.wirebarley.account.cache;
+
+import java.math.BigDecimal;
+
+/**
+ * 계좌 조회 응답의 ETag. 계좌 행이 바뀌면 Account.version이 오르므로 (ID, 버전)으로 응답을 구분한다.
+ * 분산 잔액 계좌는 슬롯 입금에 버전이 오르지 않아 잔액을 함께 넣는다.
+ */
+public final class AccountEtag {
+
+    private AccountEtag() {
+    }
+
+    public static String of(long accountId, long version, int stripeCount, BigDecimal balance) {
+        String etag = "a" + accountId + "-v" + version;
+        if (stripeCount == 0) {
+            return etag;
+        }
+        return etag + "-" + balance.stripTrailingZeros().toPlainString();
+    }
+}
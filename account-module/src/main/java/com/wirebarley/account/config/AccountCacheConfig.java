@@ -0,0 +1,10 @@
+package com.wirebarley.account.config;
+
+import com.wirebarley.account.cache.AccountCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AccountCacheProperties.class)
+public class AccountCacheConfig {
+}
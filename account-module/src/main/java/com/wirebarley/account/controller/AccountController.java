@@ -1,10 +1,16 @@
 package com.wirebarley.account.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.account.dto.AccountCacheStatsResponse;
+import com.wirebarley.account.dto.AccountPageResponse;
 import com.wirebarley.account.dto.AccountRequest;
 import com.wirebarley.account.dto.AccountResponse;
+import com.wirebarley.account.dto.StripingRequest;
 import com.wirebarley.account.service.AccountService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,11 +18,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @Tag(name = "계좌 API", description = "계좌 등록, 조회, 삭제 관련 API")
 @RestController
@@ -25,6 +36,7 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "계좌 등록", description = "새로운 계좌를 등록합니다.")
     @ApiResponses({
@@ -53,18 +65,25 @@ public class AccountController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "계좌 조회 (ID)", description = "계좌 ID로 계좌 정보를 조회합니다.")
+    @Operation(summary = "계좌 조회 (ID)",
+            description = "계좌 ID로 계좌 정보를 조회합니다. 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = AccountResponse.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag 이후 변경 없음"),
             @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음")
     })
     @GetMapping("/{accountId}")
     public ResponseEntity<AccountResponse> getAccount(
             @Parameter(description = "계좌 ID", required = true, example = "1")
-            @PathVariable Long accountId) {
+            @PathVariable Long accountId,
+            WebRequest webRequest) {
+        String etag = accountService.getAccountEtag(accountId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         AccountResponse response = accountService.getAccount(accountId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @Operation(summary = "계좌 조회 (계좌번호)", description = "계좌번호로 계좌 정보를 조회합니다.")
@@ -81,11 +100,103 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "전체 계좌 목록 조회", description = "등록된 모든 계좌 목록을 조회합니다.")
+    @Operation(summary = "전체 계좌 목록 조회",
+            description = "등록된 모든 계좌를 계좌 ID 순서로 스트리밍합니다. 기본은 JSON 배열이며, "
+                    + "Accept: application/x-ndjson 이면 한 줄에 계좌 하나씩 보냅니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = AccountResponse.class))))
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> getAllAccounts(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            // 루트 값 사이 구분자(기본 공백)를 끄지 않으면 두 번째 줄부터 공백으로 시작한다
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .setRootValueSeparator(null)) {
+                if (ndjson) {
+                    accountService.streamAllAccounts(account -> writeLine(generator, account));
+                } else {
+                    generator.writeStartArray();
+                    accountService.streamAllAccounts(account -> write(generator, account));
+                    generator.writeEndArray();
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @Operation(summary = "계좌 목록 페이지 조회",
+            description = "계좌 ID 순서로 limit건씩 조회합니다. 다음 페이지는 응답의 nextCursor를 after로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = AccountPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<AccountPageResponse> getAccounts(
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "조회 건수 (최대 1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(accountService.getAccounts(after, limit));
+    }
+
+    @Operation(summary = "계좌 조회 캐시 통계", description = "계좌 조회 캐시의 적중률, DB 조회 시간, 내보낸 항목 수를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공")
-    @GetMapping
-    public ResponseEntity<List<AccountResponse>> getAllAccounts() {
-        List<AccountResponse> response = accountService.getAllAccounts();
+    @GetMapping("/cache-stats")
+    public ResponseEntity<AccountCacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(accountService.getCacheStats());
+    }
+
+    @Operation(summary = "분산 잔액 모드 적용",
+            description = "입금이 몰리는 계좌의 잔액을 여러 슬롯으로 분산합니다. 입금은 슬롯 하나만 잠그고, 출금은 슬롯 순서대로 차감합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "적용 성공",
+                    content = @Content(schema = @Schema(implementation = AccountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (유효성 검증 실패)"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "이미 분산 잔액 모드가 적용된 계좌")
+    })
+    @PutMapping("/{accountId}/striping")
+    public ResponseEntity<AccountResponse> enableStriping(
+            @Parameter(description = "계좌 ID", required = true, example = "1")
+            @PathVariable Long accountId,
+            @Valid @RequestBody StripingRequest request) {
+        AccountResponse response = accountService.enableStriping(accountId, request.getSlotCount());
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "분산 잔액 모드 해제", description = "슬롯 잔액을 계좌 잔액으로 합치고 분산 잔액 모드를 해제합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "해제 성공",
+                    content = @Content(schema = @Schema(implementation = AccountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "분산 잔액 모드가 적용되지 않은 계좌"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음")
+    })
+    @DeleteMapping("/{accountId}/striping")
+    public ResponseEntity<AccountResponse> disableStriping(
+            @Parameter(description = "계좌 ID", required = true, example = "1")
+            @PathVariable Long accountId) {
+        AccountResponse response = accountService.disableStriping(accountId);
+        return ResponseEntity.ok(response);
+    }
+
+    private void writeLine(JsonGenerator generator, AccountResponse account) {
+        write(generator, account);
+        try {
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(JsonGenerator generator, AccountResponse account) {
+        try {
+            generator.writeObject(account);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
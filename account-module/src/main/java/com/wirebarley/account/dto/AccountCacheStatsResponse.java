@@ -0,0 +1,35 @@
+package com.wirebarley.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "계좌 조회 캐시 통계")
+@Getter
+@Builder
+public class AccountCacheStatsResponse {
+
+    @Schema(description = "캐시 사용 여부", example = "true")
+    private boolean enabled;
+
+    @Schema(description = "캐시 적중 수", example = "9500")
+    private long hitCount;
+
+    @Schema(description = "캐시 미적중 수 (DB 조회 수)", example = "500")
+    private long missCount;
+
+    @Schema(description = "적중률", example = "0.95")
+    private double hitRate;
+
+    @Schema(description = "미적중 시 DB 조회 평균 시간 (ms)", example = "1.8")
+    private double averageLoadMillis;
+
+    @Schema(description = "크기 초과 또는 만료로 내보낸 항목 수", example = "120")
+    private long evictionCount;
+
+    @Schema(description = "더 높은 버전이 이미 있어 버린 스냅샷 수", example = "3")
+    private long stalePutsRejected;
+
+    @Schema(description = "현재 캐시된 계좌 수 (근사치)", example = "8000")
+    private long estimatedSize;
+}
@@ -0,0 +1,34 @@
+package com.wirebarley.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "계좌 목록 커서 페이지 응답 (전체 건수를 세지 않음)")
+@Getter
+@Builder
+public class AccountPageResponse {
+
+    @Schema(description = "조회 결과 (계좌 ID 순)")
+    private List<AccountResponse> content;
+
+    @Schema(description = "조회 건수", example = "100")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 커서 (after 파라미터로 전달, 마지막 페이지면 null)", example = "7216373826936832")
+    private String nextCursor;
+
+    public static AccountPageResponse of(List<AccountResponse> content, String nextCursor) {
+        return AccountPageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
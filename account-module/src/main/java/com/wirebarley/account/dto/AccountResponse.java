@@ -25,6 +25,9 @@ public class AccountResponse {
     @Schema(description = "현재 잔액", example = "100000.00")
     private BigDecimal balance;
 
+    @Schema(description = "분산 잔액 슬롯 수 (0이면 미적용)", example = "0")
+    private int stripeCount;
+
     @Schema(description = "계좌 생성일시", example = "2024-01-02T10:30:00")
     private LocalDateTime createdAt;
 
@@ -34,6 +37,7 @@ public class AccountResponse {
                 .accountNumber(account.getAccountNumber())
                 .accountHolder(account.getAccountHolder())
                 .balance(account.getBalance())
+                .stripeCount(account.getStripeCount())
                 .createdAt(account.getCreatedAt())
                 .build();
     }
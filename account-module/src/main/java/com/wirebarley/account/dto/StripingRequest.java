@@ -0,0 +1,26 @@
+package com.wirebarley.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "분산 잔액 모드 적용 요청")
+@Getter
+@NoArgsConstructor
+public class StripingRequest {
+
+    @Schema(description = "잔액 슬롯 수 (2~64)", example = "8", required = true)
+    @NotNull(message = "슬롯 수는 필수입니다.")
+    @Min(value = 2, message = "슬롯 수는 2 이상이어야 합니다.")
+    @Max(value = 64, message = "슬롯 수는 64 이하여야 합니다.")
+    private Integer slotCount;
+
+    @Builder
+    public StripingRequest(Integer slotCount) {
+        this.slotCount = slotCount;
+    }
+}
@@ -1,6 +1,7 @@
 package com.wirebarley.account.entity;
 
 import com.wirebarley.common.entity.BaseTimeEntity;
+import com.wirebarley.common.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -8,6 +9,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Entity
 @Table(name = "accounts")
@@ -15,8 +19,11 @@ import java.math.BigDecimal;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Account extends BaseTimeEntity {
 
+    // 라우팅 키가 없는 입금을 슬롯에 순환 배정하기 위한 커서
+    private static final AtomicInteger SLOT_CURSOR = new AtomicInteger();
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, unique = true, length = 20)
@@ -28,6 +35,14 @@ public class Account extends BaseTimeEntity {
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal balance;
 
+    // 분산 잔액 슬롯 수 (0이면 미적용)
+    @Column(nullable = false)
+    private int stripeCount;
+
+    @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("slotIndex ASC")
+    private List<AccountBalanceSlot> slots = new ArrayList<>();
+
     @Version
     private Long version;
 
@@ -38,14 +53,69 @@ public class Account extends BaseTimeEntity {
         this.balance = balance != null ? balance : BigDecimal.ZERO;
     }
 
+    /**
+     * 계좌 잔액. 분산 잔액 모드에서는 계좌 행의 잔액과 모든 슬롯 잔액의 합이다.
+     */
+    public BigDecimal getBalance() {
+        if (!isStriped()) {
+            return balance;
+        }
+        return slots.stream()
+                .map(AccountBalanceSlot::getBalance)
+                .reduce(balance, BigDecimal::add);
+    }
+
+    public boolean isStriped() {
+        return stripeCount > 0;
+    }
+
     public void deposit(BigDecimal amount) {
         this.balance = this.balance.add(amount);
     }
 
+    /**
+     * 출금. 분산 잔액 모드에서는 계좌 행의 잔액을 먼저 차감하고 부족분을 슬롯 순서대로 차감한다.
+     * 호출 전에 모든 슬롯에 락이 잡혀 있어야 한다.
+     */
     public void withdraw(BigDecimal amount) {
-        if (this.balance.compareTo(amount) < 0) {
+        if (getBalance().compareTo(amount) < 0) {
             throw new IllegalStateException("잔액이 부족합니다.");
         }
-        this.balance = this.balance.subtract(amount);
+        BigDecimal fromMain = this.balance.min(amount);
+        this.balance = this.balance.subtract(fromMain);
+
+        BigDecimal remaining = amount.subtract(fromMain);
+        for (AccountBalanceSlot slot : slots) {
+            if (remaining.signum() == 0) {
+                break;
+            }
+            remaining = remaining.subtract(slot.drain(remaining));
+        }
+    }
+
+    public void enableStriping(int slotCount) {
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new AccountBalanceSlot(this, i));
+        }
+        this.stripeCount = slotCount;
+    }
+
+    /**
+     * 분산 잔액 모드 해제. 슬롯 잔액을 계좌 행으로 합치고 슬롯을 제거한다.
+     */
+    public void disableStriping() {
+        this.balance = getBalance();
+        this.slots.clear();
+        this.stripeCount = 0;
+    }
+
+    /**
+     * 입금을 받을 슬롯 번호. 라우팅 키가 있으면 해시로, 없으면 순환 방식으로 선택한다.
+     */
+    public int selectSlotIndex(String routingKey) {
+        if (routingKey != null) {
+            return Math.floorMod(routingKey.hashCode(), stripeCount);
+        }
+        return Math.floorMod(SLOT_CURSOR.getAndIncrement(), stripeCount);
     }
 }
@@ -0,0 +1,59 @@
+package com.wirebarley.account.entity;
+
+import com.wirebarley.common.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 분산 잔액(striping) 모드 계좌의 하위 잔액 슬롯.
+ * 입금은 계좌 행 대신 슬롯 하나만 잠그므로 입금이 몰리는 계좌의 락 경합이 슬롯 수만큼 분산된다.
+ */
+@Entity
+@Table(name = "account_balance_slots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_slot", columnNames = {"account_id", "slot_index"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountBalanceSlot {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(name = "slot_index", nullable = false)
+    private int slotIndex;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance;
+
+    // 입금/출금마다 오른다. 슬롯 입금은 계좌 행을 갱신하지 않으므로 거래내역 ETag가 이 값을 함께 본다
+    @Version
+    private Long version;
+
+    AccountBalanceSlot(Account account, int slotIndex) {
+        this.account = account;
+        this.slotIndex = slotIndex;
+        this.balance = BigDecimal.ZERO;
+    }
+
+    public void credit(BigDecimal amount) {
+        this.balance = this.balance.add(amount);
+    }
+
+    /**
+     * 요청 금액 중 이 슬롯에서 차감 가능한 만큼만 차감하고 차감한 금액을 반환한다.
+     */
+    BigDecimal drain(BigDecimal amount) {
+        BigDecimal drained = this.balance.min(amount);
+        this.balance = this.balance.subtract(drained);
+        return drained;
+    }
+}
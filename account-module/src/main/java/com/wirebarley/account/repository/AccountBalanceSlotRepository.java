@@ -0,0 +1,24 @@
+package com.wirebarley.account.repository;
+
+import com.wirebarley.account.entity.AccountBalanceSlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceSlot s WHERE s.account.id = :accountId AND s.slotIndex = :slotIndex")
+    Optional<AccountBalanceSlot> findByAccountIdAndSlotIndexWithLock(@Param("accountId") Long accountId,
+                                                                     @Param("slotIndex") int slotIndex);
+
+    // 출금 시 슬롯 순서대로 락 획득 (데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceSlot s WHERE s.account.id = :accountId ORDER BY s.slotIndex")
+    List<AccountBalanceSlot> findAllByAccountIdWithLock(@Param("accountId") Long accountId);
+}
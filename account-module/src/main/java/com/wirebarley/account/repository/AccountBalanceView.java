@@ -0,0 +1,13 @@
+package com.wirebarley.account.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 엔티티를 로딩하지 않고 읽는 계좌 잔액 프로젝션
+ */
+public interface AccountBalanceView {
+
+    Long getId();
+
+    BigDecimal getBalance();
+}
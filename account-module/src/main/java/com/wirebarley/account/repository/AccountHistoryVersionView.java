@@ -0,0 +1,14 @@
+package com.wirebarley.account.repository;
+
+/**
+ * 거래내역 ETag용 계좌 버전 프로젝션. 거래를 기록하는 트랜잭션은 계좌 행이나 슬롯 행을 반드시 갱신하므로
+ * 계좌 버전과 슬롯 버전 합계 중 하나는 커밋마다 오른다.
+ */
+public interface AccountHistoryVersionView {
+
+    Long getId();
+
+    Long getVersion();
+
+    Long getSlotVersion();
+}
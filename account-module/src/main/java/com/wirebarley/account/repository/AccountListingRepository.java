@@ -0,0 +1,71 @@
+package com.wirebarley.account.repository;
+
+import com.wirebarley.account.cache.AccountEtag;
+import com.wirebarley.account.dto.AccountResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 계좌 목록 JDBC 조회. 엔티티를 만들지 않고 행을 바로 응답으로 바꾼다.
+ * 분산 잔액 계좌의 잔액은 슬롯 잔액을 더한 값이다 (Account.getBalance와 같음).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountListingRepository {
+
+    // MySQL은 useCursorFetch=true일 때 이 크기만큼씩 서버 커서에서 읽는다
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String BALANCE_SQL = "CASE WHEN a.stripe_count = 0 THEN a.balance ELSE a.balance + COALESCE(" +
+            "(SELECT SUM(s.balance) FROM account_balance_slots s WHERE s.account_id = a.id), 0) END AS balance ";
+    private static final String SELECT_SQL = "SELECT a.id, a.account_number, a.account_holder, a.stripe_count, a.created_at, " +
+            BALANCE_SQL + "FROM accounts a ";
+    private static final RowMapper<AccountResponse> ROW_MAPPER = (rs, rowNum) -> AccountResponse.builder()
+            .id(rs.getLong("id"))
+            .accountNumber(rs.getString("account_number"))
+            .accountHolder(rs.getString("account_holder"))
+            .balance(rs.getBigDecimal("balance"))
+            .stripeCount(rs.getInt("stripe_count"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모든 계좌를 ID 순서로 하나씩 넘긴다. 결과를 모으지 않으므로 메모리 사용량이 계좌 수와 무관하다.
+     */
+    public void forEach(Consumer<AccountResponse> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_SQL + "ORDER BY a.id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(ROW_MAPPER.mapRow(rs, 0)));
+    }
+
+    // afterId보다 큰 ID의 계좌를 limit건 읽는다. afterId가 null이면 처음부터 읽는다
+    public List<AccountResponse> findPage(Long afterId, int limit) {
+        if (afterId == null) {
+            return jdbcTemplate.query(SELECT_SQL + "ORDER BY a.id LIMIT ?", ROW_MAPPER, limit);
+        }
+        return jdbcTemplate.query(SELECT_SQL + "WHERE a.id > ? ORDER BY a.id LIMIT ?", ROW_MAPPER, afterId, limit);
+    }
+
+    // 조건부 조회용: 엔티티와 응답을 만들지 않고 ETag에 필요한 컬럼만 읽는다
+    public Optional<String> findEtag(Long accountId) {
+        return jdbcTemplate.query("SELECT a.id, a.version, a.stripe_count, " + BALANCE_SQL +
+                        "FROM accounts a WHERE a.id = ?",
+                (rs, rowNum) -> AccountEtag.of(rs.getLong("id"), rs.getLong("version"),
+                        rs.getInt("stripe_count"), rs.getBigDecimal("balance")),
+                accountId).stream().findFirst();
+    }
+}
@@ -4,9 +4,14 @@ import com.wirebarley.account.entity.Account;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
@@ -22,4 +27,43 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
     Optional<Account> findByAccountNumberWithLock(@Param("accountNumber") String accountNumber);
+
+    // 여러 계좌를 계좌번호 순서대로 한 번에 잠근다 (데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber IN :accountNumbers ORDER BY a.accountNumber")
+    List<Account> findAllByAccountNumberInWithLock(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // 분산 잔액 계좌 입금용: 계좌 행은 공유 락만 잡고 슬롯에 배타 락을 건다
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Account> findByAccountNumberWithSharedLock(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT a.stripeCount FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Integer> findStripeCountByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT a.id FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findIdByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // 거래내역 ETag용: 계좌 행과 슬롯 행(최대 stripeCount개)의 버전만 읽는다
+    @Query("SELECT a.id AS id, a.version AS version, COALESCE(SUM(s.version), 0) AS slotVersion " +
+            "FROM Account a LEFT JOIN a.slots s WHERE a.id = :id GROUP BY a.id, a.version")
+    Optional<AccountHistoryVersionView> findHistoryVersionById(@Param("id") Long id);
+
+    @Query("SELECT a.id AS id, a.version AS version, COALESCE(SUM(s.version), 0) AS slotVersion " +
+            "FROM Account a LEFT JOIN a.slots s WHERE a.accountNumber = :accountNumber GROUP BY a.id, a.version")
+    Optional<AccountHistoryVersionView> findHistoryVersionByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    /**
+     * 잔액을 조건부로 한 문장에서 갱신한다. 갱신 결과 잔액이 음수가 되거나 분산 잔액 계좌이면 갱신하지 않는다.
+     * 갱신된 행 수(0 또는 1)를 반환하며, 행 락은 트랜잭션이 끝날 때까지 유지된다.
+     */
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance + :delta, a.version = a.version + 1, a.updatedAt = :now " +
+            "WHERE a.accountNumber = :accountNumber AND a.stripeCount = 0 AND a.balance + :delta >= 0")
+    int addBalanceIfSufficient(@Param("accountNumber") String accountNumber,
+                               @Param("delta") BigDecimal delta,
+                               @Param("now") LocalDateTime now);
+
+    @Query("SELECT a.id AS id, a.balance AS balance FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<AccountBalanceView> findBalanceViewByAccountNumber(@Param("accountNumber") String accountNumber);
 }
@@ -0,0 +1,24 @@
+package com.wirebarley.account.repository;
+
+import com.wirebarley.account.entity.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 락 없이 읽은 계좌의 버전을 바로 올려 계좌 행 락을 잡는다.
+ * 버전 UPDATE 한 문장(WHERE version = 읽은 버전)이므로 SELECT FOR UPDATE로 다시 읽지 않으며,
+ * 읽은 뒤 다른 트랜잭션이 커밋했으면 낙관적 락 예외(ObjectOptimisticLockingFailureException)가 난다.
+ * 사용량/기간별 한도 행보다 계좌 행을 먼저 잠가 비관적 경로와 락 순서를 맞추기 위해 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountVersionLockRepository {
+
+    private final EntityManager entityManager;
+
+    public void lockByVersion(Account account) {
+        entityManager.lock(account, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+    }
+}
@@ -1,8 +1,13 @@
 package com.wirebarley.account.service;
 
+import com.wirebarley.account.cache.AccountCache;
+import com.wirebarley.account.dto.AccountCacheStatsResponse;
+import com.wirebarley.account.dto.AccountPageResponse;
 import com.wirebarley.account.dto.AccountRequest;
 import com.wirebarley.account.dto.AccountResponse;
 import com.wirebarley.account.entity.Account;
+import com.wirebarley.account.repository.AccountBalanceSlotRepository;
+import com.wirebarley.account.repository.AccountListingRepository;
 import com.wirebarley.account.repository.AccountRepository;
 import com.wirebarley.common.exception.BusinessException;
 import com.wirebarley.common.exception.ErrorCode;
@@ -12,14 +17,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AccountService {
 
+    private static final int MAX_PAGE_LIMIT = 1000;
+
     private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final AccountListingRepository accountListingRepository;
+    private final AccountCache accountCache;
 
     @Transactional
     public AccountResponse createAccount(AccountRequest request) {
@@ -47,23 +57,92 @@ public class AccountService {
         }
 
         accountRepository.delete(account);
+        accountCache.evictAfterCommit(accountId);
     }
 
-    public AccountResponse getAccount(Long accountId) {
-        Account account = accountRepository.findById(accountId)
+    @Transactional
+    public AccountResponse enableStriping(Long accountId, int slotCount) {
+        Account account = accountRepository.findByIdWithLock(accountId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        if (account.isStriped()) {
+            throw new BusinessException(ErrorCode.ACCOUNT_ALREADY_STRIPED);
+        }
+
+        account.enableStriping(slotCount);
+        accountCache.evictAfterCommit(accountId);
         return AccountResponse.from(account);
     }
 
-    public AccountResponse getAccountByNumber(String accountNumber) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+    @Transactional
+    public AccountResponse disableStriping(Long accountId) {
+        Account account = accountRepository.findByIdWithLock(accountId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        if (!account.isStriped()) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_STRIPED);
+        }
+
+        // 진행 중인 슬롯 입금이 끝난 뒤 합산되도록 모든 슬롯에 락을 건다
+        accountBalanceSlotRepository.findAllByAccountIdWithLock(accountId);
+        account.disableStriping();
+        accountCache.evictAfterCommit(accountId);
         return AccountResponse.from(account);
     }
 
-    public List<AccountResponse> getAllAccounts() {
-        return accountRepository.findAll().stream()
-                .map(AccountResponse::from)
-                .collect(Collectors.toList());
+    public AccountResponse getAccount(Long accountId) {
+        return accountCache.getById(accountId, accountRepository::findById)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    /**
+     * 계좌 조회 응답의 ETag. 캐시에 스냅샷이 있으면 DB를 읽지 않고, 없으면 버전 컬럼만 읽는다.
+     * 엔티티를 로딩하거나 응답을 만들지 않으므로 If-None-Match 요청을 싸게 304로 응답할 수 있다.
+     */
+    public String getAccountEtag(Long accountId) {
+        return accountCache.peekEtag(accountId)
+                .or(() -> accountListingRepository.findEtag(accountId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    public AccountResponse getAccountByNumber(String accountNumber) {
+        return accountCache.getByNumber(accountNumber, accountRepository::findByAccountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    public AccountCacheStatsResponse getCacheStats() {
+        return accountCache.getStats();
+    }
+
+    /**
+     * 모든 계좌를 계좌 ID 순서로 하나씩 넘긴다. 목록을 만들지 않으므로 메모리 사용량이 계좌 수와 무관하다.
+     * 조회가 끝날 때까지 읽기 트랜잭션과 커넥션을 유지한다.
+     */
+    public void streamAllAccounts(Consumer<AccountResponse> consumer) {
+        accountListingRepository.forEach(consumer);
+    }
+
+    /**
+     * 계좌 ID 순서의 커서 페이지. after는 이전 페이지의 nextCursor(마지막 계좌 ID)이다.
+     */
+    public AccountPageResponse getAccounts(String after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_LIMIT);
+        List<AccountResponse> rows = accountListingRepository.findPage(parseCursor(after), pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return AccountPageResponse.of(rows, null);
+        }
+        List<AccountResponse> content = rows.subList(0, pageSize);
+        return AccountPageResponse.of(content, String.valueOf(content.get(pageSize - 1).getId()));
+    }
+
+    private static Long parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(after);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
     }
 }
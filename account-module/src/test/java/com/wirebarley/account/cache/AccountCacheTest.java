@@ -0,0 +1,189 @@
+package com.wirebarley.account.cache;
+
+import com.wirebarley.account.dto.AccountResponse;
+import com.wirebarley.account.entity.Account;
+import com.wirebarley.common.db.ReadConsistencyContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccountCache 단위 테스트")
+class AccountCacheTest {
+
+    private AccountCache accountCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        accountCache = new AccountCache(new AccountCacheProperties());
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistencyContext.end();
+    }
+
+    @Test
+    @DisplayName("커밋 후 갱신은 더 낮은 버전의 조회 결과로 덮어쓰지 않음")
+    void refresh_RejectsStaleVersion() {
+        // given: 버전 2 스냅샷이 먼저 들어간 뒤, 그 전에 시작한 조회가 버전 1을 가져온다
+        accountCache.refreshAfterCommit(account(1L, "100000", 2L));
+
+        // when
+        accountCache.refreshAfterCommit(account(1L, "50000", 1L));
+        Optional<AccountResponse> cached = accountCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getBalance()).isEqualTo(new BigDecimal("100000"));
+        assertThat(loads).hasValue(0);
+        assertThat(accountCache.getStats().getStalePutsRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중에 항목이 지워지면 조회 결과를 캐시하지 않음")
+    void load_SkippedWhenInvalidatedDuringLoad() {
+        // when: DB 조회가 끝나기 전에 다른 트랜잭션이 커밋하고 항목을 지운다
+        Optional<AccountResponse> first = accountCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            accountCache.evictAfterCommit(1L);
+            return Optional.of(account(1L, "50000", 1L));
+        });
+        accountCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(account(1L, "70000", 1L));
+        });
+
+        // then
+        assertThat(first.get().getBalance()).isEqualTo(new BigDecimal("50000"));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 중에 다른 계좌의 항목이 지워져도 조회 결과를 캐시")
+    void load_CachedWhenOtherAccountInvalidated() {
+        // when
+        accountCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            accountCache.evictAfterCommit(2L);
+            return Optional.of(account(1L, "50000", 1L));
+        });
+        Optional<AccountResponse> cached = accountCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(account(1L, "70000", 1L));
+        });
+
+        // then
+        assertThat(cached.get().getBalance()).isEqualTo(new BigDecimal("50000"));
+        assertThat(loads).hasValue(1);
+        assertThat(accountCache.getStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지운 계좌는 같은 계좌번호로 다시 조회해 새 계좌를 캐시")
+    void getByNumber_ReloadsAfterEviction() {
+        // given
+        accountCache.refreshAfterCommit(account(1L, "50000", 1L));
+
+        // when
+        accountCache.getByNumber("1234567890", number -> {
+            loads.incrementAndGet();
+            return Optional.of(account(1L, "50000", 1L));
+        });
+        accountCache.evictAfterCommit(1L);
+        Optional<AccountResponse> reloaded = accountCache.getByNumber("1234567890", number -> {
+            loads.incrementAndGet();
+            return Optional.of(account(2L, "0", 0L));
+        });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(reloaded.get().getId()).isEqualTo(2L);
+        assertThat(accountCache.getStats().getHitCount()).isEqualTo(1);
+        assertThat(accountCache.getStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ETag는 캐시에 있는 스냅샷에서만 읽고 적중률 통계에 넣지 않음")
+    void peekEtag_FromSnapshotOnly() {
+        // given
+        accountCache.refreshAfterCommit(account(1L, "50000", 3L));
+
+        // when & then
+        assertThat(accountCache.peekEtag(1L)).contains("a1-v3");
+        assertThat(accountCache.peekEtag(2L)).isEmpty();
+        assertThat(accountCache.getStats().getHitCount()).isZero();
+        assertThat(accountCache.getStats().getMissCount()).isZero();
+        assertThat(AccountEtag.of(1L, 3L, 4, new BigDecimal("50000.00"))).isEqualTo("a1-v3-50000");
+    }
+
+    @Test
+    @DisplayName("일관성 토큰이 있는 요청은 캐시를 읽지도 채우지도 않음")
+    void consistencyToken_BypassesCache() {
+        // given
+        accountCache.refreshAfterCommit(account(1L, "50000", 1L));
+        ReadConsistencyContext.begin("position", token -> { });
+
+        // when
+        Optional<AccountResponse> loaded = accountCache.getById(2L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(account(2L, "70000", 1L));
+        });
+        accountCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(account(1L, "60000", 2L));
+        });
+
+        // then
+        assertThat(loaded.get().getBalance()).isEqualTo(new BigDecimal("70000"));
+        assertThat(loads).hasValue(2);
+        assertThat(accountCache.peekEtag(1L)).isEmpty();
+        ReadConsistencyContext.end();
+        assertThat(accountCache.peekEtag(2L)).isEmpty();
+        assertThat(accountCache.peekEtag(1L)).contains("a1-v1");
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 항상 DB를 조회")
+    void disabled_AlwaysLoads() {
+        // given
+        AccountCacheProperties properties = new AccountCacheProperties();
+        properties.setEnabled(false);
+        accountCache = new AccountCache(properties);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            accountCache.getById(1L, id -> {
+                loads.incrementAndGet();
+                return Optional.of(account(1L, "50000", 1L));
+            });
+        }
+
+        // then
+        assertThat(loads).hasValue(3);
+        assertThat(accountCache.getStats().getEstimatedSize()).isZero();
+    }
+
+    private static Account account(Long id, String balance, Long version) {
+        Account account = Account.builder()
+                .accountNumber("1234567890")
+                .accountHolder("홍길동")
+                .balance(new BigDecimal(balance))
+                .build();
+        ReflectionTestUtils.setField(account, "id", id);
+        ReflectionTestUtils.setField(account, "version", version);
+        return account;
+    }
+}
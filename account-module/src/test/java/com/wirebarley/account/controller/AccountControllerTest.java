@@ -1,6 +1,7 @@
 package com.wirebarley.account.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.account.dto.AccountPageResponse;
 import com.wirebarley.account.dto.AccountRequest;
 import com.wirebarley.account.dto.AccountResponse;
 import com.wirebarley.account.service.AccountService;
@@ -14,18 +15,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -249,6 +258,44 @@ class AccountControllerTest {
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.code").value("A001"));
         }
+
+        @Test
+        @DisplayName("성공: ETag가 같으면 계좌를 조회하지 않고 304 Not Modified 반환")
+        void getAccount_NotModified() throws Exception {
+            // given
+            given(accountService.getAccountEtag(1L)).willReturn("a1-v3");
+
+            // when & then
+            mockMvc.perform(get("/api/accounts/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"a1-v3\""))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"a1-v3\""))
+                    .andExpect(content().string(""));
+            verify(accountService, never()).getAccount(any());
+        }
+
+        @Test
+        @DisplayName("성공: ETag가 다르면 200 OK와 새 ETag 반환")
+        void getAccount_Modified() throws Exception {
+            // given
+            given(accountService.getAccountEtag(1L)).willReturn("a1-v4");
+            given(accountService.getAccount(1L)).willReturn(AccountResponse.builder()
+                    .id(1L)
+                    .accountNumber("1234567890")
+                    .accountHolder("홍길동")
+                    .balance(new BigDecimal("100000"))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            // when & then
+            mockMvc.perform(get("/api/accounts/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"a1-v3\""))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"a1-v4\""))
+                    .andExpect(jsonPath("$.balance").value(100000));
+        }
     }
 
     @Nested
@@ -296,33 +343,39 @@ class AccountControllerTest {
     @DisplayName("GET /api/accounts - 전체 계좌 조회")
     class GetAllAccounts {
 
+        private final List<AccountResponse> responses = List.of(
+                AccountResponse.builder()
+                        .id(1L)
+                        .accountNumber("1234567890")
+                        .accountHolder("홍길동")
+                        .balance(new BigDecimal("100000"))
+                        .createdAt(LocalDateTime.now())
+                        .build(),
+                AccountResponse.builder()
+                        .id(2L)
+                        .accountNumber("0987654321")
+                        .accountHolder("김철수")
+                        .balance(new BigDecimal("200000"))
+                        .createdAt(LocalDateTime.now())
+                        .build()
+        );
+
         @Test
-        @DisplayName("성공: 전체 계좌 목록 조회 시 200 OK 반환")
+        @DisplayName("성공: 전체 계좌 목록을 JSON 배열로 스트리밍")
         void getAllAccounts_Success() throws Exception {
             // given
-            List<AccountResponse> responses = List.of(
-                    AccountResponse.builder()
-                            .id(1L)
-                            .accountNumber("1234567890")
-                            .accountHolder("홍길동")
-                            .balance(new BigDecimal("100000"))
-                            .createdAt(LocalDateTime.now())
-                            .build(),
-                    AccountResponse.builder()
-                            .id(2L)
-                            .accountNumber("0987654321")
-                            .accountHolder("김철수")
-                            .balance(new BigDecimal("200000"))
-                            .createdAt(LocalDateTime.now())
-                            .build()
-            );
-
-            given(accountService.getAllAccounts()).willReturn(responses);
+            givenAccounts(responses);
 
-            // when & then
-            mockMvc.perform(get("/api/accounts"))
+            // when
+            MvcResult result = mockMvc.perform(get("/api/accounts"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
                     .andDo(print())
                     .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.length()").value(2))
                     .andExpect(jsonPath("$[0].accountNumber").value("1234567890"))
                     .andExpect(jsonPath("$[1].accountNumber").value("0987654321"));
@@ -332,13 +385,78 @@ class AccountControllerTest {
         @DisplayName("성공: 계좌가 없을 때 빈 배열 반환")
         void getAllAccounts_Empty() throws Exception {
             // given
-            given(accountService.getAllAccounts()).willReturn(List.of());
+            givenAccounts(List.of());
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/accounts"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(0));
+        }
+
+        @Test
+        @DisplayName("성공: Accept가 NDJSON이면 한 줄에 계좌 하나씩 전송")
+        void getAllAccounts_Ndjson() throws Exception {
+            // given
+            givenAccounts(responses);
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/accounts").accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+
+            // then: 각 줄이 단독 직렬화 결과와 바이트 단위로 같아야 함 (앞뒤 공백 없음)
+            String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[1]).get("accountNumber").asText()).isEqualTo("0987654321");
+            String expected = objectMapper.writeValueAsString(responses.get(0)) + "\n"
+                    + objectMapper.writeValueAsString(responses.get(1)) + "\n";
+            assertThat(result.getResponse().getContentAsByteArray())
+                    .isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("성공: 커서 페이지 조회")
+        void getAccounts_Page() throws Exception {
+            // given
+            given(accountService.getAccounts("1", 1))
+                    .willReturn(AccountPageResponse.of(List.of(responses.get(1)), "2"));
 
             // when & then
-            mockMvc.perform(get("/api/accounts"))
+            mockMvc.perform(get("/api/accounts/page").param("after", "1").param("limit", "1"))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.length()").value(0));
+                    .andExpect(jsonPath("$.content[0].id").value(2))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.nextCursor").value("2"));
+        }
+
+        @Test
+        @DisplayName("실패: 유효하지 않은 커서")
+        void getAccounts_InvalidCursor() throws Exception {
+            // given
+            given(accountService.getAccounts("abc", 100))
+                    .willThrow(new BusinessException(ErrorCode.INVALID_CURSOR));
+
+            // when & then
+            mockMvc.perform(get("/api/accounts/page").param("after", "abc"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("C004"));
+        }
+
+        private void givenAccounts(List<AccountResponse> accounts) {
+            willAnswer(invocation -> {
+                Consumer<AccountResponse> consumer = invocation.getArgument(0);
+                accounts.forEach(consumer);
+                return null;
+            }).given(accountService).streamAllAccounts(any());
         }
     }
 }
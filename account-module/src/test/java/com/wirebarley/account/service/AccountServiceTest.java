@@ -1,8 +1,13 @@
 package com.wirebarley.account.service;
 
+import com.wirebarley.account.cache.AccountCache;
+import com.wirebarley.account.cache.AccountCacheProperties;
+import com.wirebarley.account.dto.AccountPageResponse;
 import com.wirebarley.account.dto.AccountRequest;
 import com.wirebarley.account.dto.AccountResponse;
 import com.wirebarley.account.entity.Account;
+import com.wirebarley.account.repository.AccountBalanceSlotRepository;
+import com.wirebarley.account.repository.AccountListingRepository;
 import com.wirebarley.account.repository.AccountRepository;
 import com.wirebarley.common.exception.BusinessException;
 import com.wirebarley.common.exception.ErrorCode;
@@ -12,19 +17,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +44,15 @@ class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    @Mock
+    private AccountListingRepository accountListingRepository;
+
+    @Spy
+    private AccountCache accountCache = new AccountCache(new AccountCacheProperties());
+
     @InjectMocks
     private AccountService accountService;
 
@@ -160,6 +179,7 @@ class AccountServiceTest {
                     .accountHolder("홍길동")
                     .balance(new BigDecimal("50000"))
                     .build();
+            ReflectionTestUtils.setField(account, "id", 1L);
 
             given(accountRepository.findById(1L)).willReturn(Optional.of(account));
 
@@ -193,6 +213,7 @@ class AccountServiceTest {
                     .accountHolder("홍길동")
                     .balance(new BigDecimal("50000"))
                     .build();
+            ReflectionTestUtils.setField(account, "id", 1L);
 
             given(accountRepository.findByAccountNumber("1234567890")).willReturn(Optional.of(account));
 
@@ -203,6 +224,32 @@ class AccountServiceTest {
             assertThat(response.getAccountNumber()).isEqualTo("1234567890");
         }
 
+        @Test
+        @DisplayName("성공: 한 번 조회한 계좌는 ID와 계좌번호 모두 캐시에서 응답")
+        void getAccount_CachedAfterFirstLoad() {
+            // given
+            Account account = Account.builder()
+                    .accountNumber("1234567890")
+                    .accountHolder("홍길동")
+                    .balance(new BigDecimal("50000"))
+                    .build();
+            ReflectionTestUtils.setField(account, "id", 1L);
+
+            given(accountRepository.findById(1L)).willReturn(Optional.of(account));
+
+            // when
+            accountService.getAccount(1L);
+            AccountResponse byId = accountService.getAccount(1L);
+            AccountResponse byNumber = accountService.getAccountByNumber("1234567890");
+
+            // then
+            assertThat(byId.getBalance()).isEqualTo(new BigDecimal("50000"));
+            assertThat(byNumber.getId()).isEqualTo(1L);
+            verify(accountRepository, times(1)).findById(1L);
+            verify(accountRepository, never()).findByAccountNumber(anyString());
+            assertThat(accountService.getCacheStats().getHitCount()).isEqualTo(2);
+        }
+
         @Test
         @DisplayName("실패: 존재하지 않는 계좌번호")
         void getAccount_ByNumber_NotFound() {
@@ -221,43 +268,159 @@ class AccountServiceTest {
     class GetAllAccounts {
 
         @Test
-        @DisplayName("성공: 모든 계좌 조회")
-        void getAllAccounts_Success() {
+        @DisplayName("성공: 조회한 계좌를 목록으로 모으지 않고 하나씩 넘김")
+        void streamAllAccounts_PassesEachRow() {
+            // given
+            List<AccountResponse> rows = List.of(
+                    AccountResponse.builder().id(1L).accountHolder("홍길동").build(),
+                    AccountResponse.builder().id(2L).accountHolder("김철수").build());
+            willAnswer(invocation -> {
+                Consumer<AccountResponse> consumer = invocation.getArgument(0);
+                rows.forEach(consumer);
+                return null;
+            }).given(accountListingRepository).forEach(any());
+
+            // when
+            List<String> holders = new ArrayList<>();
+            accountService.streamAllAccounts(account -> holders.add(account.getAccountHolder()));
+
+            // then
+            assertThat(holders).containsExactly("홍길동", "김철수");
+            verify(accountRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("성공: limit보다 한 건 더 읽어 다음 페이지 커서를 만듦")
+        void getAccounts_ReturnsNextCursor() {
+            // given
+            given(accountListingRepository.findPage(10L, 3)).willReturn(List.of(
+                    AccountResponse.builder().id(11L).build(),
+                    AccountResponse.builder().id(12L).build(),
+                    AccountResponse.builder().id(13L).build()));
+
+            // when
+            AccountPageResponse page = accountService.getAccounts("10", 2);
+
+            // then
+            assertThat(page.getContent()).extracting(AccountResponse::getId).containsExactly(11L, 12L);
+            assertThat(page.isHasNext()).isTrue();
+            assertThat(page.getNextCursor()).isEqualTo("12");
+        }
+
+        @Test
+        @DisplayName("성공: 마지막 페이지는 커서 없음")
+        void getAccounts_LastPage() {
+            // given
+            given(accountListingRepository.findPage(null, 101)).willReturn(List.of(
+                    AccountResponse.builder().id(1L).build()));
+
+            // when
+            AccountPageResponse page = accountService.getAccounts(null, 100);
+
+            // then
+            assertThat(page.getSize()).isEqualTo(1);
+            assertThat(page.isHasNext()).isFalse();
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 숫자가 아닌 커서")
+        void getAccounts_InvalidCursor() {
+            // when & then
+            assertThatThrownBy(() -> accountService.getAccounts("abc", 10))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    @Nested
+    @DisplayName("분산 잔액 모드")
+    class Striping {
+
+        @Test
+        @DisplayName("성공: 분산 잔액 모드 적용 시 슬롯 생성")
+        void enableStriping_Success() {
             // given
-            Account account1 = Account.builder()
+            Account account = Account.builder()
+                    .accountNumber("1234567890")
+                    .accountHolder("홍길동")
+                    .balance(new BigDecimal("50000"))
+                    .build();
+
+            given(accountRepository.findByIdWithLock(1L)).willReturn(Optional.of(account));
+
+            // when
+            AccountResponse response = accountService.enableStriping(1L, 4);
+
+            // then
+            assertThat(response.getStripeCount()).isEqualTo(4);
+            assertThat(response.getBalance()).isEqualByComparingTo(new BigDecimal("50000"));
+            assertThat(account.getSlots()).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("실패: 이미 분산 잔액 모드인 계좌")
+        void enableStriping_AlreadyStriped() {
+            // given
+            Account account = Account.builder()
                     .accountNumber("1234567890")
                     .accountHolder("홍길동")
-                    .balance(BigDecimal.ZERO)
                     .build();
+            account.enableStriping(2);
+
+            given(accountRepository.findByIdWithLock(1L)).willReturn(Optional.of(account));
 
-            Account account2 = Account.builder()
-                    .accountNumber("0987654321")
-                    .accountHolder("김철수")
-                    .balance(new BigDecimal("100000"))
+            // when & then
+            assertThatThrownBy(() -> accountService.enableStriping(1L, 4))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_ALREADY_STRIPED);
+        }
+
+        @Test
+        @DisplayName("성공: 해제 시 슬롯 잔액을 계좌 잔액으로 합산")
+        void disableStriping_Success() {
+            // given
+            Account account = Account.builder()
+                    .accountNumber("1234567890")
+                    .accountHolder("홍길동")
+                    .balance(new BigDecimal("10000"))
                     .build();
+            account.enableStriping(2);
+            account.getSlots().get(0).credit(new BigDecimal("20000"));
+            account.getSlots().get(1).credit(new BigDecimal("30000"));
 
-            given(accountRepository.findAll()).willReturn(Arrays.asList(account1, account2));
+            given(accountRepository.findByIdWithLock(1L)).willReturn(Optional.of(account));
 
             // when
-            List<AccountResponse> responses = accountService.getAllAccounts();
+            AccountResponse response = accountService.disableStriping(1L);
 
             // then
-            assertThat(responses).hasSize(2);
-            assertThat(responses.get(0).getAccountHolder()).isEqualTo("홍길동");
-            assertThat(responses.get(1).getAccountHolder()).isEqualTo("김철수");
+            assertThat(response.getStripeCount()).isZero();
+            assertThat(response.getBalance()).isEqualByComparingTo(new BigDecimal("60000"));
+            assertThat(account.getSlots()).isEmpty();
+            verify(accountBalanceSlotRepository).findAllByAccountIdWithLock(1L);
         }
 
         @Test
-        @DisplayName("성공: 계좌가 없는 경우 빈 리스트 반환")
-        void getAllAccounts_Empty() {
+        @DisplayName("성공: 출금은 계좌 잔액을 먼저 차감하고 슬롯 순서대로 차감")
+        void withdraw_DrainsSlotsInOrder() {
             // given
-            given(accountRepository.findAll()).willReturn(List.of());
+            Account account = Account.builder()
+                    .accountNumber("1234567890")
+                    .accountHolder("홍길동")
+                    .balance(new BigDecimal("10000"))
+                    .build();
+            account.enableStriping(3);
+            account.getSlots().get(0).credit(new BigDecimal("20000"));
+            account.getSlots().get(1).credit(new BigDecimal("30000"));
 
             // when
-            List<AccountResponse> responses = accountService.getAllAccounts();
+            account.withdraw(new BigDecimal("40000"));
 
             // then
-            assertThat(responses).isEmpty();
+            assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("20000"));
+            assertThat(account.getSlots().get(0).getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(account.getSlots().get(1).getBalance()).isEqualByComparingTo(new BigDecimal("20000"));
         }
     }
 }
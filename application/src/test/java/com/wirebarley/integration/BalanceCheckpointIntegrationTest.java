@@ -0,0 +1,212 @@
+package com.wirebarley.integration;
+
+import com.wirebarley.account.dto.AccountRequest;
+import com.wirebarley.account.service.AccountService;
+import com.wirebarley.transaction.checkpoint.BalanceCheckpointJob;
+import com.wirebarley.transaction.dto.BalanceAsOfResponse;
+import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.WithdrawRequest;
+import com.wirebarley.transaction.service.BalanceHistoryService;
+import com.wirebarley.transaction.service.TransactionService;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "transaction.balance-checkpoint.enabled=false")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("특정 시점 잔액 통합 테스트")
+class BalanceCheckpointIntegrationTest {
+
+    private static final String ACCOUNT_NUMBER = "1111111111";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceCheckpointJob balanceCheckpointJob;
+
+    @Autowired
+    private BalanceHistoryService balanceHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = BusinessCalendar.today();
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountId = accountService.createAccount(AccountRequest.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .accountHolder("테스트사용자1")
+                .build()).getId();
+
+        // 3일 전 입금 100,000 / 2일 전 입금 50,000, 출금 30,000 / 오늘 입금 20,000
+        moveTo(deposit("100000"), at(today.minusDays(3), 10));
+        moveTo(deposit("50000"), at(today.minusDays(2), 12));
+        moveTo(transactionService.withdraw(WithdrawRequest.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .amount(new BigDecimal("30000"))
+                .build()).getId(), at(today.minusDays(2), 15));
+        deposit("20000");
+    }
+
+    @Test
+    @DisplayName("가장 가까운 이전 체크포인트에 그 뒤 거래만 더해 잔액 계산")
+    void balanceAsOf_StartsFromNearestCheckpoint() {
+        // given
+        balanceCheckpointJob.checkpoint(today.minusDays(3));
+        balanceCheckpointJob.checkpoint(today.minusDays(2));
+        balanceCheckpointJob.checkpoint(today.minusDays(1));
+
+        // when
+        BalanceAsOfResponse midDay = balanceHistoryService.getBalanceAsOf(accountId, at(today.minusDays(2), 13));
+        BalanceAsOfResponse yesterday = balanceHistoryService.getBalanceAsOf(accountId, at(today.minusDays(1), 12));
+        BalanceAsOfResponse now = balanceHistoryService.getBalanceAsOf(accountId, LocalDateTime.now());
+
+        // then
+        assertThat(midDay.getBalance()).isEqualByComparingTo("150000");
+        assertThat(midDay.getCheckpointDate()).isEqualTo(today.minusDays(3));
+        assertThat(midDay.getAppliedTransactions()).isEqualTo(1);
+
+        assertThat(yesterday.getBalance()).isEqualByComparingTo("120000");
+        assertThat(yesterday.getCheckpointDate()).isEqualTo(today.minusDays(2));
+        assertThat(yesterday.getAppliedTransactions()).isZero();
+
+        assertThat(now.getBalance()).isEqualByComparingTo("140000");
+        assertThat(now.getAppliedTransactions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("체크포인트가 없으면 이전 거래 전체로 계산")
+    void balanceAsOf_WithoutCheckpoint() {
+        // when
+        BalanceAsOfResponse beforeAll = balanceHistoryService.getBalanceAsOf(accountId, at(today.minusDays(3), 9));
+        BalanceAsOfResponse afterDeposits = balanceHistoryService.getBalanceAsOf(accountId, at(today.minusDays(2), 23));
+
+        // then
+        assertThat(beforeAll.getBalance()).isEqualByComparingTo("0");
+        assertThat(beforeAll.getCheckpointDate()).isNull();
+        assertThat(afterDeposits.getBalance()).isEqualByComparingTo("120000");
+        assertThat(afterDeposits.getAppliedTransactions()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("처음 기록하는 계좌는 이전 거래를 합산하고, 같은 영업일을 다시 기록해도 결과가 같음")
+    void checkpoint_FirstDayAndRerun() {
+        // when
+        balanceCheckpointJob.checkpoint(today.minusDays(2));
+        balanceCheckpointJob.checkpoint(today.minusDays(2));
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT balance FROM account_balance_checkpoints WHERE account_id = ? AND business_date = ?",
+                BigDecimal.class, accountId, today.minusDays(2))).isEqualByComparingTo("120000");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM account_balance_checkpoints", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("run은 마지막으로 기록한 영업일 다음 날부터 이어서 기록")
+    void run_ContinuesFromLastCompletedDay() {
+        // given
+        balanceCheckpointJob.checkpoint(today.minusDays(3));
+
+        // when
+        balanceCheckpointJob.run();
+
+        // then: 어제까지 기록했고, 거래가 있었던 날만 체크포인트가 있다
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM balance_checkpoint_days WHERE business_date > ?",
+                Integer.class, today.minusDays(3))).isBetween(1, 2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM account_balance_checkpoints", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기록이 catchUpDays보다 오래 밀렸으면 밀린 구간을 하루로 묶어 기록")
+    void run_ClampsLongGap() {
+        // given: 25일 전까지 기록했고, 3일 전 입금을 20일 전으로 옮김
+        moveFirstDepositTo(at(today.minusDays(20), 10));
+        jdbcTemplate.update("INSERT INTO balance_checkpoint_days (business_date, account_count, completed_at) " +
+                "VALUES (?, 0, ?)", today.minusDays(25), Timestamp.valueOf(LocalDateTime.now()));
+
+        // when
+        balanceCheckpointJob.run();
+
+        // then: 하루씩 기록한 영업일은 catchUpDays(7) 이내이고, 묶어 기록한 첫 체크포인트에 20일 전 입금이 반영됨
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM balance_checkpoint_days WHERE business_date > ?",
+                Integer.class, today.minusDays(25))).isBetween(7, 8);
+        LocalDate firstCheckpoint = jdbcTemplate.queryForObject(
+                "SELECT MIN(business_date) FROM account_balance_checkpoints WHERE account_id = ?",
+                LocalDate.class, accountId);
+        assertThat(firstCheckpoint).isAfter(today.minusDays(10));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT balance FROM account_balance_checkpoints WHERE account_id = ? AND business_date = ?",
+                BigDecimal.class, accountId, firstCheckpoint)).isEqualByComparingTo("100000");
+        assertThat(balanceHistoryService.getBalanceAsOf(accountId, LocalDateTime.now()).getBalance())
+                .isEqualByComparingTo("140000");
+    }
+
+    @Test
+    @DisplayName("체크포인트가 없는 계좌도 마감 잔액을 기록해 전체 이력을 합산하지 않음")
+    void run_SeedsAccountsWithoutCheckpoint() {
+        // given: catchUpDays보다 오래전에만 거래가 있었던 계좌
+        Long oldAccountId = accountService.createAccount(AccountRequest.builder()
+                .accountNumber("2222222222")
+                .accountHolder("테스트사용자2")
+                .build()).getId();
+        moveTo(transactionService.deposit(DepositRequest.builder()
+                .accountNumber("2222222222")
+                .amount(new BigDecimal("70000"))
+                .build()).getId(), at(today.minusDays(30), 10));
+
+        // when
+        balanceCheckpointJob.run();
+
+        // then
+        BalanceAsOfResponse response = balanceHistoryService.getBalanceAsOf(oldAccountId, LocalDateTime.now());
+        assertThat(response.getBalance()).isEqualByComparingTo("70000");
+        assertThat(response.getCheckpointDate()).isNotNull();
+        assertThat(response.getAppliedTransactions()).isZero();
+    }
+
+    private void moveFirstDepositTo(LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE transactions SET created_at = ? WHERE owner_account_id = ? AND created_at < ?",
+                Timestamp.valueOf(createdAt), accountId, Timestamp.valueOf(at(today.minusDays(2), 0)));
+    }
+
+    private Long deposit(String amount) {
+        return transactionService.deposit(DepositRequest.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .amount(new BigDecimal(amount))
+                .build()).getId();
+    }
+
+    private void moveTo(Long transactionId, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE transactions SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(createdAt), transactionId);
+    }
+
+    private static LocalDateTime at(LocalDate businessDate, int hour) {
+        return BusinessCalendar.startOf(businessDate).plusHours(hour);
+    }
+}
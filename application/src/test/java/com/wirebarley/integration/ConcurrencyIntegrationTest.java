@@ -2,11 +2,18 @@ package com.wirebarley.integration;
 
 import com.wirebarley.account.dto.AccountRequest;
 import com.wirebarley.account.dto.AccountResponse;
+import com.wirebarley.account.entity.Account;
 import com.wirebarley.account.service.AccountService;
 import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.TransactionResponse;
 import com.wirebarley.transaction.dto.TransferRequest;
 import com.wirebarley.transaction.dto.WithdrawRequest;
+import com.wirebarley.transaction.lock.AccountLockExecutor;
+import com.wirebarley.transaction.lock.AccountLockStrategy;
 import com.wirebarley.transaction.service.TransactionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +42,12 @@ class ConcurrencyIntegrationTest {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AccountLockExecutor accountLockExecutor;
+
     private String accountNumber1;
     private String accountNumber2;
 
@@ -146,6 +159,53 @@ class ConcurrencyIntegrationTest {
         assertThat(account.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
     }
 
+    @Test
+    @DisplayName("동시 출금: 낙관적 락과 비관적 락 요청이 섞여도 데드락 없이 정합성 유지")
+    void concurrentWithdraw_MixedLockStrategies() throws InterruptedException {
+        // given
+        int threadCount = 20;
+        BigDecimal withdrawAmount = new BigDecimal("10000");
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when: 절반은 낙관적 락(재시도 포함), 절반은 비관적 락으로 같은 계좌에서 출금
+        for (int i = 0; i < threadCount; i++) {
+            boolean optimistic = i % 2 == 0;
+            executorService.submit(() -> {
+                WithdrawRequest request = WithdrawRequest.builder()
+                        .accountNumber(accountNumber1)
+                        .amount(withdrawAmount)
+                        .build();
+                try {
+                    if (optimistic) {
+                        accountLockExecutor.execute(List.of(accountNumber1),
+                                strategy -> transactionService.withdraw(request, strategy));
+                    } else {
+                        transactionService.withdraw(request, AccountLockStrategy.PESSIMISTIC);
+                    }
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then: 계좌 → 사용량 순서가 같으므로 모든 요청이 성공하고 잔액·사용량이 일치
+        AccountResponse account = accountService.getAccountByNumber(accountNumber1);
+        BigDecimal totalWithdrawn = withdrawAmount.multiply(BigDecimal.valueOf(threadCount));
+
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(failCount.get()).isEqualTo(0);
+        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("1000000").subtract(totalWithdrawn));
+    }
+
     @Test
     @DisplayName("동시 이체: A→B, B→A 교차 이체 시 데드락 없이 처리")
     void concurrentTransfer_ShouldNotCauseDeadlock() throws InterruptedException {
@@ -327,4 +387,149 @@ class ConcurrencyIntegrationTest {
         assertThat(successCount.get()).isLessThanOrEqualTo(10);
         assertThat(limitExceededCount.get()).isGreaterThanOrEqualTo(10);
     }
+
+    @Test
+    @DisplayName("조건부 UPDATE 동시 입금: 10개 스레드에서 동시에 입금 시 정합성 유지")
+    void concurrentAtomicDeposit_ShouldMaintainDataIntegrity() throws InterruptedException {
+        // given
+        int threadCount = 10;
+        BigDecimal depositAmount = new BigDecimal("10000");
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    transactionService.depositAtomic(DepositRequest.builder()
+                            .accountNumber(accountNumber1)
+                            .amount(depositAmount)
+                            .build());
+                    successCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        AccountResponse account = accountService.getAccountByNumber(accountNumber1);
+
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("1100000"));
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 입금/출금은 계좌 엔티티를 로딩하지 않고 거래에 계좌번호를 기록")
+    void atomicUpdate_DoesNotLoadAccount() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        TransactionResponse deposit = transactionService.depositAtomic(DepositRequest.builder()
+                .accountNumber(accountNumber1)
+                .amount(new BigDecimal("10000"))
+                .build());
+        TransactionResponse withdrawal = transactionService.withdrawAtomic(WithdrawRequest.builder()
+                .accountNumber(accountNumber1)
+                .amount(new BigDecimal("10000"))
+                .build());
+
+        // then
+        assertThat(statistics.getEntityStatistics(Account.class.getName()).getLoadCount()).isZero();
+        assertThat(deposit.getToAccountNumber()).isEqualTo(accountNumber1);
+        assertThat(withdrawal.getFromAccountNumber()).isEqualTo(accountNumber1);
+        assertThat(transactionService.getTransactionHistoryByAccountNumber(accountNumber1, null, 2).getContent())
+                .extracting(response -> response.getFromAccountNumber() != null
+                        ? response.getFromAccountNumber() : response.getToAccountNumber())
+                .containsOnly(accountNumber1);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 동시 출금: 잔액 부족 시 일부 요청만 성공")
+    void concurrentAtomicWithdraw_ShouldRejectWhenInsufficientBalance() throws InterruptedException {
+        // given
+        int threadCount = 15;
+        BigDecimal withdrawAmount = new BigDecimal("100000");
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when: 15개 스레드에서 각각 100,000원 출금 시도 (총 1,500,000원, 잔액은 1,000,000원)
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    transactionService.withdrawAtomic(WithdrawRequest.builder()
+                            .accountNumber(accountNumber1)
+                            .amount(withdrawAmount)
+                            .build());
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then: 10개만 성공해야 함
+        AccountResponse account = accountService.getAccountByNumber(accountNumber1);
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(failCount.get()).isEqualTo(5);
+        assertThat(account.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 일일 한도: 한도 초과 출금은 롤백되어 잔액이 유지됨")
+    void concurrentAtomicWithdraw_ShouldRespectDailyLimit() throws InterruptedException {
+        // given
+        transactionService.deposit(DepositRequest.builder()
+                .accountNumber(accountNumber1)
+                .amount(new BigDecimal("9000000"))
+                .build());
+
+        int threadCount = 20;
+        BigDecimal withdrawAmount = new BigDecimal("100000");
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when: 20개 스레드에서 각각 100,000원 출금 시도 (총 2,000,000원, 일일 한도 1,000,000원)
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    transactionService.withdrawAtomic(WithdrawRequest.builder()
+                            .accountNumber(accountNumber1)
+                            .amount(withdrawAmount)
+                            .build());
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 한도 초과
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then: 성공한 출금만 잔액에 반영
+        AccountResponse account = accountService.getAccountByNumber(accountNumber1);
+
+        assertThat(successCount.get()).isLessThanOrEqualTo(10);
+        assertThat(account.getBalance()).isEqualByComparingTo(
+                new BigDecimal("10000000").subtract(withdrawAmount.multiply(BigDecimal.valueOf(successCount.get()))));
+    }
 }
@@ -0,0 +1,103 @@
+package com.wirebarley.integration;
+
+import com.wirebarley.account.dto.AccountRequest;
+import com.wirebarley.account.service.AccountService;
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.WithdrawRequest;
+import com.wirebarley.transaction.service.TransactionService;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import com.wirebarley.transaction.usage.DailyUsageRebuildJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("일일 사용량 통합 테스트")
+class DailyUsageIntegrationTest {
+
+    private static final String ACCOUNT_NUMBER = "1111111111";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private DailyUsageRebuildJob dailyUsageRebuildJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        accountService.createAccount(AccountRequest.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .accountHolder("테스트사용자1")
+                .build());
+        transactionService.deposit(DepositRequest.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .amount(new BigDecimal("2000000"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("한도 초과 출금은 사용량 예약이 롤백된다")
+    void withdraw_LimitExceededRollsBackUsage() {
+        // given
+        withdraw("700000");
+
+        // when & then
+        assertThatThrownBy(() -> withdraw("400000"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+        assertThat(usage()).isEqualByComparingTo("700000");
+        withdraw("300000");
+        assertThat(usage()).isEqualByComparingTo("1000000");
+    }
+
+    @Test
+    @DisplayName("재계산 시 거래 내역의 합계로 사용량을 복구")
+    void rebuild_RestoresUsageFromTransactions() {
+        // given
+        withdraw("100000");
+        withdraw("200000");
+        jdbcTemplate.update("DELETE FROM account_daily_usage");
+
+        // when
+        LocalDate today = BusinessCalendar.today();
+        dailyUsageRebuildJob.rebuild(today, today);
+
+        // then
+        assertThat(usage()).isEqualByComparingTo("300000");
+    }
+
+    private void withdraw(String amount) {
+        transactionService.withdraw(WithdrawRequest.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .amount(new BigDecimal(amount))
+                .build());
+    }
+
+    private BigDecimal usage() {
+        return jdbcTemplate.queryForObject(
+                "SELECT u.amount FROM account_daily_usage u JOIN accounts a ON a.id = u.account_id " +
+                        "WHERE a.account_number = ? AND u.type = 'WITHDRAWAL'",
+                BigDecimal.class, ACCOUNT_NUMBER);
+    }
+}
@@ -0,0 +1,141 @@
+package com.wirebarley.integration;
+
+import com.wirebarley.account.dto.AccountRequest;
+import com.wirebarley.account.service.AccountService;
+import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.TransferRequest;
+import com.wirebarley.transaction.outbox.InMemoryOutboxSink;
+import com.wirebarley.transaction.outbox.OutboxMessage;
+import com.wirebarley.transaction.outbox.OutboxRelay;
+import com.wirebarley.transaction.outbox.OutboxSink;
+import com.wirebarley.transaction.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+        "transaction.outbox.enabled=true",
+        "transaction.outbox.sink=MEMORY",
+        "transaction.outbox.partitions=4",
+        "transaction.outbox.relay-threads=1",
+        "transaction.outbox.poll-interval-millis=600000"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("아웃박스 통합 테스트")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxSink outboxSink;
+
+    @BeforeEach
+    void setUp() {
+        accountService.createAccount(AccountRequest.builder()
+                .accountNumber("1111111111")
+                .accountHolder("테스트사용자1")
+                .build());
+        accountService.createAccount(AccountRequest.builder()
+                .accountNumber("2222222222")
+                .accountHolder("테스트사용자2")
+                .build());
+    }
+
+    @Test
+    @DisplayName("거래 저장 시 아웃박스에 기록되고 릴레이가 계좌별 순서대로 발행")
+    void relay_PublishesInOrderPerAccount() {
+        // given
+        transactionService.deposit(DepositRequest.builder()
+                .accountNumber("1111111111")
+                .amount(new BigDecimal("100000"))
+                .build());
+        transactionService.transfer(TransferRequest.builder()
+                .fromAccountNumber("1111111111")
+                .toAccountNumber("2222222222")
+                .amount(new BigDecimal("10000"))
+                .build());
+        assertThat(outboxRelay.getStats().getPendingEvents()).isEqualTo(3);
+
+        // when
+        int published = outboxRelay.relayRound(0);
+
+        // then
+        List<OutboxMessage> messages = ((InMemoryOutboxSink) outboxSink).getMessages();
+        assertThat(published).isEqualTo(3);
+        assertThat(messages).extracting(OutboxMessage::getEventType)
+                .containsExactlyInAnyOrder("DEPOSIT", "TRANSFER_OUT", "TRANSFER_IN");
+
+        Long firstAccountId = accountService.getAccountByNumber("1111111111").getId();
+        assertThat(messages).filteredOn(message -> message.getAccountId().equals(firstAccountId))
+                .extracting(OutboxMessage::getEventType, OutboxMessage::getAccountSeq)
+                .containsExactly(tuple("DEPOSIT", 1L), tuple("TRANSFER_OUT", 2L));
+        assertThat(outboxRelay.getStats().getPendingEvents()).isZero();
+        assertThat(outboxRelay.getStats().getPublishedEvents()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("분산 잔액 계좌에 동시 입금해도 계좌 시퀀스 순서대로 빠짐없이 발행")
+    void relay_StripedDepositsPublishedInSequence() throws InterruptedException {
+        // given: 공유 락만 잡는 분산 잔액 계좌 입금을 동시에 실행
+        Long accountId = accountService.getAccountByNumber("2222222222").getId();
+        accountService.enableStriping(accountId, 4);
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    transactionService.deposit(DepositRequest.builder()
+                            .accountNumber("2222222222")
+                            .amount(new BigDecimal("1000"))
+                            .build());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // when
+        outboxRelay.relayRound(0);
+
+        // then: 발행 순서가 1부터 빈틈없이 증가
+        List<Long> sequences = ((InMemoryOutboxSink) outboxSink).getMessages().stream()
+                .filter(message -> message.getAccountId().equals(accountId))
+                .map(OutboxMessage::getAccountSeq)
+                .toList();
+        assertThat(sequences).containsExactlyElementsOf(
+                LongStream.rangeClosed(1, threadCount).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("발행할 이벤트가 없으면 아무것도 발행하지 않음")
+    void relay_NothingPending() {
+        assertThat(outboxRelay.relayRound(0)).isZero();
+        assertThat(((InMemoryOutboxSink) outboxSink).getMessages()).isEmpty();
+    }
+}
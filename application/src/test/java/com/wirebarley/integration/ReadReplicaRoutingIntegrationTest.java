@@ -0,0 +1,74 @@
+package com.wirebarley.integration;
+
+import com.wirebarley.account.dto.AccountRequest;
+import com.wirebarley.account.service.AccountService;
+import com.wirebarley.common.db.ReadWriteRoutingDataSource;
+import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.TransactionResponse;
+import com.wirebarley.transaction.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레플리카는 아무것도 반영하지 못한 빈 DB다. 읽기 전용 트랜잭션이 레플리카로 가면 프라이머리에 커밋된 행을 볼 수 없다.
+ */
+@SpringBootTest(properties = {
+        "db.routing.enabled=true",
+        "db.routing.replica.url=jdbc:h2:mem:lagging-replica;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "db.routing.replica.username=sa",
+        "transaction.idempotency.filter-enabled=false",
+        "transaction.balance-checkpoint.enabled=false"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("읽기/쓰기 분리 통합 테스트 (반영이 늦은 레플리카)")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String ACCOUNT_NUMBER = "1111111111";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        accountService.createAccount(AccountRequest.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .accountHolder("테스트사용자1")
+                .build());
+    }
+
+    @Test
+    @DisplayName("중복 키로 실패한 요청의 기존 거래는 레플리카가 아니라 프라이머리에서 찾음")
+    void findByIdempotencyKey_ReadsPrimary() {
+        // given
+        TransactionResponse first = transactionService.deposit(DepositRequest.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .amount(new BigDecimal("10000"))
+                .idempotencyKey("replay-key")
+                .build());
+        long replicaConnections = readWriteRoutingDataSource.getReplicaConnections();
+
+        // when
+        Optional<TransactionResponse> replayed = transactionService.findByIdempotencyKey("replay-key");
+
+        // then
+        assertThat(replayed).map(TransactionResponse::getId).contains(first.getId());
+        assertThat(readWriteRoutingDataSource.getReplicaConnections()).isEqualTo(replicaConnections);
+    }
+}
@@ -0,0 +1,161 @@
+package com.wirebarley.integration;
+
+import com.wirebarley.account.dto.AccountRequest;
+import com.wirebarley.account.service.AccountService;
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.StatementJobResponse;
+import com.wirebarley.transaction.dto.StatementResponse;
+import com.wirebarley.transaction.dto.TransferRequest;
+import com.wirebarley.transaction.service.StatementService;
+import com.wirebarley.transaction.service.TransactionService;
+import com.wirebarley.transaction.statement.StatementJob;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "transaction.statement.chunk-size=1")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("월간 명세서 통합 테스트")
+class StatementJobIntegrationTest {
+
+    private static final String FROM_ACCOUNT = "1111111111";
+    private static final String TO_ACCOUNT = "2222222222";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private StatementService statementService;
+
+    @Autowired
+    private StatementJob statementJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final YearMonth lastMonth = YearMonth.now(BusinessCalendar.BUSINESS_ZONE).minusMonths(1);
+    private Long fromAccountId;
+    private Long toAccountId;
+
+    @BeforeEach
+    void setUp() {
+        fromAccountId = accountService.createAccount(AccountRequest.builder()
+                .accountNumber(FROM_ACCOUNT)
+                .accountHolder("테스트사용자1")
+                .build()).getId();
+        toAccountId = accountService.createAccount(AccountRequest.builder()
+                .accountNumber(TO_ACCOUNT)
+                .accountHolder("테스트사용자2")
+                .build()).getId();
+        transactionService.deposit(DepositRequest.builder()
+                .accountNumber(FROM_ACCOUNT)
+                .amount(new BigDecimal("1000000"))
+                .build());
+        transactionService.transfer(TransferRequest.builder()
+                .fromAccountNumber(FROM_ACCOUNT)
+                .toAccountNumber(TO_ACCOUNT)
+                .amount(new BigDecimal("100000"))
+                .build());
+
+        // 계좌와 입금은 두 달 전, 이체는 지난달에 있었던 것으로 옮긴다
+        YearMonth twoMonthsAgo = lastMonth.minusMonths(1);
+        jdbcTemplate.update("UPDATE accounts SET created_at = ?",
+                Timestamp.valueOf(BusinessCalendar.startOf(twoMonthsAgo.atDay(10))));
+        jdbcTemplate.update("UPDATE transactions SET created_at = ? WHERE type = 'DEPOSIT'",
+                Timestamp.valueOf(BusinessCalendar.startOf(twoMonthsAgo.atDay(15))));
+        jdbcTemplate.update("UPDATE transactions SET created_at = ? WHERE type <> 'DEPOSIT'",
+                Timestamp.valueOf(BusinessCalendar.startOf(lastMonth.atDay(15))));
+    }
+
+    @Test
+    @DisplayName("지난달 명세서는 이전 거래로 기초 잔액을, 그달 거래로 합계와 기말 잔액을 계산")
+    void run_MaterializesStatements() {
+        // when
+        StatementJobResponse result = statementJob.run(lastMonth);
+
+        // then
+        assertThat(result.getTotalChunks()).isEqualTo(2);
+        assertThat(result.getGeneratedStatements()).isEqualTo(2);
+
+        StatementResponse from = statementService.getStatement(fromAccountId, lastMonth);
+        assertThat(from.getOpeningBalance()).isEqualByComparingTo("1000000");
+        assertThat(from.getTransferOutTotal()).isEqualByComparingTo("100000");
+        assertThat(from.getFeeTotal()).isEqualByComparingTo("1000");
+        assertThat(from.getDepositTotal()).isEqualByComparingTo("0");
+        assertThat(from.getClosingBalance()).isEqualByComparingTo("899000");
+        assertThat(from.getTransactionCount()).isEqualTo(1);
+
+        StatementResponse to = statementService.getStatement(toAccountId, lastMonth);
+        assertThat(to.getOpeningBalance()).isEqualByComparingTo("0");
+        assertThat(to.getTransferInTotal()).isEqualByComparingTo("100000");
+        assertThat(to.getClosingBalance()).isEqualByComparingTo("100000");
+    }
+
+    @Test
+    @DisplayName("이전 달 명세서가 있으면 그 기말 잔액을 기초 잔액으로 사용")
+    void run_UsesPreviousStatementAsOpening() {
+        // given
+        statementJob.run(lastMonth.minusMonths(1));
+
+        // when
+        statementJob.run(lastMonth);
+
+        // then
+        assertThat(statementService.getStatement(fromAccountId, lastMonth.minusMonths(1)).getClosingBalance())
+                .isEqualByComparingTo("1000000");
+        assertThat(statementService.getStatement(fromAccountId, lastMonth).getClosingBalance())
+                .isEqualByComparingTo("899000");
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 커밋을 마친 범위는 건너뛰고 남은 범위만 처리")
+    void rerun_ResumesFromCompletedChunks() {
+        // given
+        statementJob.run(lastMonth);
+        StatementJobResponse rerun = statementJob.run(lastMonth);
+        assertThat(rerun.getSkippedChunks()).isEqualTo(2);
+        assertThat(rerun.getGeneratedStatements()).isZero();
+
+        // when: 두 번째 범위를 처리하기 전에 멈춘 상황
+        jdbcTemplate.update("DELETE FROM statement_chunks WHERE range_start = ?", toAccountId);
+        jdbcTemplate.update("DELETE FROM account_statements WHERE account_id = ?", toAccountId);
+        StatementJobResponse resumed = statementJob.run(lastMonth);
+
+        // then
+        assertThat(resumed.getSkippedChunks()).isEqualTo(1);
+        assertThat(resumed.getGeneratedStatements()).isEqualTo(1);
+        assertThat(statementJob.getStatus(lastMonth).getCompletedChunks()).isEqualTo(2);
+        assertThat(statementService.getStatement(toAccountId, lastMonth).getClosingBalance())
+                .isEqualByComparingTo("100000");
+    }
+
+    @Test
+    @DisplayName("마감되지 않은 달은 생성할 수 없고, 없는 명세서는 조회 실패")
+    void run_RejectsOpenMonth() {
+        assertThatThrownBy(() -> statementJob.run(lastMonth.plusMonths(1)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_DATE_RANGE);
+        assertThatThrownBy(() -> statementService.getStatement(fromAccountId, lastMonth))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STATEMENT_NOT_FOUND);
+    }
+}
@@ -0,0 +1,213 @@
+package com.wirebarley.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.account.dto.AccountRequest;
+import com.wirebarley.account.service.AccountService;
+import com.wirebarley.transaction.dto.CursorPageResponse;
+import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.HistoryEtag;
+import com.wirebarley.transaction.dto.TransactionResponse;
+import com.wirebarley.transaction.dto.TransferRequest;
+import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.export.ExportFormat;
+import com.wirebarley.transaction.export.TransactionExportWriter;
+import com.wirebarley.transaction.service.TransactionExportService;
+import com.wirebarley.transaction.service.TransactionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("거래내역 조회 통합 테스트")
+class TransactionHistoryIntegrationTest {
+
+    private static final String FROM_ACCOUNT = "1111111111";
+    private static final String TO_ACCOUNT = "2222222222";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long fromAccountId;
+
+    @BeforeEach
+    void setUp() {
+        fromAccountId = accountService.createAccount(AccountRequest.builder()
+                .accountNumber(FROM_ACCOUNT)
+                .accountHolder("테스트사용자1")
+                .build()).getId();
+        accountService.createAccount(AccountRequest.builder()
+                .accountNumber(TO_ACCOUNT)
+                .accountHolder("테스트사용자2")
+                .build());
+        transactionService.deposit(DepositRequest.builder()
+                .accountNumber(FROM_ACCOUNT)
+                .amount(new BigDecimal("1000000"))
+                .build());
+        for (int i = 0; i < 30; i++) {
+            transactionService.transfer(TransferRequest.builder()
+                    .fromAccountNumber(FROM_ACCOUNT)
+                    .toAccountNumber(TO_ACCOUNT)
+                    .amount(new BigDecimal("1000"))
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("거래내역 한 페이지는 계좌 확인과 프로젝션 조회 한 문장으로 끝나고 상대 계좌번호를 포함")
+    void history_SingleStatementPerPage() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        CursorPageResponse<TransactionResponse> page = transactionService.getTransactionHistory(fromAccountId, null, 20);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getContent()).allSatisfy(response -> {
+            assertThat(response.getType()).isEqualTo(TransactionType.TRANSFER_OUT);
+            assertThat(response.getFromAccountNumber()).isEqualTo(FROM_ACCOUNT);
+            assertThat(response.getToAccountNumber()).isEqualTo(TO_ACCOUNT);
+        });
+    }
+
+    @Test
+    @DisplayName("커서로 이어 읽으면 거래가 겹치거나 빠지지 않음")
+    void history_CursorCoversAllRows() {
+        // when
+        CursorPageResponse<TransactionResponse> first = transactionService.getTransactionHistory(fromAccountId, null, 20);
+        CursorPageResponse<TransactionResponse> second =
+                transactionService.getTransactionHistory(fromAccountId, first.getNextCursor(), 20);
+
+        // then
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getContent()).hasSize(11);
+        assertThat(second.getContent().get(10).getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(second.getContent()).extracting(TransactionResponse::getId)
+                .doesNotContainAnyElementsOf(first.getContent().stream().map(TransactionResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("거래내역 ETag는 새 거래가 생길 때만 바뀌고, 계좌 ETag는 잔액이 바뀌면 바뀜")
+    void etag_ChangesWithNewTransaction() {
+        // given
+        String historyEtag = transactionService.getHistoryEtag(fromAccountId).value();
+        String accountEtag = accountService.getAccountEtag(fromAccountId);
+
+        // when
+        String unchanged = transactionService.getHistoryEtagByAccountNumber(FROM_ACCOUNT).value();
+        accountService.getAccount(fromAccountId);
+        String cachedAccountEtag = accountService.getAccountEtag(fromAccountId);
+        transactionService.deposit(DepositRequest.builder()
+                .accountNumber(FROM_ACCOUNT)
+                .amount(new BigDecimal("1000"))
+                .build());
+
+        // then
+        assertThat(unchanged).isEqualTo(historyEtag);
+        assertThat(cachedAccountEtag).isEqualTo(accountEtag);
+        assertThat(transactionService.getHistoryEtag(fromAccountId).value()).isNotEqualTo(historyEtag);
+        assertThat(accountService.getAccountEtag(fromAccountId)).isNotEqualTo(accountEtag);
+    }
+
+    @Test
+    @DisplayName("분산 잔액 계좌의 슬롯 입금은 계좌 버전을 올리지 않아도 거래내역 ETag를 바꿈")
+    void historyEtag_ChangesWithSlotCredit() {
+        // given
+        accountService.enableStriping(fromAccountId, 4);
+        HistoryEtag before = transactionService.getHistoryEtag(fromAccountId);
+
+        // when
+        transactionService.deposit(DepositRequest.builder()
+                .accountNumber(FROM_ACCOUNT)
+                .amount(new BigDecimal("1000"))
+                .build());
+        HistoryEtag afterCredit = transactionService.getHistoryEtagByAccountNumber(FROM_ACCOUNT);
+        accountService.disableStriping(fromAccountId);
+        HistoryEtag afterDisable = transactionService.getHistoryEtag(fromAccountId);
+
+        // then
+        assertThat(afterCredit.accountId()).isEqualTo(fromAccountId);
+        assertThat(afterCredit.value()).isNotEqualTo(before.value());
+        assertThat(afterDisable.value()).isNotIn(before.value(), afterCredit.value());
+    }
+
+    @Test
+    @DisplayName("기간 내보내기는 모든 거래를 오래된 순서로 CSV에 씀")
+    void export_Csv() throws Exception {
+        // given
+        LocalDate today = LocalDate.now();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TransactionExportWriter writer = TransactionExportWriter.open(ExportFormat.CSV, output, false, objectMapper)) {
+            transactionExportService.export(fromAccountId, today.minusDays(1), today, writer::write);
+        }
+
+        // then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(32);
+        assertThat(lines[0]).startsWith("id,type,amount");
+        assertThat(lines[1]).contains(",DEPOSIT,1000000.00,");
+        assertThat(lines[31]).contains(",TRANSFER_OUT,1000.00,10.00," + FROM_ACCOUNT + "," + TO_ACCOUNT + ",");
+    }
+
+    @Test
+    @DisplayName("gzip NDJSON 내보내기는 풀면 한 줄에 거래 하나이고 기간 밖 거래는 제외")
+    void export_GzipNdjson() throws Exception {
+        // given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TransactionExportWriter writer = TransactionExportWriter.open(ExportFormat.NDJSON, output, true, objectMapper)) {
+            transactionExportService.export(fromAccountId, LocalDate.now(), LocalDate.now(), writer::write);
+        }
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        try (TransactionExportWriter writer = TransactionExportWriter.open(ExportFormat.NDJSON, empty, false, objectMapper)) {
+            transactionExportService.export(fromAccountId, yesterday, yesterday, writer::write);
+        }
+
+        // then
+        String[] lines;
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            lines = new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+        }
+        assertThat(lines).hasSize(31);
+        assertThat(objectMapper.readTree(lines[30]).get("toAccountNumber").asText()).isEqualTo(TO_ACCOUNT);
+        assertThat(empty.size()).isZero();
+    }
+}
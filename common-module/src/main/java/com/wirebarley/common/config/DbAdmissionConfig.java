@@ -0,0 +1,36 @@
+package com.wirebarley.common.config;
+
+import com.wirebarley.common.db.AdmissionControlledDataSource;
+import com.wirebarley.common.db.DbAdmissionProperties;
+import com.wirebarley.common.db.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(DbAdmissionProperties.class)
+public class DbAdmissionConfig {
+
+    // 활성화되면 DataSource 빈을 입장 제어 DataSource로 감싼다.
+    // 라우팅 DataSource는 그 앞의 기본 DataSource에서 허가를 받으므로 감싸지 않는다
+    @Bean
+    public static BeanPostProcessor dbAdmissionGatePostProcessor(ObjectProvider<DbAdmissionProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlledDataSource)
+                        && !(bean instanceof ReadWriteRoutingDataSource)) {
+                    DbAdmissionProperties gate = properties.getObject();
+                    if (gate.isEnabled()) {
+                        return new AdmissionControlledDataSource(dataSource, gate.getPermits(), gate.getAcquireTimeoutMillis());
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
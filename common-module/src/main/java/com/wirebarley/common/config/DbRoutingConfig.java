@@ -0,0 +1,84 @@
+package com.wirebarley.common.config;
+
+import com.wirebarley.common.db.CommitPositions;
+import com.wirebarley.common.db.ConsistencyTokenInterceptor;
+import com.wirebarley.common.db.DbRoutingProperties;
+import com.wirebarley.common.db.GtidCommitPositions;
+import com.wirebarley.common.db.ReadWriteRoutingDataSource;
+import com.wirebarley.common.db.TimestampCommitPositions;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 프라이머리(spring.datasource.*)와 레플리카(db.routing.replica.*) 풀을 만들고 읽기/쓰기 라우팅 DataSource를 기본 DataSource로 등록한다.
+ * 풀 설정은 각각 spring.datasource.hikari.*, db.routing.replica.hikari.* 로 지정한다.
+ */
+@Configuration
+@EnableConfigurationProperties(DbRoutingProperties.class)
+@ConditionalOnProperty(prefix = "db.routing", name = "enabled", havingValue = "true")
+public class DbRoutingConfig implements WebMvcConfigurer {
+
+    private final DbRoutingProperties properties;
+
+    public DbRoutingConfig(DbRoutingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                 Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        DbRoutingProperties.Replica replicaProperties = properties.getReplica();
+        DataSourceBuilder<HikariDataSource> replicaBuilder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword());
+        // 지정하지 않으면 URL로 드라이버를 찾는다
+        if (StringUtils.hasText(replicaProperties.getDriverClassName())) {
+            replicaBuilder.driverClassName(replicaProperties.getDriverClassName());
+        }
+        HikariDataSource replica = replicaBuilder.build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        binder.bind("db.routing.replica.hikari", Bindable.ofInstance(replica));
+
+        CommitPositions commitPositions = properties.getConsistency() == DbRoutingProperties.ConsistencyMode.GTID
+                ? new GtidCommitPositions(properties.getCatchUpTimeout())
+                : new TimestampCommitPositions(properties.getMaxReplicaLag());
+        return new ReadWriteRoutingDataSource(primary, replica, commitPositions);
+    }
+
+    // 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않았으므로 첫 SQL을 실행할 때 커넥션을 고른다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConsistencyTokenInterceptor(properties.getTokenHeader()));
+    }
+}
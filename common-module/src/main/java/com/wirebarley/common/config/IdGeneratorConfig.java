@@ -0,0 +1,15 @@
+package com.wirebarley.common.config;
+
+import com.wirebarley.common.id.IdGeneratorProperties;
+import com.wirebarley.common.id.TimeOrderedIds;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(IdGeneratorProperties properties) {
+        TimeOrderedIds.configure(properties.requireNodeId());
+    }
+}
@@ -0,0 +1,17 @@
+package com.wirebarley.common.db;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 쓰기 커밋 위치와 레플리카 반영 여부. 위치는 일관성 토큰으로 클라이언트에 전달된다.
+ */
+public interface CommitPositions {
+
+    // 방금 커밋한 쓰기를 포함하는 프라이머리의 현재 위치. 커밋한 트랜잭션의 커넥션으로 조회하며, 닫지 않는다
+    String current(Connection committed) throws SQLException;
+
+    // 레플리카가 position까지 반영했으면 true. 구현에 따라 잠시 기다린다
+    boolean awaitReplica(DataSource replica, String position) throws SQLException;
+}
@@ -0,0 +1,39 @@
+package com.wirebarley.common.db;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청 헤더의 일관성 토큰으로 읽기 일관성 상태를 시작하고, 요청 안에서 쓰기를 커밋하면 새 토큰을 응답 헤더에 싣는다.
+ * 클라이언트는 받은 토큰을 다음 읽기 요청에 그대로 보내면 자신이 쓴 내용을 읽을 수 있다.
+ */
+public class ConsistencyTokenInterceptor implements AsyncHandlerInterceptor {
+
+    private final String tokenHeader;
+
+    public ConsistencyTokenInterceptor(String tokenHeader) {
+        this.tokenHeader = tokenHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadConsistencyContext.begin(ReadConsistencyContext.decode(request.getHeader(tokenHeader)), token -> {
+            // 응답을 쓰기 시작한 뒤의 커밋(스트리밍 등)은 헤더에 실을 수 없다
+            if (!response.isCommitted()) {
+                response.setHeader(tokenHeader, token);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadConsistencyContext.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadConsistencyContext.end();
+    }
+}
@@ -0,0 +1,6 @@
+package com.wirebarley.common.db;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
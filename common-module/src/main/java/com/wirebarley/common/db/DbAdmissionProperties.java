@@ -0,0 +1,19 @@
+package com.wirebarley.common.db;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "db.admission-gate")
+public class DbAdmissionProperties {
+
+    private boolean enabled = false;
+
+    // 동시에 커넥션을 빌릴 수 있는 요청 수 (커넥션 풀 크기 이하로 둔다)
+    private int permits = 10;
+
+    // 허가를 기다리는 최대 시간. 넘으면 SERVICE_BUSY로 응답한다
+    private long acquireTimeoutMillis = 3_000;
+}
@@ -0,0 +1,50 @@
+package com.wirebarley.common.db;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "db.routing")
+public class DbRoutingProperties {
+
+    // 읽기 전용 트랜잭션을 레플리카로 보낼지 여부
+    private boolean enabled = false;
+
+    private Replica replica = new Replica();
+
+    // 클라이언트가 마지막으로 쓴 위치를 레플리카가 반영했는지 판단하는 방식
+    private ConsistencyMode consistency = ConsistencyMode.TIMESTAMP;
+
+    // TIMESTAMP: 쓰기 커밋 후 이 시간이 지나기 전의 읽기는 프라이머리에서 처리한다 (레플리카 지연 상한)
+    private Duration maxReplicaLag = Duration.ofSeconds(1);
+
+    // GTID: 레플리카가 토큰 위치까지 반영하기를 기다리는 최대 시간. 넘으면 프라이머리에서 읽는다
+    private Duration catchUpTimeout = Duration.ofMillis(50);
+
+    // 일관성 토큰을 주고받는 HTTP 헤더
+    private String tokenHeader = "X-Consistency-Token";
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private String driverClassName;
+    }
+
+    public enum ConsistencyMode {
+        // MySQL GTID: 커밋 후 프라이머리의 gtid_executed, 레플리카에서 WAIT_FOR_EXECUTED_GTID_SET으로 확인
+        GTID,
+        // 커밋 시각: 지연 상한(maxReplicaLag)이 지났으면 반영된 것으로 본다. 복제 위치를 알 수 없는 DB(H2 등)용
+        TIMESTAMP
+    }
+}
@@ -0,0 +1,41 @@
+package com.wirebarley.common.db;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * MySQL GTID 기반 커밋 위치. 레플리카는 WAIT_FOR_EXECUTED_GTID_SET으로 최대 catchUpTimeout까지 기다린다.
+ */
+public class GtidCommitPositions implements CommitPositions {
+
+    private final Duration catchUpTimeout;
+
+    public GtidCommitPositions(Duration catchUpTimeout) {
+        this.catchUpTimeout = catchUpTimeout;
+    }
+
+    @Override
+    public String current(Connection committed) throws SQLException {
+        try (PreparedStatement ps = committed.prepareStatement("SELECT @@GLOBAL.gtid_executed");
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    @Override
+    public boolean awaitReplica(DataSource replica, String position) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SELECT WAIT_FOR_EXECUTED_GTID_SET(?, ?)")) {
+            ps.setString(1, position);
+            ps.setDouble(2, catchUpTimeout.toMillis() / 1000.0);
+            try (ResultSet rs = ps.executeQuery()) {
+                // 0: 반영됨, 1: 시간 초과
+                return rs.next() && rs.getInt(1) == 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.wirebarley.common.db;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 요청 스레드의 읽기 일관성 상태. 웹 요청이면 ConsistencyTokenInterceptor가 시작하고 끝낸다.
+ * requiredPosition이 있으면 레플리카가 그 위치를 반영했을 때만 읽기 전용 트랜잭션을 레플리카로 보낸다.
+ * 요청 안에서 쓰기를 커밋하면 새 위치로 바꾸고 토큰 리스너(응답 헤더)에 알린다.
+ * 요청의 작업을 다른 스레드(계좌 레인, 입금 묶음)에서 실행할 때는 capture한 Handoff로 같은 상태를 넘긴다.
+ */
+public final class ReadConsistencyContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadConsistencyContext() {
+    }
+
+    public static void begin(String requiredPosition, Consumer<String> tokenListener) {
+        CURRENT.set(new State(requiredPosition, position -> tokenListener.accept(encode(position))));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 요청에 토큰이 있었거나 요청 안에서 쓰기를 커밋했으면 true. 레플리카에서 채운 메모리 캐시는 이 요청에 쓰지 않는다.
+     */
+    public static boolean hasToken() {
+        State state = CURRENT.get();
+        return state != null && state.tokenBearing;
+    }
+
+    /**
+     * 현재 스레드의 요청 상태를 다른 스레드로 넘길 준비를 한다. 요청 상태가 없으면 아무것도 넘기지 않는다.
+     */
+    public static Handoff capture() {
+        State state = CURRENT.get();
+        return state != null ? new Handoff(List.of(state)) : Handoff.NONE;
+    }
+
+    /**
+     * 여러 요청의 작업을 한 트랜잭션으로 처리할 때 사용한다. 커밋 위치를 모든 요청에 남긴다.
+     */
+    public static Handoff merge(Collection<Handoff> handoffs) {
+        List<State> states = handoffs.stream()
+                .flatMap(handoff -> handoff.states.stream())
+                .distinct()
+                .toList();
+        return states.isEmpty() ? Handoff.NONE : new Handoff(states);
+    }
+
+    static String requiredPosition() {
+        State state = CURRENT.get();
+        return state != null ? state.requiredPosition : null;
+    }
+
+    // 레플리카가 반영을 확인했으므로 이 요청의 다음 읽기는 다시 확인하지 않는다
+    static void replicaCaughtUp() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.requiredPosition = null;
+        }
+    }
+
+    static void advance(String position) {
+        State state = CURRENT.get();
+        if (state == null || position == null) {
+            return;
+        }
+        state.advance(position);
+    }
+
+    // GTID 집합은 줄바꿈을 포함할 수 있으므로 헤더에는 Base64(URL) 문자열로 싣는다
+    public static String encode(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 해석할 수 없는 토큰은 무시한다
+    public static String decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 다른 스레드로 넘긴 요청 상태. call 동안만 그 스레드의 상태로 설정하고 끝나면 원래 상태로 되돌린다.
+     * 넘긴 스레드는 작업이 끝날 때까지 기다리므로 두 스레드가 상태를 동시에 바꾸지 않는다.
+     */
+    public static final class Handoff {
+
+        private static final Handoff NONE = new Handoff(List.of());
+
+        private final List<State> states;
+
+        private Handoff(List<State> states) {
+            this.states = states;
+        }
+
+        public <T> T call(Supplier<T> task) {
+            if (states.isEmpty()) {
+                return task.get();
+            }
+            State previous = CURRENT.get();
+            CURRENT.set(states.size() == 1 ? states.get(0) : State.fanOut(states));
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+
+    private static final class State {
+
+        private volatile String requiredPosition;
+        private volatile boolean tokenBearing;
+        private final Consumer<String> positionListener;
+
+        private State(String requiredPosition, Consumer<String> positionListener) {
+            this.requiredPosition = requiredPosition;
+            this.tokenBearing = requiredPosition != null;
+            this.positionListener = positionListener;
+        }
+
+        // 묶음 작업용: 커밋 위치를 묶인 요청 모두에 남긴다
+        private static State fanOut(List<State> states) {
+            State state = new State(null, position -> states.forEach(target -> target.advance(position)));
+            state.tokenBearing = states.stream().anyMatch(target -> target.tokenBearing);
+            return state;
+        }
+
+        private void advance(String position) {
+            requiredPosition = position;
+            tokenBearing = true;
+            positionListener.accept(position);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.wirebarley.common.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카, 나머지는 프라이머리로 보낸다.
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 얻을 때 결정되므로 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ * 요청에 일관성 토큰이 있으면 레플리카가 그 위치를 반영했을 때만 레플리카에서 읽고, 아니면 프라이머리에서 읽는다.
+ * 요청 안의 쓰기 트랜잭션은 커밋 후 프라이머리의 커밋 위치를 새 토큰으로 남긴다.
+ * 커밋 위치는 트랜잭션이 쓰던 커넥션(커밋 후 반납 전)으로 조회하므로 풀에서 커넥션을 더 빌리지 않는다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final CommitPositions commitPositions;
+    private final Object commitTrackingKey = new Object();
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder replicaFallbacks = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, CommitPositions commitPositions) {
+        this.primary = primary;
+        this.replica = replica;
+        this.commitPositions = commitPositions;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryConnections.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (replicaConsistent()) {
+            replicaConnections.increment();
+            return DataSourceRole.REPLICA;
+        }
+        replicaFallbacks.increment();
+        primaryConnections.increment();
+        return DataSourceRole.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackCommitPosition(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackCommitPosition(super.getConnection(username, password));
+    }
+
+    public long getPrimaryConnections() {
+        return primaryConnections.sum();
+    }
+
+    public long getReplicaConnections() {
+        return replicaConnections.sum();
+    }
+
+    // 레플리카가 토큰 위치를 반영하지 못해 프라이머리에서 처리한 읽기 전용 트랜잭션 수
+    public long getReplicaFallbacks() {
+        return replicaFallbacks.sum();
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(replica);
+        closeQuietly(primary);
+    }
+
+    private boolean replicaConsistent() {
+        String position = ReadConsistencyContext.requiredPosition();
+        if (position == null) {
+            return true;
+        }
+        try {
+            if (commitPositions.awaitReplica(replica, position)) {
+                ReadConsistencyContext.replicaCaughtUp();
+                return true;
+            }
+        } catch (SQLException e) {
+            log.warn("레플리카 반영 위치 확인 실패, 프라이머리에서 읽음: cause={}", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * 요청 안의 쓰기 트랜잭션마다 한 번, 커밋 후 위치를 요청 상태에 남긴다.
+     * afterCommit은 트랜잭션 매니저가 커넥션을 반납하기 전에 호출되므로 이 커넥션으로 조회할 수 있다.
+     */
+    private Connection trackCommitPosition(Connection connection) {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !ReadConsistencyContext.isActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(commitTrackingKey)) {
+            return connection;
+        }
+        TransactionSynchronizationManager.bindResource(commitTrackingKey, connection);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    ReadConsistencyContext.advance(commitPositions.current(connection));
+                } catch (SQLException e) {
+                    log.warn("커밋 위치 조회 실패: cause={}", e.getMessage());
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(commitTrackingKey);
+            }
+        });
+        return connection;
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("DataSource 종료 실패: cause={}", e.getMessage());
+            }
+        }
+    }
+}
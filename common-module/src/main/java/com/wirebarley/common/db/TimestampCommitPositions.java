@@ -0,0 +1,32 @@
+package com.wirebarley.common.db;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * 커밋 시각 기반 커밋 위치. 레플리카 지연이 maxReplicaLag를 넘지 않는다고 보고, 그 시간이 지나기 전에는 반영되지 않은 것으로 판단한다.
+ * DB에 묻지 않으므로 기다리지 않는다.
+ */
+public class TimestampCommitPositions implements CommitPositions {
+
+    private final Duration maxReplicaLag;
+
+    public TimestampCommitPositions(Duration maxReplicaLag) {
+        this.maxReplicaLag = maxReplicaLag;
+    }
+
+    @Override
+    public String current(Connection committed) {
+        return Long.toString(System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean awaitReplica(DataSource replica, String position) {
+        try {
+            return System.currentTimeMillis() - Long.parseLong(position) >= maxReplicaLag.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
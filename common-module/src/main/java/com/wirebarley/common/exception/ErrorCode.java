@@ -12,6 +12,8 @@ public enum ErrorCode {
     ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "A001", "계좌를 찾을 수 없습니다."),
     DUPLICATE_ACCOUNT_NUMBER(HttpStatus.CONFLICT, "A002", "이미 존재하는 계좌번호입니다."),
     ACCOUNT_HAS_BALANCE(HttpStatus.BAD_REQUEST, "A003", "잔액이 있는 계좌는 삭제할 수 없습니다."),
+    ACCOUNT_ALREADY_STRIPED(HttpStatus.CONFLICT, "A004", "이미 분산 잔액 모드가 적용된 계좌입니다."),
+    ACCOUNT_NOT_STRIPED(HttpStatus.BAD_REQUEST, "A005", "분산 잔액 모드가 적용되지 않은 계좌입니다."),
 
     // 이체
     INSUFFICIENT_BALANCE(HttpStatus.BAD_REQUEST, "T001", "잔액이 부족합니다."),
@@ -19,10 +21,17 @@ public enum ErrorCode {
     DAILY_TRANSFER_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "T003", "일일 이체 한도를 초과했습니다."),
     INVALID_AMOUNT(HttpStatus.BAD_REQUEST, "T004", "유효하지 않은 금액입니다."),
     SAME_ACCOUNT_TRANSFER(HttpStatus.BAD_REQUEST, "T005", "동일 계좌로 이체할 수 없습니다."),
+    VELOCITY_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "T006", "기간별 거래 한도를 초과했습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "T007", "같은 멱등성 키로 다른 내용의 거래를 요청할 수 없습니다."),
+    STATEMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "T008", "거래명세서를 찾을 수 없습니다."),
+    STATEMENT_JOB_RUNNING(HttpStatus.CONFLICT, "T009", "거래명세서 생성 작업이 이미 실행 중입니다."),
 
     // 공통
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "C001", "잘못된 입력입니다."),
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C002", "서버 내부 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C002", "서버 내부 오류가 발생했습니다."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C003", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C004", "유효하지 않은 커서입니다."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "C005", "조회 기간이 올바르지 않습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -2,11 +2,14 @@ package com.wirebarley.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,6 +40,18 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(ErrorCode.INVALID_INPUT, errors));
     }
 
+    // 커넥션 풀 또는 DB 입장 제어 대기 시간 초과는 일시적 과부하로 응답한다
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionException(RuntimeException e) {
+        if (isConnectionTimeout(e)) {
+            log.warn("Connection acquisition timeout: {}", e.getMessage());
+            return ResponseEntity
+                    .status(ErrorCode.SERVICE_BUSY.getStatus())
+                    .body(ErrorResponse.of(ErrorCode.SERVICE_BUSY));
+        }
+        return handleException(e);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         log.error("Exception: ", e);
@@ -44,4 +59,13 @@ public class GlobalExceptionHandler {
                 .internalServerError()
                 .body(ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR));
     }
+
+    private static boolean isConnectionTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,26 @@
+package com.wirebarley.common.id;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "id-generator")
+public class IdGeneratorProperties {
+
+    // 인스턴스별로 달라야 하는 노드 ID (0 ~ 1023). 기본값이 없으며, local/test 프로필만 0을 지정해 둔다
+    private Integer nodeId;
+
+    /**
+     * 설정한 노드 ID를 반환한다. 설정하지 않았으면 시작 시 실패시킨다.
+     * 모든 인스턴스가 조용히 같은 노드 ID로 뜨면 ID와 노드별 한도 임대 행이 서로 겹치기 때문이다.
+     */
+    public int requireNodeId() {
+        if (nodeId == null) {
+            throw new IllegalStateException(
+                    "id-generator.node-id (ID_NODE_ID) 가 설정되지 않았습니다. 인스턴스마다 다른 값(0 ~ 1023)을 지정하세요.");
+        }
+        return nodeId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.wirebarley.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 애플리케이션에서 시간 순서 ID로 생성한다.
+ * INSERT 전에 ID가 정해지므로 IDENTITY 전략과 달리 Hibernate JDBC 배치 INSERT가 적용된다.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,28 @@
+package com.wirebarley.common.id;
+
+/**
+ * 프로세스 전역 ID 생성기.
+ * Hibernate가 생성하는 ID 생성기와 JDBC 배치 저장소가 같은 생성기를 공유하도록 정적으로 보관한다.
+ * 노드 ID는 애플리케이션 시작 시 IdGeneratorConfig에서 설정한다.
+ */
+public final class TimeOrderedIds {
+
+    private static volatile SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+
+    private TimeOrderedIds() {
+    }
+
+    public static long next() {
+        return generator.nextId();
+    }
+
+    public static int nodeId() {
+        return generator.getNodeId();
+    }
+
+    public static void configure(int nodeId) {
+        if (generator.getNodeId() != nodeId) {
+            generator = new SnowflakeIdGenerator(nodeId);
+        }
+    }
+}
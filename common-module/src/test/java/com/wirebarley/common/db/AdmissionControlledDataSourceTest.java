@@ -0,0 +1,62 @@
+package com.wirebarley.common.db;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("AdmissionControlledDataSource 단위 테스트")
+class AdmissionControlledDataSourceTest {
+
+    private DataSource target;
+    private AdmissionControlledDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        dataSource = new AdmissionControlledDataSource(target, 2, 10);
+    }
+
+    @Test
+    @DisplayName("허가 수를 넘는 커넥션 요청은 대기 시간 후 실패")
+    void getConnection_TimeoutWhenExhausted() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허가를 한 번만 반납")
+    void close_ReleasesPermitOnce() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("풀에서 커넥션을 얻지 못하면 허가를 반납")
+    void getConnection_ReleasesPermitOnFailure() throws SQLException {
+        given(target.getConnection()).willThrow(new SQLException("pool exhausted"));
+
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(target).getConnection();
+    }
+}
@@ -0,0 +1,186 @@
+package com.wirebarley.common.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadWriteRoutingDataSource 단위 테스트 (H2 두 개)")
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private final List<String> issuedTokens = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("primary");
+        DataSource replica = node("replica");
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica,
+                new TimestampCommitPositions(Duration.ofSeconds(5)));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistencyContext.end();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션과 트랜잭션 밖 조회는 프라이머리")
+    void routesByTransactionReadOnly() {
+        assertThat(nodeName(true)).isEqualTo("replica");
+        assertThat(nodeName(false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+        assertThat(routingDataSource.getReplicaConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 안에서 쓰기를 커밋하면 토큰을 발급하고, 레플리카가 반영하기 전의 읽기는 프라이머리에서 처리")
+    void readYourWrites_FallsBackToPrimary() {
+        // given
+        ReadConsistencyContext.begin(null, issuedTokens::add);
+
+        // when
+        write();
+        String afterWrite = nodeName(true);
+
+        // then
+        assertThat(issuedTokens).hasSize(1);
+        assertThat(afterWrite).isEqualTo("primary");
+        assertThat(routingDataSource.getReplicaFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 위치를 레플리카가 반영했으면 레플리카에서 읽음")
+    void token_ReplicaCaughtUp() {
+        // given: 지연 상한보다 오래전에 쓴 클라이언트
+        String oldPosition = Long.toString(System.currentTimeMillis() - Duration.ofSeconds(10).toMillis());
+        String token = ReadConsistencyContext.encode(oldPosition);
+        ReadConsistencyContext.begin(ReadConsistencyContext.decode(token), issuedTokens::add);
+
+        // when & then
+        assertThat(nodeName(true)).isEqualTo("replica");
+        assertThat(routingDataSource.getReplicaFallbacks()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 상태가 없거나 해석할 수 없는 토큰은 토큰 없이 처리")
+    void noContext_NoToken() {
+        // when
+        write();
+        ReadConsistencyContext.begin(ReadConsistencyContext.decode("%%%"), issuedTokens::add);
+
+        // then
+        assertThat(issuedTokens).isEmpty();
+        assertThat(nodeName(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("다른 스레드로 넘긴 요청 상태로 커밋한 쓰기도 토큰을 발급하고, 묶인 요청 모두에 남김")
+    void handoff_IssuesTokenFromWorkerThread() {
+        // given
+        List<String> otherTokens = new ArrayList<>();
+        ReadConsistencyContext.begin(null, otherTokens::add);
+        ReadConsistencyContext.Handoff other = ReadConsistencyContext.capture();
+        ReadConsistencyContext.begin(null, issuedTokens::add);
+        ReadConsistencyContext.Handoff current = ReadConsistencyContext.capture();
+
+        // when
+        CompletableFuture.runAsync(() -> current.call(() -> {
+            write();
+            return null;
+        })).join();
+        CompletableFuture.runAsync(() -> ReadConsistencyContext.merge(List.of(current, other)).call(() -> {
+            write();
+            return null;
+        })).join();
+
+        // then
+        assertThat(issuedTokens).hasSize(2);
+        assertThat(otherTokens).hasSize(1);
+        assertThat(ReadConsistencyContext.hasToken()).isTrue();
+        assertThat(nodeName(true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("커밋 위치는 트랜잭션이 쓰던 커넥션으로 조회하므로 프라이머리 풀이 1개여도 토큰을 발급")
+    void commitPosition_ReadsOnTransactionConnection() throws Exception {
+        // given: 커넥션 한 개짜리 프라이머리 풀, 커밋 위치는 커밋된 값을 같은 커넥션으로 읽음
+        node("pooled");
+        try (HikariDataSource primary = new HikariDataSource()) {
+            primary.setJdbcUrl("jdbc:h2:mem:routing-pooled;DB_CLOSE_DELAY=-1");
+            primary.setUsername("sa");
+            primary.setMaximumPoolSize(1);
+            primary.setConnectionTimeout(250);
+            CommitPositions positions = new CommitPositions() {
+                @Override
+                public String current(Connection committed) throws SQLException {
+                    try (Statement statement = committed.createStatement();
+                         ResultSet rs = statement.executeQuery("SELECT updated FROM node")) {
+                        return rs.next() ? rs.getString(1) : null;
+                    }
+                }
+
+                @Override
+                public boolean awaitReplica(DataSource replica, String position) {
+                    return false;
+                }
+            };
+            routingDataSource = new ReadWriteRoutingDataSource(primary, node("replica"), positions);
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            transactionManager = new DataSourceTransactionManager(dataSource);
+            ReadConsistencyContext.begin(null, issuedTokens::add);
+
+            // when
+            write();
+
+            // then: 풀에서 두 번째 커넥션을 빌렸다면 시간 초과로 토큰이 없음
+            assertThat(issuedTokens).containsExactly("1");
+            assertThat(primary.getHikariPoolMXBean().getActiveConnections()).isZero();
+        }
+    }
+
+    private String nodeName(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void write() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE node SET updated = updated + 1"));
+    }
+
+    private static DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS node");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20), updated INT)");
+        jdbcTemplate.update("INSERT INTO node (name, updated) VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
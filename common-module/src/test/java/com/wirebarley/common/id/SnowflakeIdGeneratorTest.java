@@ -0,0 +1,62 @@
+package com.wirebarley.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeIdGenerator 단위 테스트")
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 ID는 증가")
+    void nextId_Monotonic() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 감소하지 않음")
+    void nextId_ClockMovesBackwards() {
+        long[] now = {SnowflakeIdGenerator.EPOCH_MILLIS + 1_000};
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1) {
+            @Override
+            long currentMillis() {
+                return now[0];
+            }
+        };
+
+        long first = generator.nextId();
+        now[0] -= 500;
+        long second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("ID에서 생성 시각을 복원")
+    void timestampOf() {
+        Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+        long id = new SnowflakeIdGenerator(0).nextId();
+
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거부")
+    void invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
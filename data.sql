@@ -8,36 +8,36 @@
 -- 1. 테스트용 계좌 생성
 -- =====================================================
 
-INSERT INTO accounts (account_number, account_holder, balance, version, created_at) VALUES
-('1234567890', '홍길동', 1000000.00, 0, NOW()),
-('0987654321', '김철수', 500000.00, 0, NOW()),
-('1111111111', '이영희', 2000000.00, 0, NOW()),
-('2222222222', '박민수', 0.00, 0, NOW());
+INSERT INTO accounts (id, account_number, account_holder, balance, version, created_at) VALUES
+(1, '1234567890', '홍길동', 1000000.00, 0, NOW()),
+(2, '0987654321', '김철수', 500000.00, 0, NOW()),
+(3, '1111111111', '이영희', 2000000.00, 0, NOW()),
+(4, '2222222222', '박민수', 0.00, 0, NOW());
 
 -- =====================================================
 -- 2. 테스트용 거래 내역 생성
 -- =====================================================
 
 -- 홍길동 계좌 입금
-INSERT INTO transactions (type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
-('DEPOSIT', 1000000.00, NULL, NULL, 1, 1000000.00, NOW() - INTERVAL 5 DAY);
+INSERT INTO transactions (id, type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
+(1, 'DEPOSIT', 1000000.00, NULL, NULL, 1, 1000000.00, NOW() - INTERVAL 5 DAY);
 
 -- 김철수 계좌 입금
-INSERT INTO transactions (type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
-('DEPOSIT', 500000.00, NULL, NULL, 2, 500000.00, NOW() - INTERVAL 4 DAY);
+INSERT INTO transactions (id, type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
+(2, 'DEPOSIT', 500000.00, NULL, NULL, 2, 500000.00, NOW() - INTERVAL 4 DAY);
 
 -- 이영희 계좌 입금
-INSERT INTO transactions (type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
-('DEPOSIT', 2000000.00, NULL, NULL, 3, 2000000.00, NOW() - INTERVAL 3 DAY);
+INSERT INTO transactions (id, type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
+(3, 'DEPOSIT', 2000000.00, NULL, NULL, 3, 2000000.00, NOW() - INTERVAL 3 DAY);
 
 -- 홍길동 -> 김철수 이체 (10만원, 수수료 1000원)
-INSERT INTO transactions (type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
-('TRANSFER_OUT', 100000.00, 1000.00, 1, 2, 899000.00, NOW() - INTERVAL 2 DAY),
-('TRANSFER_IN', 100000.00, NULL, 1, 2, 600000.00, NOW() - INTERVAL 2 DAY);
+INSERT INTO transactions (id, type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
+(4, 'TRANSFER_OUT', 100000.00, 1000.00, 1, 2, 899000.00, NOW() - INTERVAL 2 DAY),
+(5, 'TRANSFER_IN', 100000.00, NULL, 1, 2, 600000.00, NOW() - INTERVAL 2 DAY);
 
 -- 김철수 출금 (5만원)
-INSERT INTO transactions (type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
-('WITHDRAWAL', 50000.00, NULL, 2, NULL, 550000.00, NOW() - INTERVAL 1 DAY);
+INSERT INTO transactions (id, type, amount, fee, from_account_id, to_account_id, balance_after, created_at) VALUES
+(6, 'WITHDRAWAL', 50000.00, NULL, 2, NULL, 550000.00, NOW() - INTERVAL 1 DAY);
 
 -- =====================================================
 -- 3. 데이터 확인용 쿼리
@@ -17,14 +17,27 @@
 -- - 잔액은 DECIMAL로 정확한 금액 계산
 -- - version은 JPA 낙관적 락용
 
+DROP TABLE IF EXISTS balance_checkpoint_days;
+DROP TABLE IF EXISTS account_balance_checkpoints;
+DROP TABLE IF EXISTS statement_chunks;
+DROP TABLE IF EXISTS account_statements;
+DROP TABLE IF EXISTS idempotency_keys;
+DROP TABLE IF EXISTS account_velocity_buckets;
+DROP TABLE IF EXISTS account_quota_leases;
+DROP TABLE IF EXISTS account_daily_usage;
+DROP TABLE IF EXISTS transaction_outbox_sequences;
+DROP TABLE IF EXISTS transaction_outbox_partitions;
+DROP TABLE IF EXISTS transaction_outbox;
 DROP TABLE IF EXISTS transactions;
+DROP TABLE IF EXISTS account_balance_slots;
 DROP TABLE IF EXISTS accounts;
 
 CREATE TABLE accounts (
-    id BIGINT NOT NULL AUTO_INCREMENT COMMENT '계좌 고유 식별자',
+    id BIGINT NOT NULL COMMENT '계좌 고유 식별자 (시간 순서 ID)',
     account_number VARCHAR(20) NOT NULL COMMENT '계좌번호',
     account_holder VARCHAR(50) NOT NULL COMMENT '예금주명',
     balance DECIMAL(15,2) NOT NULL DEFAULT 0.00 COMMENT '현재 잔액',
+    stripe_count INT NOT NULL DEFAULT 0 COMMENT '분산 잔액 슬롯 수 (0이면 미적용)',
     version BIGINT DEFAULT 0 COMMENT '낙관적 락 버전',
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성일시',
     updated_at DATETIME(6) DEFAULT NULL ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정일시',
@@ -33,6 +46,29 @@ CREATE TABLE accounts (
     UNIQUE KEY uk_account_number (account_number)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='계좌 정보';
 
+-- =====================================================
+-- 1-1. account_balance_slots (분산 잔액 슬롯) 테이블
+-- =====================================================
+-- 입금이 몰리는 계좌의 잔액을 여러 슬롯으로 나누어 저장
+-- - 입금은 계좌 행에 공유 락, 슬롯 하나에 배타 락만 잡음
+-- - 출금은 계좌 행 잔액을 먼저 차감하고 slot_index 순서대로 차감
+-- - 계좌 잔액 = accounts.balance + SUM(slots.balance)
+
+CREATE TABLE account_balance_slots (
+    id BIGINT NOT NULL COMMENT '슬롯 고유 식별자 (시간 순서 ID)',
+    account_id BIGINT NOT NULL COMMENT '계좌 ID',
+    slot_index INT NOT NULL COMMENT '슬롯 번호 (0부터)',
+    balance DECIMAL(15,2) NOT NULL DEFAULT 0.00 COMMENT '슬롯 잔액',
+    version BIGINT DEFAULT 0 COMMENT '낙관적 락 버전 (거래내역 ETag에 사용)',
+
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_account_slot (account_id, slot_index),
+
+    CONSTRAINT fk_slot_account
+        FOREIGN KEY (account_id) REFERENCES accounts(id)
+        ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='분산 잔액 슬롯';
+
 -- =====================================================
 -- 2. transactions (거래내역) 테이블
 -- =====================================================
@@ -41,29 +77,31 @@ CREATE TABLE accounts (
 -- - owner_account_id: 이 거래의 주체 계좌 (조회 최적화용, 인덱스 적용)
 -- - from_account_id: 출금 계좌 (입금 시 NULL)
 -- - to_account_id: 입금 계좌 (출금 시 NULL)
+-- - from_account_number / to_account_number: 거래내역 조회 시 계좌 조인 없이 응답하기 위한 계좌번호 사본
 -- - balance_after: 거래 후 잔액 (owner_account 기준)
 -- - status: 거래 상태 (PENDING, SUCCESS, FAILED, CANCELLED)
--- - idempotency_key: 중복 요청 방지 키 (선택적)
+-- - idempotency_key: 요청의 멱등성 키 참조 (선택적, 중복 판단은 idempotency_keys)
 
 CREATE TABLE transactions (
-    id BIGINT NOT NULL AUTO_INCREMENT COMMENT '거래 고유 식별자',
+    id BIGINT NOT NULL COMMENT '거래 고유 식별자 (시간 순서 ID)',
     type ENUM('DEPOSIT', 'WITHDRAWAL', 'TRANSFER_OUT', 'TRANSFER_IN') NOT NULL COMMENT '거래 유형',
     amount DECIMAL(15,2) NOT NULL COMMENT '거래 금액',
     fee DECIMAL(15,2) DEFAULT NULL COMMENT '수수료 (이체 시)',
     owner_account_id BIGINT NOT NULL COMMENT '거래 주체 계좌 ID (조회 최적화용)',
     from_account_id BIGINT DEFAULT NULL COMMENT '출금 계좌 ID',
     to_account_id BIGINT DEFAULT NULL COMMENT '입금 계좌 ID',
+    from_account_number VARCHAR(20) DEFAULT NULL COMMENT '출금 계좌번호 (조회용 비정규화)',
+    to_account_number VARCHAR(20) DEFAULT NULL COMMENT '입금 계좌번호 (조회용 비정규화)',
     balance_after DECIMAL(15,2) NOT NULL COMMENT '거래 후 잔액 (owner_account 기준)',
     status ENUM('PENDING', 'SUCCESS', 'FAILED', 'CANCELLED') NOT NULL DEFAULT 'SUCCESS' COMMENT '거래 상태',
-    idempotency_key VARCHAR(64) DEFAULT NULL COMMENT '멱등성 키 (중복 요청 방지)',
+    idempotency_key VARCHAR(64) DEFAULT NULL COMMENT '멱등성 키 참조 (인덱스 없음)',
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '거래 일시',
 
     PRIMARY KEY (id),
-    INDEX idx_owner_account (owner_account_id),
+    INDEX idx_owner_created (owner_account_id, created_at, id),
     INDEX idx_from_account (from_account_id),
     INDEX idx_to_account (to_account_id),
     INDEX idx_created_at (created_at),
-    UNIQUE INDEX idx_idempotency_key (idempotency_key),
 
     CONSTRAINT fk_owner_account
         FOREIGN KEY (owner_account_id) REFERENCES accounts(id)
@@ -76,15 +114,201 @@ CREATE TABLE transactions (
         ON DELETE RESTRICT ON UPDATE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='거래 내역';
 
+-- =====================================================
+-- 3. transaction_outbox (거래 이벤트 아웃박스) 테이블
+-- =====================================================
+-- 거래 내역과 같은 DB 트랜잭션에서 기록되는 발행 대기 이벤트
+-- - partition_no: account_id % 파티션 수 (계좌별 발행 순서 보장 단위)
+-- - account_seq: 계좌별 발행 순서. 시간 순서 ID는 노드 간 시계 차이나 공유 락 입금 때문에 커밋 순서와 다를 수 있음
+-- - 릴레이가 싱크로 발행한 뒤 삭제
+
+CREATE TABLE transaction_outbox (
+    id BIGINT NOT NULL COMMENT '이벤트 식별자 (시간 순서 ID)',
+    partition_no INT NOT NULL COMMENT '파티션 번호',
+    account_id BIGINT NOT NULL COMMENT '거래 주체 계좌 ID',
+    account_seq BIGINT NOT NULL COMMENT '계좌별 발행 순서 (커밋 순서)',
+    transaction_id BIGINT NOT NULL COMMENT '거래 ID',
+    event_type VARCHAR(20) NOT NULL COMMENT '거래 유형',
+    payload LONGTEXT NOT NULL COMMENT '이벤트 JSON',
+    created_at DATETIME(6) NOT NULL COMMENT '생성일시',
+
+    PRIMARY KEY (id),
+    INDEX idx_outbox_partition_seq (partition_no, account_id, account_seq)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='거래 이벤트 아웃박스';
+
+-- 파티션 임대 행: 릴레이가 SELECT ... FOR UPDATE SKIP LOCKED로 잠근 파티션만 발행
+CREATE TABLE transaction_outbox_partitions (
+    id INT NOT NULL COMMENT '파티션 번호',
+    last_relayed_at DATETIME(6) DEFAULT NULL COMMENT '마지막 발행 일시',
+
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='아웃박스 파티션 임대';
+
+-- 계좌별 시퀀스 행: 거래 트랜잭션이 번호를 받은 뒤 커밋까지 잠그므로 번호 순서 = 커밋 순서
+-- - 분산 잔액 계좌 입금(계좌 공유 락)도 아웃박스를 켜면 이 행에서 한 건씩 직렬화됨
+CREATE TABLE transaction_outbox_sequences (
+    account_id BIGINT NOT NULL COMMENT '계좌 ID',
+    last_seq BIGINT NOT NULL COMMENT '마지막으로 발급한 순서',
+
+    PRIMARY KEY (account_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='아웃박스 계좌별 시퀀스';
+
+-- =====================================================
+-- 4. account_daily_usage (계좌별 일일 사용량) 테이블
+-- =====================================================
+-- 출금/이체 일일 한도 검증용 누적 금액
+-- - business_date: Asia/Seoul 기준 영업일
+-- - 잔액 변경과 같은 트랜잭션에서 INSERT ... ON DUPLICATE KEY UPDATE로 누적
+-- - 거래 내역에서 다시 계산 가능 (POST /api/transactions/daily-usage/rebuild)
+
+CREATE TABLE account_daily_usage (
+    account_id BIGINT NOT NULL COMMENT '계좌 ID',
+    type VARCHAR(20) NOT NULL COMMENT '거래 유형 (WITHDRAWAL, TRANSFER_OUT)',
+    business_date DATE NOT NULL COMMENT '영업일',
+    amount DECIMAL(15, 2) NOT NULL COMMENT '누적 금액',
+    updated_at DATETIME(6) NOT NULL COMMENT '수정일시',
+
+    PRIMARY KEY (account_id, type, business_date),
+    INDEX idx_business_date (business_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='계좌별 일일 사용량';
+
+-- 노드별 한도 임대: account_daily_usage에 미리 더해 둔 금액 (노드는 임대 안의 한도 검증을 메모리에서 처리)
+-- - 만료/갱신 시 미사용분을 account_daily_usage에서 빼고 행을 삭제
+-- - 사용량 재계산 시 만료되지 않은 임대를 거래 내역 합계에 더함
+
+CREATE TABLE account_quota_leases (
+    node_id INT NOT NULL COMMENT '노드 ID',
+    account_id BIGINT NOT NULL COMMENT '계좌 ID',
+    type VARCHAR(20) NOT NULL COMMENT '거래 유형 (WITHDRAWAL, TRANSFER_OUT)',
+    business_date DATE NOT NULL COMMENT '영업일',
+    amount DECIMAL(15, 2) NOT NULL COMMENT '임대 금액',
+    expires_at DATETIME(6) NOT NULL COMMENT '만료일시',
+
+    PRIMARY KEY (node_id, account_id, type, business_date),
+    INDEX idx_business_date_expires_at (business_date, expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='노드별 일일 한도 임대';
+
+-- =====================================================
+-- 5. account_velocity_buckets (계좌별 분 단위 거래 집계) 테이블
+-- =====================================================
+-- 기간별 한도(최근 24시간, 시간당 건수 등) 검증용 링 버퍼
+-- - slot: minute_epoch % 링 크기 (가장 긴 규칙 기간의 분 수), 계좌/유형당 최대 링 크기만큼의 행
+-- - 지난 바퀴의 슬롯은 새 분이 덮어씀
+
+CREATE TABLE account_velocity_buckets (
+    account_id BIGINT NOT NULL COMMENT '계좌 ID',
+    type VARCHAR(20) NOT NULL COMMENT '거래 유형 (WITHDRAWAL, TRANSFER_OUT)',
+    slot INT NOT NULL COMMENT '링 버퍼 슬롯',
+    minute_epoch BIGINT NOT NULL COMMENT '집계 분 (epoch 분)',
+    amount DECIMAL(15, 2) NOT NULL COMMENT '금액 합계',
+    tx_count INT NOT NULL COMMENT '건수',
+
+    PRIMARY KEY (account_id, type, slot)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='계좌별 분 단위 거래 집계';
+
+-- =====================================================
+-- 6. idempotency_keys (멱등성 키) 테이블
+-- =====================================================
+-- 보존 기간(기본 72시간) 안의 멱등성 키와 그 키로 생성된 거래
+-- - business_date: 키를 기록한 영업일 (Asia/Seoul), 일 단위 RANGE 파티션 키
+-- - 파티션 키가 기본 키에 포함되어야 하므로 기본 키는 (idempotency_key, business_date)
+--   이전 영업일의 같은 키는 기록 시 잠금 읽기로 확인
+-- - 애플리케이션이 다음 영업일 파티션을 pmax에서 미리 떼어 내고, 보존 기간이 지난 파티션은 DROP PARTITION으로 삭제
+-- - 파티션 테이블은 외래 키를 가질 수 없으므로 transaction_id는 참조 제약 없이 저장
+
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(64) NOT NULL COMMENT '멱등성 키',
+    business_date DATE NOT NULL COMMENT '기록 영업일',
+    transaction_id BIGINT NOT NULL COMMENT '키로 생성된 거래 ID',
+    created_at DATETIME(6) NOT NULL COMMENT '기록 일시',
+
+    PRIMARY KEY (idempotency_key, business_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='멱등성 키 (영업일 파티션)'
+PARTITION BY RANGE COLUMNS (business_date) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+-- =====================================================
+-- 7. account_statements (월간 거래명세서) 테이블
+-- =====================================================
+-- 마감된 달의 계좌별 명세서 (POST /api/statements/jobs/{month}로 생성)
+-- - statement_month: 명세서 월의 1일 (Asia/Seoul 기준 월)
+-- - opening_balance: 이전 달 명세서의 closing_balance, 없으면 월초 이전 모든 SUCCESS 거래의 합
+-- - transfer_out_total은 수수료 제외, 수수료는 fee_total에 따로 집계
+-- - closing_balance = opening + 입금 + 이체입금 - 출금 - 이체출금 - 수수료
+
+CREATE TABLE account_statements (
+    statement_month DATE NOT NULL COMMENT '명세서 월 (1일)',
+    account_id BIGINT NOT NULL COMMENT '계좌 ID',
+    opening_balance DECIMAL(15, 2) NOT NULL COMMENT '기초 잔액',
+    deposit_total DECIMAL(15, 2) NOT NULL COMMENT '입금 합계',
+    withdrawal_total DECIMAL(15, 2) NOT NULL COMMENT '출금 합계',
+    transfer_in_total DECIMAL(15, 2) NOT NULL COMMENT '이체 입금 합계',
+    transfer_out_total DECIMAL(15, 2) NOT NULL COMMENT '이체 출금 합계 (수수료 제외)',
+    fee_total DECIMAL(15, 2) NOT NULL COMMENT '수수료 합계',
+    closing_balance DECIMAL(15, 2) NOT NULL COMMENT '기말 잔액',
+    transaction_count INT NOT NULL COMMENT '거래 건수',
+    generated_at DATETIME(6) NOT NULL COMMENT '생성일시',
+
+    PRIMARY KEY (statement_month, account_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='월간 거래명세서';
+
+-- =====================================================
+-- 8. statement_chunks (명세서 생성 완료 범위) 테이블
+-- =====================================================
+-- 명세서 생성 작업이 커밋을 마친 계좌 ID 범위
+-- - 범위의 명세서와 같은 트랜잭션에서 기록
+-- - 다시 실행하면 시작/끝 ID가 같은 범위는 건너뜀 (중단된 작업 재시작)
+
+CREATE TABLE statement_chunks (
+    statement_month DATE NOT NULL COMMENT '명세서 월 (1일)',
+    range_start BIGINT NOT NULL COMMENT '범위 시작 계좌 ID',
+    range_end BIGINT NOT NULL COMMENT '범위 끝 계좌 ID (포함)',
+    account_count INT NOT NULL COMMENT '명세서를 만든 계좌 수',
+    completed_at DATETIME(6) NOT NULL COMMENT '완료일시',
+
+    PRIMARY KEY (statement_month, range_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='명세서 생성 완료 범위';
+
+-- =====================================================
+-- 9. account_balance_checkpoints (영업일 마감 잔액 체크포인트) 테이블
+-- =====================================================
+-- 특정 시점 잔액 조회(GET /api/accounts/{id}/balance?asOf=)의 시작점
+-- - 영업일이 끝나면 그날 거래가 있었던 계좌만 기록 (잔액 = 직전 체크포인트 + 그날 순 금액)
+-- - balance: business_date 영업일 마감(Asia/Seoul 자정) 시점의 잔액
+-- - 조회는 기준 영업일 전의 가장 가까운 체크포인트 한 행 + 그 뒤 거래 합계
+
+CREATE TABLE account_balance_checkpoints (
+    account_id BIGINT NOT NULL COMMENT '계좌 ID',
+    business_date DATE NOT NULL COMMENT '영업일',
+    balance DECIMAL(15, 2) NOT NULL COMMENT '영업일 마감 잔액',
+    created_at DATETIME(6) NOT NULL COMMENT '기록일시',
+
+    PRIMARY KEY (account_id, business_date),
+    INDEX idx_business_date (business_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='영업일 마감 잔액 체크포인트';
+
+-- 체크포인트 기록을 마친 영업일: 영업일을 순서대로 처리하므로 마지막 행 다음 날부터 이어서 기록
+
+CREATE TABLE balance_checkpoint_days (
+    business_date DATE NOT NULL COMMENT '영업일',
+    account_count INT NOT NULL COMMENT '기록한 계좌 수',
+    completed_at DATETIME(6) NOT NULL COMMENT '완료일시',
+
+    PRIMARY KEY (business_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='잔액 체크포인트 완료 영업일';
+
 -- =====================================================
 -- 인덱스 설명
 -- =====================================================
 -- uk_account_number: 계좌번호 중복 방지 및 빠른 조회
--- idx_owner_account: 특정 계좌의 거래 내역 조회 최적화 (핵심 인덱스)
+-- idx_owner_created: 특정 계좌의 거래 내역 최신순 조회 및 (created_at, id) 커서 조회 (핵심 인덱스)
 -- idx_from_account: 출금 계좌별 거래 내역 조회
 -- idx_to_account: 입금 계좌별 거래 내역 조회
 -- idx_created_at: 최신순 정렬 및 기간별 조회
--- idx_idempotency_key: 중복 요청 방지 (유니크 인덱스)
+-- idempotency_keys PK: 보존 기간 안의 중복 요청 방지 (영업일 파티션별 기본 키)
+-- account_statements PK: 명세서 한 건 조회 및 생성 작업의 월/계좌 ID 범위 삭제
+-- account_balance_checkpoints PK: 계좌의 기준 영업일 전 가장 가까운 체크포인트를 역순 한 행으로 조회
 
 -- =====================================================
 -- 설계 포인트
@@ -93,6 +317,13 @@ CREATE TABLE transactions (
 --    - 기존 OR 조건 (from_account OR to_account) 대신 단일 컬럼으로 조회
 --    - 인덱스 최적화로 성능 향상
 --    - 이체 시 2개 레코드 생성 (TRANSFER_OUT: 출금자 owner, TRANSFER_IN: 수취자 owner)
+--    - (owner_account_id, created_at, id) 인덱스로 OFFSET/COUNT 없이 커서 다음 행부터 읽음
+--    - 조회는 응답 컬럼만 고르는 프로젝션 한 문장이며, 상대 계좌번호는 거래 행에 함께 저장해 계좌를 조인하지 않음
+--    - 컬럼 추가 전 거래의 계좌번호 채우기:
+--      UPDATE transactions t LEFT JOIN accounts fa ON t.from_account_id = fa.id
+--                            LEFT JOIN accounts ta ON t.to_account_id = ta.id
+--      SET t.from_account_number = fa.account_number, t.to_account_number = ta.account_number
+--      WHERE t.from_account_number IS NULL AND t.to_account_number IS NULL;
 --
 -- 2. status:
 --    - 거래 상태 추적 (PENDING → SUCCESS/FAILED)
@@ -103,3 +334,25 @@ CREATE TABLE transactions (
 --    - 클라이언트가 제공하는 고유 키
 --    - 네트워크 재시도 시 중복 거래 방지
 --    - 동일 키로 요청 시 기존 거래 결과 반환
+--    - transactions에는 참조만 남기고, 중복 판단은 영업일 파티션의 idempotency_keys에서 보존 기간 동안만 수행
+--    - 만료 키는 파티션 삭제로 정리하므로 거래 INSERT가 무한히 커지는 유니크 인덱스를 갱신하지 않음
+--
+-- 4. id:
+--    - AUTO_INCREMENT 대신 애플리케이션이 시간 순서 64비트 ID를 발급
+--      (경과 밀리초 41비트 + 노드 ID 10비트 + 시퀀스 12비트)
+--    - INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치 INSERT 적용
+--    - ID 순서가 생성 순서와 같아 최신순 정렬, 키셋 페이지네이션에 사용 가능
+--
+-- 5. account_daily_usage:
+--    - 일일 한도 검증 시 거래 내역 SUM 대신 PK 한 행을 갱신 (계좌 행 락 이후에 잠금)
+--    - 사용량을 먼저 더한 뒤 한도와 비교, 초과 시 트랜잭션 롤백으로 예약 취소
+--
+-- 6. account_statements:
+--    - 명세서 조회는 거래 내역을 다시 집계하지 않고 PK 한 행을 읽음
+--    - 생성 작업은 계좌 ID 범위마다 (owner_account_id, created_at, id) 인덱스로 한 달치만 집계하고 범위 단위로 커밋
+--    - 범위를 다시 처리할 때는 기존 행을 지우고 다시 쓰므로 결과가 같음
+--
+-- 7. account_balance_checkpoints:
+--    - 특정 시점 잔액을 거래 내역 전체나 balance_after 탐색 대신 체크포인트 + 하루치 거래로 계산
+--    - 체크포인트가 없는 계좌(처음 기록)만 이전 거래 전체를 합산
+--    - 오래된 일별 체크포인트는 월 마지막 행만 남기고 지워도 조회 결과는 같음 (더할 거래가 늘어남)
@@ -0,0 +1,14 @@
+package com.wirebarley.transaction.batch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.bulk-transfer")
+public class BulkTransferProperties {
+
+    // 한 트랜잭션에서 처리할 이체 건수 (락 보유 시간 제한)
+    private int chunkSize = 500;
+}
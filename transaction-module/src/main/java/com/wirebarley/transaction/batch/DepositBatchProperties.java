@@ -0,0 +1,23 @@
+package com.wirebarley.transaction.batch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.deposit-batch")
+public class DepositBatchProperties {
+
+    // 같은 계좌 입금 묶음 처리 사용 여부
+    private boolean enabled = false;
+
+    // 첫 요청 이후 묶음을 모으는 시간
+    private long windowMillis = 2;
+
+    // 묶음 최대 건수 (도달 시 즉시 처리)
+    private int maxSize = 256;
+
+    // 묶음을 DB에 반영하는 스레드 수
+    private int flushThreads = 8;
+}
@@ -0,0 +1,158 @@
+package com.wirebarley.transaction.batch;
+
+import com.wirebarley.common.db.ReadConsistencyContext;
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.TransactionResponse;
+import com.wirebarley.transaction.lane.AccountLaneRouter;
+import com.wirebarley.transaction.service.TransactionService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 같은 계좌로 짧은 시간 안에 몰리는 입금을 모아 한 번의 DB 트랜잭션으로 반영한다 (group commit).
+ * 첫 요청 이후 windowMillis가 지나거나 maxSize건이 모이면 묶음을 처리하며, 각 호출자는 자신의 응답을 받는다.
+ * 묶음의 커밋 위치는 묶인 요청 모두의 읽기 일관성 상태에 남는다.
+ */
+@Slf4j
+@Component
+public class DepositBatcher {
+
+    private final TransactionService transactionService;
+    private final AccountLaneRouter accountLaneRouter;
+    private final DepositBatchProperties properties;
+    private final ConcurrentHashMap<String, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService flushExecutor;
+
+    public DepositBatcher(TransactionService transactionService,
+                          AccountLaneRouter accountLaneRouter,
+                          DepositBatchProperties properties) {
+        this.transactionService = transactionService;
+        this.accountLaneRouter = accountLaneRouter;
+        this.properties = properties;
+        this.scheduler = properties.isEnabled()
+                ? Executors.newSingleThreadScheduledExecutor(daemon("deposit-batch-timer")) : null;
+        this.flushExecutor = properties.isEnabled()
+                ? Executors.newFixedThreadPool(properties.getFlushThreads(), daemon("deposit-batch-flush")) : null;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public TransactionResponse deposit(DepositRequest request) {
+        PendingDeposit deposit = new PendingDeposit(request);
+        String accountNumber = request.getAccountNumber();
+
+        pendingBatches.compute(accountNumber, (key, batch) -> {
+            if (batch == null) {
+                PendingBatch newBatch = new PendingBatch();
+                scheduler.schedule(() -> flushIfPending(key, newBatch), properties.getWindowMillis(), TimeUnit.MILLISECONDS);
+                batch = newBatch;
+            }
+            batch.deposits.add(deposit);
+            if (batch.deposits.size() >= properties.getMaxSize()) {
+                PendingBatch full = batch;
+                flushExecutor.execute(() -> flush(key, full));
+                return null;
+            }
+            return batch;
+        });
+
+        return await(deposit.future);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            flushExecutor.shutdown();
+        }
+    }
+
+    private void flushIfPending(String accountNumber, PendingBatch batch) {
+        // 크기 초과로 이미 처리된 묶음이면 제거되지 않는다
+        if (pendingBatches.remove(accountNumber, batch)) {
+            flushExecutor.execute(() -> flush(accountNumber, batch));
+        }
+    }
+
+    private void flush(String accountNumber, PendingBatch batch) {
+        List<PendingDeposit> deposits = batch.deposits;
+        if (deposits.size() == 1) {
+            depositIndividually(deposits.get(0));
+            return;
+        }
+
+        List<DepositRequest> requests = deposits.stream().map(deposit -> deposit.request).toList();
+        ReadConsistencyContext.Handoff context = ReadConsistencyContext.merge(
+                deposits.stream().map(deposit -> deposit.context).toList());
+        try {
+            List<TransactionResponse> responses = context.call(() -> accountLaneRouter.execute(accountNumber,
+                    () -> transactionService.depositBatch(accountNumber, requests)));
+            for (int i = 0; i < deposits.size(); i++) {
+                deposits.get(i).future.complete(responses.get(i));
+            }
+            log.debug("입금 묶음 처리: accountNumber={}, size={}", accountNumber, deposits.size());
+        } catch (RuntimeException e) {
+            // 한 요청의 오류가 묶음 전체에 전파되지 않도록 요청별로 다시 처리한다
+            log.warn("입금 묶음 처리 실패, 개별 처리로 전환: accountNumber={}, size={}, cause={}",
+                    accountNumber, deposits.size(), e.getMessage());
+            deposits.forEach(this::depositIndividually);
+        }
+    }
+
+    private void depositIndividually(PendingDeposit deposit) {
+        try {
+            deposit.future.complete(deposit.context.call(() -> accountLaneRouter.execute(
+                    deposit.request.getAccountNumber(), () -> transactionService.deposit(deposit.request))));
+        } catch (RuntimeException e) {
+            deposit.future.completeExceptionally(e);
+        }
+    }
+
+    private static TransactionResponse await(CompletableFuture<TransactionResponse> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // equals를 재정의하지 않아 remove(key, value)가 동일 인스턴스일 때만 제거한다
+    private static class PendingBatch {
+        private final List<PendingDeposit> deposits = new ArrayList<>();
+    }
+
+    private static class PendingDeposit {
+        private final DepositRequest request;
+        private final CompletableFuture<TransactionResponse> future = new CompletableFuture<>();
+        // 요청 스레드의 읽기 일관성 상태. 묶음은 다른 스레드에서 커밋된다
+        private final ReadConsistencyContext.Handoff context = ReadConsistencyContext.capture();
+
+        private PendingDeposit(DepositRequest request) {
+            this.request = request;
+        }
+    }
+}
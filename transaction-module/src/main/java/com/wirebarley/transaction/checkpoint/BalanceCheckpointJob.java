@@ -0,0 +1,175 @@
+package com.wirebarley.transaction.checkpoint;
+
+import com.wirebarley.transaction.repository.BalanceCheckpointRepository;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마감된 영업일마다 그날 거래가 있었던 계좌의 마감 잔액을 체크포인트로 기록한다.
+ * 영업일을 순서대로 빠짐없이 처리하므로 체크포인트 = 직전 체크포인트 + 그날 순 금액이다.
+ * 직전 체크포인트가 없는 계좌(처음 기록하는 계좌)만 이전 거래 전체를 합산한다.
+ * 밀린 영업일이 catchUpDays보다 많으면 밀린 구간을 하루로 묶어 기록하고,
+ * 영업일을 기록한 뒤에는 체크포인트가 하나도 없는 계좌에도 마감 잔액을 기록해 둔다.
+ * 같은 영업일을 다시 처리해도 결과가 같으므로 여러 노드가 동시에 실행해도 된다.
+ */
+@Slf4j
+@Component
+public class BalanceCheckpointJob {
+
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final BalanceCheckpointProperties properties;
+    private final TransactionTemplate batchTransaction;
+    private final ScheduledExecutorService scheduler;
+
+    public BalanceCheckpointJob(BalanceCheckpointRepository balanceCheckpointRepository,
+                                BalanceCheckpointProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.properties = properties;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long intervalMillis = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runSafely, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 마지막으로 기록한 영업일 다음 날부터 settleDelay가 지난 마지막 영업일까지 기록한다.
+     * 시작일은 기록한 적이 있든 없든 catchUpDays 전보다 이르지 않다. 그보다 오래 밀렸으면
+     * 밀린 첫날부터 catchUpDays 전 영업일까지의 거래를 catchUpDays 전 영업일 하루로 묶어 기록한다.
+     */
+    public int run() {
+        LocalDate lastClosed = BusinessCalendar.dateOf(LocalDateTime.now().minus(properties.getSettleDelay()))
+                .minusDays(1);
+        LocalDate earliest = lastClosed.minusDays(Math.max(properties.getCatchUpDays(), 1) - 1L);
+        LocalDate date = balanceCheckpointRepository.findLastCompletedDay()
+                .map(last -> last.plusDays(1))
+                .orElse(earliest);
+        if (date.isAfter(lastClosed)) {
+            return 0;
+        }
+        int written = 0;
+        if (date.isBefore(earliest)) {
+            written += checkpoint(date, earliest);
+            date = earliest.plusDays(1);
+        }
+        for (; !date.isAfter(lastClosed); date = date.plusDays(1)) {
+            written += checkpoint(date);
+        }
+        return written + seedMissing(lastClosed);
+    }
+
+    /**
+     * 영업일 하나의 체크포인트를 batchSize개 계좌씩 커밋하고, 끝나면 영업일을 완료로 기록한다.
+     * 중간에 실패하면 완료 기록이 없으므로 다음 실행에서 그 영업일을 처음부터 다시 기록한다.
+     */
+    public int checkpoint(LocalDate date) {
+        return checkpoint(date, date);
+    }
+
+    /**
+     * 체크포인트가 하나도 없는 계좌에 date 마감 잔액을 기록한다. 거래가 오래전에만 있었던 계좌도
+     * 특정 시점 잔액 조회가 전체 이력 대신 이 체크포인트부터 합산하게 한다.
+     * date까지 영업일을 모두 기록한 뒤에 호출하므로 이 계좌들은 기록한 구간에 거래가 없었다.
+     */
+    public int seedMissing(LocalDate date) {
+        LocalDateTime before = BusinessCalendar.startOf(date.plusDays(1));
+        int batchSize = Math.max(properties.getBatchSize(), 1);
+        int seeded = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> batch = balanceCheckpointRepository.findAccountIdsWithoutCheckpoint(afterId, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            batchTransaction.executeWithoutResult(status -> {
+                Map<Long, BigDecimal> totals = balanceCheckpointRepository.sumNetBefore(batch, before);
+                Map<Long, BigDecimal> balances = new HashMap<>();
+                batch.forEach(accountId -> balances.put(accountId, totals.getOrDefault(accountId, BigDecimal.ZERO)));
+                balanceCheckpointRepository.replaceAll(date, balances, LocalDateTime.now());
+            });
+            seeded += batch.size();
+            afterId = batch.get(batch.size() - 1);
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        if (seeded > 0) {
+            log.info("체크포인트 없는 계좌 잔액 기록: date={}, accounts={}", date, seeded);
+        }
+        return seeded;
+    }
+
+    /**
+     * since부터 date까지의 거래를 date 하루의 체크포인트로 기록한다. since 전까지는 영업일을 모두 기록했으므로
+     * 시작 잔액은 since 전의 가장 가까운 체크포인트(없으면 since 전 거래 전체)다.
+     */
+    private int checkpoint(LocalDate since, LocalDate date) {
+        LocalDateTime from = BusinessCalendar.startOf(since);
+        Map<Long, BigDecimal> dayNets = balanceCheckpointRepository.sumNetByAccount(from,
+                BusinessCalendar.startOf(date.plusDays(1)));
+        List<Long> accountIds = dayNets.keySet().stream().sorted().toList();
+        int batchSize = Math.max(properties.getBatchSize(), 1);
+
+        for (int start = 0; start < accountIds.size(); start += batchSize) {
+            List<Long> batch = accountIds.subList(start, Math.min(start + batchSize, accountIds.size()));
+            batchTransaction.executeWithoutResult(status -> {
+                Map<Long, BigDecimal> opening = new HashMap<>(
+                        balanceCheckpointRepository.findLatestBalances(batch, since));
+                List<Long> firstCheckpoints = batch.stream()
+                        .filter(accountId -> !opening.containsKey(accountId))
+                        .toList();
+                opening.putAll(balanceCheckpointRepository.sumNetBefore(firstCheckpoints, from));
+
+                Map<Long, BigDecimal> balances = new HashMap<>();
+                batch.forEach(accountId -> balances.put(accountId,
+                        opening.getOrDefault(accountId, BigDecimal.ZERO).add(dayNets.get(accountId))));
+                balanceCheckpointRepository.replaceAll(date, balances, LocalDateTime.now());
+            });
+        }
+        balanceCheckpointRepository.markDayCompleted(date, accountIds.size(), LocalDateTime.now());
+        if (!accountIds.isEmpty()) {
+            log.info("잔액 체크포인트 기록: date={}, accounts={}", date, accountIds.size());
+        }
+        return accountIds.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.warn("잔액 체크포인트 기록 실패: cause={}", e.getMessage());
+        }
+    }
+}
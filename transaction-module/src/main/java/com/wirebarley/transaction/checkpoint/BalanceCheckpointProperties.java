@@ -0,0 +1,28 @@
+package com.wirebarley.transaction.checkpoint;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.balance-checkpoint")
+public class BalanceCheckpointProperties {
+
+    // 영업일 마감 잔액 체크포인트를 주기적으로 기록할지 여부
+    private boolean enabled = true;
+
+    // 마감된 영업일이 있는지 확인하는 주기
+    private Duration interval = Duration.ofHours(1);
+
+    // 영업일이 끝난 뒤 체크포인트를 기록하기까지 기다리는 시간. 자정 직전에 시작해 늦게 커밋된 거래를 놓치지 않게 한다
+    private Duration settleDelay = Duration.ofMinutes(10);
+
+    // 마지막 체크포인트가 없거나 오래됐을 때 거슬러 올라가 하루씩 기록할 최대 영업일 수 (그 이전은 하루로 묶어 기록)
+    private int catchUpDays = 7;
+
+    // 한 트랜잭션에서 체크포인트를 기록할 계좌 수
+    private int batchSize = 500;
+}
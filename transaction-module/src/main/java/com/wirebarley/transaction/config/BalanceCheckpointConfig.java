@@ -0,0 +1,10 @@
+package com.wirebarley.transaction.config;
+
+import com.wirebarley.transaction.checkpoint.BalanceCheckpointProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BalanceCheckpointProperties.class)
+public class BalanceCheckpointConfig {
+}
@@ -0,0 +1,11 @@
+package com.wirebarley.transaction.config;
+
+import com.wirebarley.transaction.usage.DailyUsageProperties;
+import com.wirebarley.transaction.usage.QuotaLeaseProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({DailyUsageProperties.class, QuotaLeaseProperties.class})
+public class DailyUsageConfig {
+}
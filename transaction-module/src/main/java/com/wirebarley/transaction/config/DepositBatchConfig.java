@@ -0,0 +1,10 @@
+package com.wirebarley.transaction.config;
+
+import com.wirebarley.transaction.batch.DepositBatchProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DepositBatchProperties.class)
+public class DepositBatchConfig {
+}
@@ -0,0 +1,25 @@
+package com.wirebarley.transaction.config;
+
+import com.wirebarley.transaction.outbox.FileOutboxSink;
+import com.wirebarley.transaction.outbox.InMemoryOutboxSink;
+import com.wirebarley.transaction.outbox.OutboxProperties;
+import com.wirebarley.transaction.outbox.OutboxSink;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    // 다른 싱크(메시지 브로커 등)를 쓰려면 OutboxSink 빈을 @Primary로 등록한다
+    @Bean
+    public OutboxSink outboxSink(OutboxProperties properties) {
+        return switch (properties.getSink()) {
+            case MEMORY -> new InMemoryOutboxSink(properties.getMemoryCapacity());
+            case FILE -> new FileOutboxSink(Path.of(properties.getFilePath()));
+        };
+    }
+}
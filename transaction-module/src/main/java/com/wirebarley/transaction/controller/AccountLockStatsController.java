@@ -0,0 +1,66 @@
+package com.wirebarley.transaction.controller;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.AccountLockStatsResponse;
+import com.wirebarley.transaction.dto.LockHoldTimeResponse;
+import com.wirebarley.transaction.lock.AccountLockPolicy;
+import com.wirebarley.transaction.lock.LockHoldTimeRecorder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "락 통계 API", description = "계좌별 낙관적 락 충돌 통계 및 현재 락 전략 조회 API")
+@RestController
+@RequestMapping("/api/transactions/lock-stats")
+@RequiredArgsConstructor
+public class AccountLockStatsController {
+
+    private final AccountLockPolicy accountLockPolicy;
+    private final LockHoldTimeRecorder lockHoldTimeRecorder;
+
+    @Operation(summary = "락 통계 목록", description = "충돌률이 높은 순으로 계좌별 락 통계를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping
+    public ResponseEntity<List<AccountLockStatsResponse>> getTopStats(
+            @Parameter(description = "최대 조회 건수", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(accountLockPolicy.getTopStats(limit));
+    }
+
+    @Operation(summary = "계좌 락 통계", description = "계좌번호로 락 통계와 현재 락 전략을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "통계가 없는 계좌")
+    })
+    @GetMapping("/{accountNumber}")
+    public ResponseEntity<AccountLockStatsResponse> getStats(
+            @Parameter(description = "계좌번호", required = true, example = "1234567890")
+            @PathVariable String accountNumber) {
+        AccountLockStatsResponse response = accountLockPolicy.getStats(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "락 보유 시간", description = "작업별 락 보유 시간 분포(평균, p50, p99, 최대)를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/hold-time")
+    public ResponseEntity<List<LockHoldTimeResponse>> getHoldTime() {
+        return ResponseEntity.ok(lockHoldTimeRecorder.getStats());
+    }
+
+    @Operation(summary = "락 보유 시간 초기화", description = "측정 구간을 새로 시작하기 위해 락 보유 시간 통계를 비웁니다.")
+    @ApiResponse(responseCode = "204", description = "초기화 성공")
+    @DeleteMapping("/hold-time")
+    public ResponseEntity<Void> resetHoldTime() {
+        lockHoldTimeRecorder.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
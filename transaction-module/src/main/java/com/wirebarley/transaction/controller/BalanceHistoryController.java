@@ -0,0 +1,45 @@
+package com.wirebarley.transaction.controller;
+
+import com.wirebarley.transaction.dto.BalanceAsOfResponse;
+import com.wirebarley.transaction.service.BalanceHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "잔액 이력 API", description = "특정 시점 잔액 조회 API")
+@RestController
+@RequestMapping("/api/accounts")
+@RequiredArgsConstructor
+public class BalanceHistoryController {
+
+    private final BalanceHistoryService balanceHistoryService;
+
+    @Operation(summary = "특정 시점 잔액 조회",
+            description = "기준 일시까지의 거래를 반영한 잔액을 조회합니다. "
+                    + "영업일 마감 잔액 체크포인트에서 시작해 그 뒤 거래만 더하므로 계좌의 거래 이력 길이와 무관하게 빠릅니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음")
+    })
+    @GetMapping("/{accountId}/balance")
+    public ResponseEntity<BalanceAsOfResponse> getBalanceAsOf(
+            @Parameter(description = "계좌 ID", required = true, example = "1")
+            @PathVariable Long accountId,
+            @Parameter(description = "기준 일시 (서버 시간대, 생략하면 현재)", example = "2024-05-31T23:59:59")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        return ResponseEntity.ok(balanceHistoryService.getBalanceAsOf(accountId,
+                asOf != null ? asOf : LocalDateTime.now()));
+    }
+}
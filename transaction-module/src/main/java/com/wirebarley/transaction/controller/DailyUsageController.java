@@ -0,0 +1,51 @@
+package com.wirebarley.transaction.controller;
+
+import com.wirebarley.transaction.dto.DailyUsageRebuildResponse;
+import com.wirebarley.transaction.dto.QuotaLeaseStatsResponse;
+import com.wirebarley.transaction.usage.DailyUsageRebuildJob;
+import com.wirebarley.transaction.usage.QuotaLeaseManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@Tag(name = "일일 사용량 API", description = "출금/이체 일일 한도 사용량 재계산 API")
+@RestController
+@RequestMapping("/api/transactions/daily-usage")
+@RequiredArgsConstructor
+public class DailyUsageController {
+
+    private final DailyUsageRebuildJob dailyUsageRebuildJob;
+    private final QuotaLeaseManager quotaLeaseManager;
+
+    @Operation(summary = "사용량 재계산", description = "기간 내 영업일(Asia/Seoul)의 일일 사용량을 거래 내역으로 다시 계산합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재계산 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간")
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<DailyUsageRebuildResponse> rebuild(
+            @Parameter(description = "시작 영업일", required = true, example = "2024-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 영업일", required = true, example = "2024-01-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(dailyUsageRebuildJob.rebuild(from, to));
+    }
+
+    @Operation(summary = "한도 임대 통계", description = "이 노드의 일일 한도 임대 현황과 메모리 처리/임대 획득 횟수를 조회합니다.")
+    @GetMapping("/lease-stats")
+    public ResponseEntity<QuotaLeaseStatsResponse> getLeaseStats() {
+        return ResponseEntity.ok(quotaLeaseManager.getStats());
+    }
+}
@@ -0,0 +1,32 @@
+package com.wirebarley.transaction.controller;
+
+import com.wirebarley.transaction.dto.IdempotencyStatsResponse;
+import com.wirebarley.transaction.idempotency.IdempotencyLookup;
+import com.wirebarley.transaction.idempotency.InFlightRequests;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "멱등성 API", description = "멱등성 키 조회 계층 통계 API")
+@RestController
+@RequestMapping("/api/transactions/idempotency")
+@RequiredArgsConstructor
+public class IdempotencyController {
+
+    private final IdempotencyLookup idempotencyLookup;
+    private final InFlightRequests inFlightRequests;
+
+    @Operation(summary = "멱등성 조회 통계", description = "응답 캐시 적중, 필터 부정 응답, DB 조회와 오탐률, 처리 중 요청 합류 수를 조회합니다.")
+    @GetMapping("/stats")
+    public ResponseEntity<IdempotencyStatsResponse> getStats() {
+        return ResponseEntity.ok(idempotencyLookup.getStats().toBuilder()
+                .inFlight(inFlightRequests.getInFlightCount())
+                .coalescedRequests(inFlightRequests.getCoalescedCount())
+                .reusedKeyRejections(inFlightRequests.getRejectedCount())
+                .build());
+    }
+}
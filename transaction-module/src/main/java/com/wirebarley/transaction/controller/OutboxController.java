@@ -0,0 +1,28 @@
+package com.wirebarley.transaction.controller;
+
+import com.wirebarley.transaction.dto.OutboxStatsResponse;
+import com.wirebarley.transaction.outbox.OutboxRelay;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "아웃박스 API", description = "거래 이벤트 아웃박스 릴레이 상태 조회 API")
+@RestController
+@RequestMapping("/api/outbox")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private final OutboxRelay outboxRelay;
+
+    @Operation(summary = "릴레이 통계", description = "묶음별 처리량, 발행 지연, 대기 이벤트 수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/stats")
+    public ResponseEntity<OutboxStatsResponse> getStats() {
+        return ResponseEntity.ok(outboxRelay.getStats());
+    }
+}
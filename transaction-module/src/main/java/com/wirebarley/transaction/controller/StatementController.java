@@ -0,0 +1,69 @@
+package com.wirebarley.transaction.controller;
+
+import com.wirebarley.transaction.dto.StatementJobResponse;
+import com.wirebarley.transaction.dto.StatementResponse;
+import com.wirebarley.transaction.service.StatementService;
+import com.wirebarley.transaction.statement.StatementJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@Tag(name = "거래명세서 API", description = "월간 거래명세서 조회 및 생성 작업 API")
+@RestController
+@RequestMapping("/api/statements")
+@RequiredArgsConstructor
+public class StatementController {
+
+    private final StatementService statementService;
+    private final StatementJob statementJob;
+
+    @Operation(summary = "월간 명세서 조회", description = "생성 작업이 만들어 둔 계좌의 월간 명세서를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "명세서가 아직 생성되지 않음")
+    })
+    @GetMapping("/accounts/{accountId}/{month}")
+    public ResponseEntity<StatementResponse> getStatement(
+            @Parameter(description = "계좌 ID", required = true, example = "1")
+            @PathVariable Long accountId,
+            @Parameter(description = "명세서 월", required = true, example = "2024-05")
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.ok(statementService.getStatement(accountId, month));
+    }
+
+    @Operation(summary = "명세서 생성 시작",
+            description = "마감된 달의 모든 계좌 명세서를 백그라운드에서 병렬로 생성합니다. "
+                    + "이전 실행에서 커밋을 마친 범위는 건너뛰므로 중단된 작업을 다시 시작할 때도 사용합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 시작"),
+            @ApiResponse(responseCode = "400", description = "아직 마감되지 않은 달"),
+            @ApiResponse(responseCode = "409", description = "작업이 이미 실행 중")
+    })
+    @PostMapping("/jobs/{month}")
+    public ResponseEntity<StatementJobResponse> startJob(
+            @Parameter(description = "명세서 월", required = true, example = "2024-05")
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(statementJob.start(month));
+    }
+
+    @Operation(summary = "명세서 생성 상태", description = "커밋을 마친 범위 수와 이 노드의 마지막 실행 결과를 조회합니다.")
+    @GetMapping("/jobs/{month}")
+    public ResponseEntity<StatementJobResponse> getJobStatus(
+            @Parameter(description = "명세서 월", required = true, example = "2024-05")
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.ok(statementJob.getStatus(month));
+    }
+}
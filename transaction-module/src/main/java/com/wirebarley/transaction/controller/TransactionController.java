@@ -1,6 +1,7 @@
 package com.wirebarley.transaction.controller;
 
 import com.wirebarley.transaction.dto.*;
+import com.wirebarley.transaction.facade.TransactionFacade;
 import com.wirebarley.transaction.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +18,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "거래 API", description = "입금, 출금, 이체 및 거래내역 조회 API")
 @RestController
@@ -24,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class TransactionController {
 
+    private final TransactionFacade transactionFacade;
     private final TransactionService transactionService;
 
     @Operation(summary = "입금", description = "특정 계좌에 금액을 입금합니다.")
@@ -35,7 +38,7 @@ public class TransactionController {
     })
     @PostMapping("/deposit")
     public ResponseEntity<TransactionResponse> deposit(@Valid @RequestBody DepositRequest request) {
-        TransactionResponse response = transactionService.deposit(request);
+        TransactionResponse response = transactionFacade.deposit(request);
         return ResponseEntity.ok(response);
     }
 
@@ -48,7 +51,7 @@ public class TransactionController {
     })
     @PostMapping("/withdraw")
     public ResponseEntity<TransactionResponse> withdraw(@Valid @RequestBody WithdrawRequest request) {
-        TransactionResponse response = transactionService.withdraw(request);
+        TransactionResponse response = transactionFacade.withdraw(request);
         return ResponseEntity.ok(response);
     }
 
@@ -62,13 +65,27 @@ public class TransactionController {
     })
     @PostMapping("/transfer")
     public ResponseEntity<TransactionResponse> transfer(@Valid @RequestBody TransferRequest request) {
-        TransactionResponse response = transactionService.transfer(request);
+        TransactionResponse response = transactionFacade.transfer(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "대량 이체",
+            description = "여러 건의 이체를 한 번에 요청합니다. 건별로 성공/실패 결과를 반환하며, 실패한 건이 있어도 나머지 건은 처리됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (건별 결과 포함)",
+                    content = @Content(schema = @Schema(implementation = BatchTransferResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping("/transfers/batch")
+    public ResponseEntity<BatchTransferResponse> transferBatch(@Valid @RequestBody BatchTransferRequest request) {
+        BatchTransferResponse response = transactionFacade.transferBatch(request);
         return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "거래내역 조회 (계좌 ID)", description = "계좌 ID로 해당 계좌의 거래내역을 조회합니다. 최신순으로 정렬됩니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag 이후 새 거래 없음"),
             @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음")
     })
     @GetMapping("/account/{accountId}")
@@ -76,14 +93,20 @@ public class TransactionController {
             @Parameter(description = "계좌 ID", required = true, example = "1")
             @PathVariable Long accountId,
             @Parameter(description = "페이지 정보 (page, size, sort)")
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<TransactionResponse> response = transactionService.getTransactionHistory(accountId, pageable);
-        return ResponseEntity.ok(response);
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        HistoryEtag etag = transactionService.getHistoryEtag(accountId);
+        if (webRequest.checkNotModified(etag.value())) {
+            return null;
+        }
+        Page<TransactionResponse> response = transactionService.getTransactionHistory(etag, pageable);
+        return ResponseEntity.ok().eTag(etag.value()).body(response);
     }
 
     @Operation(summary = "거래내역 조회 (계좌번호)", description = "계좌번호로 해당 계좌의 거래내역을 조회합니다. 최신순으로 정렬됩니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag 이후 새 거래 없음"),
             @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음")
     })
     @GetMapping("/account/number/{accountNumber}")
@@ -91,8 +114,63 @@ public class TransactionController {
             @Parameter(description = "계좌번호", required = true, example = "1234567890")
             @PathVariable String accountNumber,
             @Parameter(description = "페이지 정보 (page, size, sort)")
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<TransactionResponse> response = transactionService.getTransactionHistoryByAccountNumber(accountNumber, pageable);
-        return ResponseEntity.ok(response);
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        HistoryEtag etag = transactionService.getHistoryEtagByAccountNumber(accountNumber);
+        if (webRequest.checkNotModified(etag.value())) {
+            return null;
+        }
+        Page<TransactionResponse> response = transactionService.getTransactionHistory(etag, pageable);
+        return ResponseEntity.ok().eTag(etag.value()).body(response);
+    }
+
+    @Operation(summary = "거래내역 커서 조회 (계좌 ID)",
+            description = "최신순으로 limit건(최대 100)을 조회합니다. 다음 페이지는 응답의 nextCursor를 after로 전달해 조회하며, 전체 건수는 세지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag 이후 새 거래 없음"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음")
+    })
+    @GetMapping("/account/{accountId}/history")
+    public ResponseEntity<CursorPageResponse<TransactionResponse>> getTransactionHistoryByCursor(
+            @Parameter(description = "계좌 ID", required = true, example = "1")
+            @PathVariable Long accountId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "조회 건수 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        HistoryEtag etag = transactionService.getHistoryEtag(accountId);
+        if (webRequest.checkNotModified(etag.value())) {
+            return null;
+        }
+        CursorPageResponse<TransactionResponse> response = transactionService.getTransactionHistory(etag, after, limit);
+        return ResponseEntity.ok().eTag(etag.value()).body(response);
+    }
+
+    @Operation(summary = "거래내역 커서 조회 (계좌번호)",
+            description = "최신순으로 limit건(최대 100)을 조회합니다. 다음 페이지는 응답의 nextCursor를 after로 전달해 조회하며, 전체 건수는 세지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag 이후 새 거래 없음"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음")
+    })
+    @GetMapping("/account/number/{accountNumber}/history")
+    public ResponseEntity<CursorPageResponse<TransactionResponse>> getTransactionHistoryByAccountNumberAndCursor(
+            @Parameter(description = "계좌번호", required = true, example = "1234567890")
+            @PathVariable String accountNumber,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "조회 건수 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        HistoryEtag etag = transactionService.getHistoryEtagByAccountNumber(accountNumber);
+        if (webRequest.checkNotModified(etag.value())) {
+            return null;
+        }
+        CursorPageResponse<TransactionResponse> response = transactionService.getTransactionHistory(etag, after, limit);
+        return ResponseEntity.ok().eTag(etag.value()).body(response);
     }
 }
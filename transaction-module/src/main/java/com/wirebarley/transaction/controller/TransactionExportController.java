@@ -0,0 +1,71 @@
+package com.wirebarley.transaction.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.transaction.export.ExportFormat;
+import com.wirebarley.transaction.export.TransactionExportWriter;
+import com.wirebarley.transaction.service.TransactionExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@Tag(name = "거래내역 내보내기 API", description = "기간별 거래내역 CSV/NDJSON 스트리밍 내보내기 API")
+@RestController
+@RequestMapping("/api/transactions/account/{accountId}/export")
+@RequiredArgsConstructor
+public class TransactionExportController {
+
+    private final TransactionExportService transactionExportService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "거래내역 내보내기",
+            description = "기간(from ~ to, 양 끝 포함)의 거래내역을 오래된 순서로 내려받습니다. "
+                    + "DB 커서에서 읽는 대로 응답에 쓰므로 건수와 무관하게 메모리 사용량이 일정합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+            @ApiResponse(responseCode = "400", description = "조회 기간이 올바르지 않음"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음")
+    })
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "계좌 ID", required = true, example = "1")
+            @PathVariable Long accountId,
+            @Parameter(description = "시작일", required = true, example = "2024-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (포함)", required = true, example = "2024-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "형식 (CSV, NDJSON)", example = "CSV")
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @Parameter(description = "gzip 압축 파일로 받기", example = "false")
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        transactionExportService.validate(accountId, from, to);
+
+        StreamingResponseBody body = outputStream -> {
+            try (TransactionExportWriter writer = TransactionExportWriter.open(format, outputStream, gzip, objectMapper)) {
+                transactionExportService.export(accountId, from, to, writer::write);
+            }
+        };
+
+        String filename = "transactions-" + accountId + "-" + from + "-" + to + "." + format.getExtension()
+                + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,27 @@
+package com.wirebarley.transaction.dto;
+
+import com.wirebarley.transaction.lock.AccountLockStrategy;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "계좌별 락 전략 통계")
+@Getter
+@Builder
+public class AccountLockStatsResponse {
+
+    @Schema(description = "계좌번호", example = "1234567890")
+    private String accountNumber;
+
+    @Schema(description = "현재 락 전략", example = "OPTIMISTIC", allowableValues = {"OPTIMISTIC", "PESSIMISTIC"})
+    private AccountLockStrategy strategy;
+
+    @Schema(description = "낙관적 락 시도 횟수", example = "120")
+    private long attempts;
+
+    @Schema(description = "낙관적 락 충돌 횟수", example = "3")
+    private long conflicts;
+
+    @Schema(description = "최근 충돌률 (지수 이동 평균)", example = "0.02")
+    private double conflictRate;
+}
@@ -0,0 +1,30 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Schema(description = "특정 시점 잔액")
+@Getter
+@Builder
+public class BalanceAsOfResponse {
+
+    @Schema(description = "계좌 ID", example = "1")
+    private Long accountId;
+
+    @Schema(description = "기준 일시", example = "2024-05-31T23:59:59")
+    private LocalDateTime asOf;
+
+    @Schema(description = "기준 일시의 잔액 (그 시각까지의 거래 포함)", example = "150000.00")
+    private BigDecimal balance;
+
+    @Schema(description = "사용한 체크포인트 영업일 (없으면 null)", example = "2024-05-30")
+    private LocalDate checkpointDate;
+
+    @Schema(description = "체크포인트 이후 더한 거래 수", example = "3")
+    private int appliedTransactions;
+}
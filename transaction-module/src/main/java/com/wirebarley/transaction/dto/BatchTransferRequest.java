@@ -0,0 +1,27 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "대량 이체 요청")
+@Getter
+@NoArgsConstructor
+public class BatchTransferRequest {
+
+    @Schema(description = "이체 건 목록 (최대 10,000건)", required = true)
+    @NotEmpty(message = "이체 건 목록은 필수입니다.")
+    @Size(max = 10000, message = "이체 건은 최대 10,000건까지 요청할 수 있습니다.")
+    private List<@Valid TransferRequest> legs;
+
+    @Builder
+    public BatchTransferRequest(List<TransferRequest> legs) {
+        this.legs = legs;
+    }
+}
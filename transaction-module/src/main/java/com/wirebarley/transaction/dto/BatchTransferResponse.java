@@ -0,0 +1,35 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "대량 이체 응답")
+@Getter
+@Builder
+public class BatchTransferResponse {
+
+    @Schema(description = "요청 건수", example = "1000")
+    private int totalCount;
+
+    @Schema(description = "성공 건수", example = "998")
+    private int successCount;
+
+    @Schema(description = "실패 건수", example = "2")
+    private int failureCount;
+
+    @Schema(description = "건별 결과 (요청 순서)")
+    private List<TransferLegResult> results;
+
+    public static BatchTransferResponse of(List<TransferLegResult> results) {
+        int successCount = (int) results.stream().filter(TransferLegResult::isSuccess).count();
+        return BatchTransferResponse.builder()
+                .totalCount(results.size())
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
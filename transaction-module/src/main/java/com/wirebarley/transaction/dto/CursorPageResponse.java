@@ -0,0 +1,34 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 페이지 응답 (전체 건수를 세지 않음)")
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    @Schema(description = "조회 결과")
+    private List<T> content;
+
+    @Schema(description = "조회 건수", example = "20")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 커서 (after 파라미터로 전달, 마지막 페이지면 null)", example = "MjAyNC0wMS0wMlQxMDozMDp8MTIz")
+    private String nextCursor;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
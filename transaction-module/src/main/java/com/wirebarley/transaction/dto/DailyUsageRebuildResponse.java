@@ -0,0 +1,25 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Schema(description = "일일 사용량 재계산 결과")
+@Getter
+@Builder
+public class DailyUsageRebuildResponse {
+
+    @Schema(description = "시작 영업일", example = "2024-01-01")
+    private LocalDate from;
+
+    @Schema(description = "종료 영업일", example = "2024-01-31")
+    private LocalDate to;
+
+    @Schema(description = "재계산한 영업일 수", example = "31")
+    private int days;
+
+    @Schema(description = "갱신한 사용량 행 수 (DB 드라이버가 보고한 값)", example = "1200")
+    private int rows;
+}
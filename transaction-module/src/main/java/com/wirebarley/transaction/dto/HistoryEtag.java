@@ -0,0 +1,18 @@
+package com.wirebarley.transaction.dto;
+
+import com.wirebarley.account.repository.AccountHistoryVersionView;
+
+/**
+ * 거래내역 ETag와 확인된 계좌 ID. 거래는 생성 후 바뀌지 않고 추가만 되며, 거래를 기록하는 트랜잭션은
+ * 계좌 행(계좌 버전)이나 분산 잔액 슬롯 행(슬롯 버전)을 같은 트랜잭션에서 갱신한다.
+ * 그래서 두 값이 같으면 모든 페이지의 응답이 같고, 커밋 순서와 상관없이 새 거래마다 둘 중 하나가 오른다.
+ * 슬롯이 없어지는 변경(분산 해제)은 계좌 버전을 올리므로 이전 값과 겹치지 않는다.
+ */
+public record HistoryEtag(Long accountId, String value) {
+
+    public static HistoryEtag of(AccountHistoryVersionView version) {
+        long accountVersion = version.getVersion() != null ? version.getVersion() : 0L;
+        long slotVersion = version.getSlotVersion() != null ? version.getSlotVersion() : 0L;
+        return new HistoryEtag(version.getId(), "t" + version.getId() + "-v" + accountVersion + "-s" + slotVersion);
+    }
+}
@@ -0,0 +1,62 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "멱등성 키 조회 통계")
+@Getter
+@Builder(toBuilder = true)
+public class IdempotencyStatsResponse {
+
+    @Schema(description = "멱등성 키 조회 수", example = "100000")
+    private long lookups;
+
+    @Schema(description = "응답 캐시 적중 수", example = "1200")
+    private long cacheHits;
+
+    @Schema(description = "필터로 DB 조회를 생략한 수 (확실히 없는 키)", example = "97000")
+    private long filterNegatives;
+
+    @Schema(description = "DB 조회 수", example = "1800")
+    private long dbLookups;
+
+    @Schema(description = "DB에서 기존 거래를 찾은 수", example = "800")
+    private long dbHits;
+
+    @Schema(description = "필터가 있을 수 있다고 답해 DB를 조회한 수 (필터 준비 후 단건 조회만)", example = "1000")
+    private long filterPositives;
+
+    @Schema(description = "필터가 있을 수 있다고 답했지만 DB에 키가 없었던 수", example = "10")
+    private long filterFalsePositives;
+
+    @Schema(description = "캐시 적중률", example = "0.012")
+    private double cacheHitRate;
+
+    @Schema(description = "필터 부정 응답률", example = "0.97")
+    private double filterNegativeRate;
+
+    @Schema(description = "필터 오탐률 (filterFalsePositives / filterPositives)", example = "0.01")
+    private double falsePositiveRate;
+
+    @Schema(description = "캐시된 응답 수", example = "10000")
+    private int cacheSize;
+
+    @Schema(description = "필터 준비 여부 (시작 시 최근 키 적재 완료)", example = "true")
+    private boolean filterReady;
+
+    @Schema(description = "필터에 넣은 키 수", example = "350000")
+    private long filterKeys;
+
+    @Schema(description = "현재 키 수 기준 예상 오탐률", example = "0.0004")
+    private double estimatedFalsePositiveRate;
+
+    @Schema(description = "처리 중인 멱등성 키 수", example = "3")
+    private int inFlight;
+
+    @Schema(description = "처리 중인 같은 키의 결과를 함께 받은 요청 수", example = "42")
+    private long coalescedRequests;
+
+    @Schema(description = "같은 키에 다른 내용을 보내 거절한 요청 수", example = "1")
+    private long reusedKeyRejections;
+}
@@ -0,0 +1,29 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "작업별 락 보유 시간 통계")
+@Getter
+@Builder
+public class LockHoldTimeResponse {
+
+    @Schema(description = "작업", example = "transfer")
+    private String operation;
+
+    @Schema(description = "측정 건수", example = "1200")
+    private long count;
+
+    @Schema(description = "평균 보유 시간 (ms)", example = "3.2")
+    private double meanMillis;
+
+    @Schema(description = "p50 보유 시간 (ms, 구간 상한 근사)", example = "2.048")
+    private double p50Millis;
+
+    @Schema(description = "p99 보유 시간 (ms, 구간 상한 근사)", example = "16.384")
+    private double p99Millis;
+
+    @Schema(description = "최대 보유 시간 (ms)", example = "25.7")
+    private double maxMillis;
+}
@@ -0,0 +1,35 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "아웃박스 릴레이 통계")
+@Getter
+@Builder
+public class OutboxStatsResponse {
+
+    @Schema(description = "발행한 묶음 수", example = "120")
+    private long batches;
+
+    @Schema(description = "발행한 이벤트 수", example = "48000")
+    private long publishedEvents;
+
+    @Schema(description = "발행 대기 중인 이벤트 수", example = "35")
+    private long pendingEvents;
+
+    @Schema(description = "마지막 묶음 크기", example = "500")
+    private long lastBatchSize;
+
+    @Schema(description = "마지막 묶음 처리 시간 (ms)", example = "12.5")
+    private double lastBatchMillis;
+
+    @Schema(description = "마지막 묶음 처리량 (건/초)", example = "40000.0")
+    private double lastBatchEventsPerSecond;
+
+    @Schema(description = "마지막 묶음의 최대 지연 (ms, 생성부터 발행까지)", example = "85")
+    private long lastLagMillis;
+
+    @Schema(description = "최대 지연 (ms)", example = "240")
+    private long maxLagMillis;
+}
@@ -0,0 +1,35 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "일일 한도 임대 통계")
+@Getter
+@Builder
+public class QuotaLeaseStatsResponse {
+
+    @Schema(description = "임대 사용 여부", example = "true")
+    private boolean enabled;
+
+    @Schema(description = "노드 ID", example = "0")
+    private int nodeId;
+
+    @Schema(description = "보유 중인 임대 수", example = "12")
+    private int activeLeases;
+
+    @Schema(description = "메모리에서 처리한 한도 검증 수", example = "98000")
+    private long localReservations;
+
+    @Schema(description = "트랜잭션 안에서 임대가 모자라 사용량 행에 바로 더한 한도 검증 수", example = "40")
+    private long directReservations;
+
+    @Schema(description = "사용량 행을 갱신한 임대 획득 수", example = "2000")
+    private long leaseAcquisitions;
+
+    @Schema(description = "만료/갱신으로 반납한 임대 수", example = "1900")
+    private long leaseReturns;
+
+    @Schema(description = "한도 초과로 거절한 수", example = "15")
+    private long rejections;
+}
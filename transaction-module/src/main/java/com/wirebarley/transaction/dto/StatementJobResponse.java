@@ -0,0 +1,37 @@
+package com.wirebarley.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.YearMonth;
+
+@Schema(description = "명세서 생성 작업 상태")
+@Getter
+@Builder(toBuilder = true)
+public class StatementJobResponse {
+
+    @Schema(description = "명세서 월", example = "2024-05")
+    private YearMonth month;
+
+    @Schema(description = "실행 중 여부", example = "false")
+    private boolean running;
+
+    @Schema(description = "커밋을 마친 범위(chunk) 수", example = "200")
+    private int completedChunks;
+
+    @Schema(description = "마지막 실행의 전체 범위 수", example = "200")
+    private int totalChunks;
+
+    @Schema(description = "마지막 실행에서 이전 실행 결과로 건너뛴 범위 수", example = "120")
+    private int skippedChunks;
+
+    @Schema(description = "마지막 실행에서 명세서를 만든 계좌 수", example = "40000")
+    private long generatedStatements;
+
+    @Schema(description = "마지막 실행 소요 시간 (ms)", example = "5300")
+    private long elapsedMillis;
+
+    @Schema(description = "마지막 실행 실패 사유 (성공 시 null)")
+    private String failure;
+}
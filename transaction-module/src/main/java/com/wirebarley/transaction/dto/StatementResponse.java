@@ -0,0 +1,65 @@
+package com.wirebarley.transaction.dto;
+
+import com.wirebarley.transaction.repository.AccountStatementRow;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Schema(description = "월간 거래명세서")
+@Getter
+@Builder
+public class StatementResponse {
+
+    @Schema(description = "계좌 ID", example = "1")
+    private Long accountId;
+
+    @Schema(description = "명세서 월", example = "2024-05")
+    private YearMonth month;
+
+    @Schema(description = "기초 잔액 (월초)", example = "100000.00")
+    private BigDecimal openingBalance;
+
+    @Schema(description = "입금 합계", example = "500000.00")
+    private BigDecimal depositTotal;
+
+    @Schema(description = "출금 합계", example = "200000.00")
+    private BigDecimal withdrawalTotal;
+
+    @Schema(description = "이체 입금 합계", example = "30000.00")
+    private BigDecimal transferInTotal;
+
+    @Schema(description = "이체 출금 합계 (수수료 제외)", example = "100000.00")
+    private BigDecimal transferOutTotal;
+
+    @Schema(description = "수수료 합계", example = "1000.00")
+    private BigDecimal feeTotal;
+
+    @Schema(description = "기말 잔액 (월말)", example = "329000.00")
+    private BigDecimal closingBalance;
+
+    @Schema(description = "거래 건수", example = "42")
+    private int transactionCount;
+
+    @Schema(description = "생성 일시", example = "2024-06-01T02:00:00")
+    private LocalDateTime generatedAt;
+
+    public static StatementResponse from(AccountStatementRow row) {
+        return StatementResponse.builder()
+                .accountId(row.accountId())
+                .month(YearMonth.from(row.statementMonth()))
+                .openingBalance(row.openingBalance())
+                .depositTotal(row.depositTotal())
+                .withdrawalTotal(row.withdrawalTotal())
+                .transferInTotal(row.transferInTotal())
+                .transferOutTotal(row.transferOutTotal())
+                .feeTotal(row.feeTotal())
+                .closingBalance(row.closingBalance())
+                .transactionCount(row.transactionCount())
+                .generatedAt(row.generatedAt())
+                .build();
+    }
+}
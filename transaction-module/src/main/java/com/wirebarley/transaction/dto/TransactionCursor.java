@@ -0,0 +1,43 @@
+package com.wirebarley.transaction.dto;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.repository.TransactionHistoryView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래내역 커서. 마지막으로 받은 거래의 (createdAt, id)이며, 클라이언트에는 불투명한 문자열로 전달한다.
+ * 정렬이 (createdAt DESC, id DESC)로 고유하므로 조회 중 새 거래가 들어와도 페이지가 밀리거나 겹치지 않는다.
+ */
+public record TransactionCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TransactionCursor of(TransactionHistoryView transaction) {
+        return new TransactionCursor(transaction.getCreatedAt(), transaction.getId());
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new TransactionCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
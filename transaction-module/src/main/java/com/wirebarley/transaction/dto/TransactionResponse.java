@@ -3,6 +3,7 @@ package com.wirebarley.transaction.dto;
 import com.wirebarley.transaction.entity.Transaction;
 import com.wirebarley.transaction.entity.TransactionStatus;
 import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.repository.TransactionHistoryView;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
 
 @Schema(description = "거래 응답")
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class TransactionResponse {
 
     @Schema(description = "거래 ID", example = "1")
@@ -50,13 +51,25 @@ public class TransactionResponse {
                 .type(transaction.getType())
                 .amount(transaction.getAmount())
                 .fee(transaction.getFee())
-                .fromAccountNumber(transaction.getFromAccount() != null ?
-                        transaction.getFromAccount().getAccountNumber() : null)
-                .toAccountNumber(transaction.getToAccount() != null ?
-                        transaction.getToAccount().getAccountNumber() : null)
+                .fromAccountNumber(transaction.getFromAccountNumber())
+                .toAccountNumber(transaction.getToAccountNumber())
                 .balanceAfter(transaction.getBalanceAfter())
                 .status(transaction.getStatus())
                 .createdAt(transaction.getCreatedAt())
                 .build();
     }
+
+    public static TransactionResponse from(TransactionHistoryView view) {
+        return TransactionResponse.builder()
+                .id(view.getId())
+                .type(view.getType())
+                .amount(view.getAmount())
+                .fee(view.getFee())
+                .fromAccountNumber(view.getFromAccountNumber())
+                .toAccountNumber(view.getToAccountNumber())
+                .balanceAfter(view.getBalanceAfter())
+                .status(view.getStatus())
+                .createdAt(view.getCreatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,44 @@
+package com.wirebarley.transaction.dto;
+
+import com.wirebarley.common.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "대량 이체 건별 결과")
+@Getter
+@Builder(toBuilder = true)
+public class TransferLegResult {
+
+    @Schema(description = "요청 목록에서의 순번 (0부터)", example = "0")
+    private int index;
+
+    @Schema(description = "성공 여부", example = "true")
+    private boolean success;
+
+    @Schema(description = "이체 결과 (성공 시)")
+    private TransactionResponse transaction;
+
+    @Schema(description = "에러 코드 (실패 시)", example = "T001")
+    private String errorCode;
+
+    @Schema(description = "에러 메시지 (실패 시)", example = "잔액이 부족합니다.")
+    private String errorMessage;
+
+    public static TransferLegResult success(int index, TransactionResponse transaction) {
+        return TransferLegResult.builder()
+                .index(index)
+                .success(true)
+                .transaction(transaction)
+                .build();
+    }
+
+    public static TransferLegResult failure(int index, ErrorCode errorCode) {
+        return TransferLegResult.builder()
+                .index(index)
+                .success(false)
+                .errorCode(errorCode.getCode())
+                .errorMessage(errorCode.getMessage())
+                .build();
+    }
+}
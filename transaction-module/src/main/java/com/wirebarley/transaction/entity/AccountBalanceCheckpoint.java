@@ -0,0 +1,47 @@
+package com.wirebarley.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 영업일 마감 시점의 계좌 잔액. 그날 거래가 있었던 계좌만 기록한다.
+ * 특정 시점 잔액은 가장 가까운 이전 체크포인트에 그 뒤 거래만 더해 계산한다.
+ * BalanceCheckpointRepository(JDBC)로 기록하며, 이 엔티티는 테이블 정의를 담당한다.
+ */
+@Entity
+@Table(name = "account_balance_checkpoints")
+@IdClass(AccountBalanceCheckpoint.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountBalanceCheckpoint {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private Long accountId;
+        private LocalDate businessDate;
+    }
+}
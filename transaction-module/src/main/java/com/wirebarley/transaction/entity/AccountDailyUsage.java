@@ -0,0 +1,52 @@
+package com.wirebarley.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 일일 사용량 (출금, 이체 한도 계산용). 영업일은 Asia/Seoul 기준이다.
+ * 잔액 변경과 같은 트랜잭션에서 AccountDailyUsageRepository(JDBC upsert)로 누적하며, 이 엔티티는 테이블 정의를 담당한다.
+ */
+@Entity
+@Table(name = "account_daily_usage")
+@IdClass(AccountDailyUsage.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountDailyUsage {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TransactionType type;
+
+    @Id
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private Long accountId;
+        private TransactionType type;
+        private LocalDate businessDate;
+    }
+}
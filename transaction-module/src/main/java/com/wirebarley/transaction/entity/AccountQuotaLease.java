@@ -0,0 +1,58 @@
+package com.wirebarley.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 노드가 임대 중인 일일 한도. amount는 account_daily_usage에 더해 둔 임대 금액이다.
+ * 사용량 재계산 시 만료되지 않은 임대를 거래 내역 합계에 더해 전체 한도를 넘지 않게 한다.
+ * QuotaLeaseManager가 AccountQuotaLeaseRepository(JDBC)로 기록하며, 이 엔티티는 테이블 정의를 담당한다.
+ */
+@Entity
+@Table(name = "account_quota_leases")
+@IdClass(AccountQuotaLease.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountQuotaLease {
+
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TransactionType type;
+
+    @Id
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private Integer nodeId;
+        private Long accountId;
+        private TransactionType type;
+        private LocalDate businessDate;
+    }
+}
@@ -0,0 +1,68 @@
+package com.wirebarley.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 월간 거래명세서. 마감된 달의 거래를 미리 집계해 두고 조회 시 한 행만 읽는다.
+ * AccountStatementRepository(JDBC)로 기록하며, 이 엔티티는 테이블 정의를 담당한다.
+ */
+@Entity
+@Table(name = "account_statements")
+@IdClass(AccountStatement.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountStatement {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    // 명세서 월의 1일
+    @Id
+    @Column(name = "statement_month")
+    private LocalDate statementMonth;
+
+    @Column(name = "opening_balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal openingBalance;
+
+    @Column(name = "deposit_total", nullable = false, precision = 15, scale = 2)
+    private BigDecimal depositTotal;
+
+    @Column(name = "withdrawal_total", nullable = false, precision = 15, scale = 2)
+    private BigDecimal withdrawalTotal;
+
+    @Column(name = "transfer_in_total", nullable = false, precision = 15, scale = 2)
+    private BigDecimal transferInTotal;
+
+    @Column(name = "transfer_out_total", nullable = false, precision = 15, scale = 2)
+    private BigDecimal transferOutTotal;
+
+    @Column(name = "fee_total", nullable = false, precision = 15, scale = 2)
+    private BigDecimal feeTotal;
+
+    @Column(name = "closing_balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal closingBalance;
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private Long accountId;
+        private LocalDate statementMonth;
+    }
+}
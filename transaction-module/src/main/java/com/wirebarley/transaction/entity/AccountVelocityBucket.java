@@ -0,0 +1,52 @@
+package com.wirebarley.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * 계좌별 분 단위 거래 집계 링 버퍼. slot = minute_epoch % 링 크기이며, 지난 바퀴의 슬롯은 새 분이 덮어쓴다.
+ * VelocityLimiter가 AccountVelocityBucketRepository(JDBC)로 기록하며, 이 엔티티는 테이블 정의를 담당한다.
+ */
+@Entity
+@Table(name = "account_velocity_buckets")
+@IdClass(AccountVelocityBucket.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountVelocityBucket {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TransactionType type;
+
+    @Id
+    private Integer slot;
+
+    @Column(name = "minute_epoch", nullable = false)
+    private Long minuteEpoch;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "tx_count", nullable = false)
+    private Integer txCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private Long accountId;
+        private TransactionType type;
+        private Integer slot;
+    }
+}
@@ -0,0 +1,30 @@
+package com.wirebarley.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 체크포인트 기록을 마친 영업일. 영업일은 순서대로 처리하므로 마지막 행 다음 날부터 이어서 기록한다.
+ * BalanceCheckpointRepository(JDBC)로 기록하며, 이 엔티티는 테이블 정의를 담당한다.
+ */
+@Entity
+@Table(name = "balance_checkpoint_days")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceCheckpointDay {
+
+    @Id
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+
+    @Column(name = "account_count", nullable = false)
+    private int accountCount;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
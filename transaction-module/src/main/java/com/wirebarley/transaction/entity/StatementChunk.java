@@ -0,0 +1,49 @@
+package com.wirebarley.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 명세서 생성 작업에서 커밋을 마친 계좌 ID 범위. 명세서와 같은 트랜잭션에서 기록하므로
+ * 작업이 중단되면 기록된 범위는 건너뛰고 나머지 범위부터 다시 처리한다.
+ * StatementChunkRepository(JDBC)로 기록하며, 이 엔티티는 테이블 정의를 담당한다.
+ */
+@Entity
+@Table(name = "statement_chunks")
+@IdClass(StatementChunk.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatementChunk {
+
+    @Id
+    @Column(name = "statement_month")
+    private LocalDate statementMonth;
+
+    @Id
+    @Column(name = "range_start")
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Column(name = "account_count", nullable = false)
+    private int accountCount;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private LocalDate statementMonth;
+        private Long rangeStart;
+    }
+}
@@ -1,6 +1,7 @@
 package com.wirebarley.transaction.entity;
 
 import com.wirebarley.account.entity.Account;
+import com.wirebarley.common.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,11 +15,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "transactions", indexes = {
-        @Index(name = "idx_transaction_owner_account", columnList = "owner_account_id"),
+        @Index(name = "idx_transaction_owner_created", columnList = "owner_account_id, createdAt, id"),
         @Index(name = "idx_transaction_from_account", columnList = "from_account_id"),
         @Index(name = "idx_transaction_to_account", columnList = "to_account_id"),
-        @Index(name = "idx_transaction_created_at", columnList = "createdAt"),
-        @Index(name = "idx_transaction_idempotency_key", columnList = "idempotencyKey")
+        @Index(name = "idx_transaction_created_at", columnList = "createdAt")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -26,7 +26,7 @@ import java.time.LocalDateTime;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -51,6 +51,13 @@ public class Transaction {
     @JoinColumn(name = "to_account_id")
     private Account toAccount;
 
+    // 거래내역 조회 시 계좌를 조인하지 않도록 상대 계좌번호를 거래 행에 함께 저장한다 (계좌번호는 바뀌지 않는다)
+    @Column(length = 20)
+    private String fromAccountNumber;
+
+    @Column(length = 20)
+    private String toAccountNumber;
+
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal balanceAfter;
 
@@ -58,16 +65,19 @@ public class Transaction {
     @Column(nullable = false, length = 20)
     private TransactionStatus status;
 
-    @Column(length = 64, unique = true)
+    // 요청 추적용 참조. 중복 판단은 보존 기간이 있는 idempotency_keys에서 하므로 인덱스를 두지 않는다
+    @Column(length = 64)
     private String idempotencyKey;
 
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
+    // 계좌번호는 계좌에서 읽지 않고 받는다. 조건부 UPDATE 경로의 계좌 참조(getReferenceById)를 초기화하지 않기 위해서다
     @Builder
     public Transaction(TransactionType type, BigDecimal amount, BigDecimal fee,
                        Account ownerAccount, Account fromAccount, Account toAccount,
+                       String fromAccountNumber, String toAccountNumber,
                        BigDecimal balanceAfter, TransactionStatus status, String idempotencyKey) {
         this.type = type;
         this.amount = amount;
@@ -75,6 +85,8 @@ public class Transaction {
         this.ownerAccount = ownerAccount;
         this.fromAccount = fromAccount;
         this.toAccount = toAccount;
+        this.fromAccountNumber = fromAccountNumber;
+        this.toAccountNumber = toAccountNumber;
         this.balanceAfter = balanceAfter;
         this.status = status != null ? status : TransactionStatus.SUCCESS;
         this.idempotencyKey = idempotencyKey;
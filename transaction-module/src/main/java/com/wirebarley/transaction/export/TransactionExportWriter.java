@@ -0,0 +1,121 @@
+package com.wirebarley.transaction.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.transaction.repository.TransactionExportRow;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거래내역 내보내기 행을 형식에 맞게 출력 스트림에 쓴다. 버퍼가 찰 때마다 응답으로 내보내므로 메모리 사용량은 버퍼 크기로 고정된다.
+ * 행 콜백(Consumer) 안에서 쓰므로 쓰기 오류는 UncheckedIOException으로 던진다.
+ */
+public abstract class TransactionExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public static TransactionExportWriter open(ExportFormat format, OutputStream outputStream, boolean gzip,
+                                               ObjectMapper objectMapper) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+        return switch (format) {
+            case CSV -> new Csv(writer);
+            case NDJSON -> new Ndjson(writer, objectMapper);
+        };
+    }
+
+    public void write(TransactionExportRow row) {
+        try {
+            writeRow(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void writeRow(TransactionExportRow row) throws IOException;
+
+    static final class Csv extends TransactionExportWriter {
+
+        private static final String HEADER =
+                "id,type,amount,fee,from_account_number,to_account_number,balance_after,status,created_at\n";
+
+        private final Writer writer;
+
+        Csv(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(HEADER);
+        }
+
+        @Override
+        protected void writeRow(TransactionExportRow row) throws IOException {
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writer.write(row.type());
+            writer.write(',');
+            writer.write(plain(row.amount()));
+            writer.write(',');
+            writer.write(plain(row.fee()));
+            writer.write(',');
+            writer.write(escape(row.fromAccountNumber()));
+            writer.write(',');
+            writer.write(escape(row.toAccountNumber()));
+            writer.write(',');
+            writer.write(plain(row.balanceAfter()));
+            writer.write(',');
+            writer.write(row.status());
+            writer.write(',');
+            writer.write(row.createdAt() != null ? row.createdAt().toString() : "");
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private static String plain(BigDecimal value) {
+            return value != null ? value.toPlainString() : "";
+        }
+
+        // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다 (RFC 4180)
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    static final class Ndjson extends TransactionExportWriter {
+
+        private final JsonGenerator generator;
+
+        // 루트 값 사이에 기본으로 넣는 공백을 빼고 줄바꿈만으로 구분한다
+        Ndjson(Writer writer, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer).setRootValueSeparator(null);
+        }
+
+        @Override
+        protected void writeRow(TransactionExportRow row) throws IOException {
+            generator.writeObject(row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
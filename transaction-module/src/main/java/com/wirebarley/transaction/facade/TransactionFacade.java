@@ -0,0 +1,184 @@
+package com.wirebarley.transaction.facade;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.batch.BulkTransferProperties;
+import com.wirebarley.transaction.batch.DepositBatcher;
+import com.wirebarley.transaction.dto.*;
+import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.idempotency.InFlightRequests;
+import com.wirebarley.transaction.idempotency.RequestFingerprint;
+import com.wirebarley.transaction.lane.AccountLaneRouter;
+import com.wirebarley.transaction.lock.AccountLockExecutor;
+import com.wirebarley.transaction.lock.AtomicUpdateProperties;
+import com.wirebarley.transaction.service.TransactionService;
+import com.wirebarley.transaction.usage.QuotaLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 입금/출금/이체 진입점. 트랜잭션 바깥에서 실행 방식(계좌 레인 등)을 결정한 뒤 TransactionService를 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionFacade {
+
+    private final TransactionService transactionService;
+    private final AccountLaneRouter accountLaneRouter;
+    private final AccountLockExecutor accountLockExecutor;
+    private final AtomicUpdateProperties atomicUpdateProperties;
+    private final DepositBatcher depositBatcher;
+    private final BulkTransferProperties bulkTransferProperties;
+    private final InFlightRequests inFlightRequests;
+    private final QuotaLeaseManager quotaLeaseManager;
+
+    public TransactionResponse deposit(DepositRequest request) {
+        return executeIdempotent(request.getIdempotencyKey(), RequestFingerprint.of(request),
+                () -> executeDeposit(request));
+    }
+
+    public TransactionResponse withdraw(WithdrawRequest request) {
+        return executeIdempotent(request.getIdempotencyKey(), RequestFingerprint.of(request),
+                () -> executeWithdraw(request));
+    }
+
+    public TransactionResponse transfer(TransferRequest request) {
+        return executeIdempotent(request.getIdempotencyKey(), RequestFingerprint.of(request),
+                () -> executeTransfer(request));
+    }
+
+    private TransactionResponse executeDeposit(DepositRequest request) {
+        if (depositBatcher.isEnabled()) {
+            return depositBatcher.deposit(request);
+        }
+        if (atomicUpdateProperties.isEnabled(TransactionType.DEPOSIT)) {
+            return accountLaneRouter.execute(request.getAccountNumber(),
+                    () -> transactionService.depositAtomic(request));
+        }
+        return accountLaneRouter.execute(request.getAccountNumber(),
+                () -> accountLockExecutor.execute(List.of(request.getAccountNumber()),
+                        lockStrategy -> transactionService.deposit(request, lockStrategy)));
+    }
+
+    private TransactionResponse executeWithdraw(WithdrawRequest request) {
+        prepareDailyQuota(request.getAccountNumber(), TransactionType.WITHDRAWAL, request.getAmount(),
+                TransactionService.DAILY_WITHDRAWAL_LIMIT);
+        if (atomicUpdateProperties.isEnabled(TransactionType.WITHDRAWAL)) {
+            return accountLaneRouter.execute(request.getAccountNumber(),
+                    () -> transactionService.withdrawAtomic(request));
+        }
+        return accountLaneRouter.execute(request.getAccountNumber(),
+                () -> accountLockExecutor.execute(List.of(request.getAccountNumber()),
+                        lockStrategy -> transactionService.withdraw(request, lockStrategy)));
+    }
+
+    private TransactionResponse executeTransfer(TransferRequest request) {
+        prepareDailyQuota(request.getFromAccountNumber(), TransactionType.TRANSFER_OUT, request.getAmount(),
+                TransactionService.DAILY_TRANSFER_LIMIT);
+        return accountLaneRouter.execute(request.getFromAccountNumber(), request.getToAccountNumber(),
+                () -> accountLockExecutor.execute(List.of(request.getFromAccountNumber(), request.getToAccountNumber()),
+                        lockStrategy -> transactionService.transfer(request, lockStrategy)));
+    }
+
+    /**
+     * 한도 임대는 거래 트랜잭션 안에서 갱신하지 않으므로, 트랜잭션과 레인에 들어가기 전에 미리 갱신해 둔다.
+     * 이때 잡는 커넥션은 거래 트랜잭션이 열리기 전에 반환되므로 요청 하나가 커넥션을 둘 잡지 않는다.
+     */
+    private void prepareDailyQuota(String accountNumber, TransactionType type, BigDecimal amount, BigDecimal limit) {
+        if (!quotaLeaseManager.isEnabled()) {
+            return;
+        }
+        transactionService.findAccountId(accountNumber)
+                .ifPresent(accountId -> quotaLeaseManager.prepare(accountId, type, amount, limit));
+    }
+
+    /**
+     * 같은 키의 동시 요청은 하나만 실행하고 결과를 나눠 받는다. 키를 다른 내용으로 재사용하면 거절한다.
+     */
+    private TransactionResponse executeIdempotent(String idempotencyKey, RequestFingerprint fingerprint,
+                                                  Supplier<TransactionResponse> operation) {
+        return inFlightRequests.execute(idempotencyKey, fingerprint,
+                () -> replayOnDuplicateKey(idempotencyKey, operation));
+    }
+
+    /**
+     * 멱등성 필터는 다른 노드가 기록한 키를 모르므로, 같은 키의 재시도가 필터를 지나쳐 유니크 제약 위반으로 끝날 수 있다.
+     * 이때 기존 거래가 있으면 그 결과를 돌려준다.
+     */
+    private TransactionResponse replayOnDuplicateKey(String idempotencyKey, Supplier<TransactionResponse> operation) {
+        try {
+            return operation.get();
+        } catch (DataIntegrityViolationException e) {
+            if (idempotencyKey == null) {
+                throw e;
+            }
+            return transactionService.findByIdempotencyKey(idempotencyKey).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 대량 이체. chunkSize 단위로 나누어 묶음마다 별도 트랜잭션으로 처리하므로 큰 요청도 락을 오래 잡지 않는다.
+     * 여러 계좌에 걸친 작업이므로 계좌 레인을 거치지 않는다.
+     */
+    public BatchTransferResponse transferBatch(BatchTransferRequest request) {
+        List<TransferRequest> legs = request.getLegs();
+        int chunkSize = bulkTransferProperties.getChunkSize();
+        List<TransferLegResult> results = new ArrayList<>(legs.size());
+
+        for (int start = 0; start < legs.size(); start += chunkSize) {
+            List<TransferRequest> chunk = legs.subList(start, Math.min(start + chunkSize, legs.size()));
+            results.addAll(transferChunk(chunk, start));
+        }
+        return BatchTransferResponse.of(rejectReusedKeys(legs, results));
+    }
+
+    private List<TransferLegResult> transferChunk(List<TransferRequest> chunk, int startIndex) {
+        if (quotaLeaseManager.isEnabled()) {
+            Map<String, BigDecimal> amountByAccount = chunk.stream()
+                    .collect(Collectors.toMap(TransferRequest::getFromAccountNumber, TransferRequest::getAmount,
+                            BigDecimal::add));
+            amountByAccount.forEach((accountNumber, amount) -> prepareDailyQuota(accountNumber,
+                    TransactionType.TRANSFER_OUT, amount, TransactionService.DAILY_TRANSFER_LIMIT));
+        }
+        try {
+            return transactionService.transferChunk(chunk, startIndex);
+        } catch (BusinessException e) {
+            return failAll(chunk, startIndex, e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.error("대량 이체 묶음 처리 실패: startIndex={}, size={}", startIndex, chunk.size(), e);
+            return failAll(chunk, startIndex, ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 재사용된 멱등성 키의 기존 거래가 요청 내용과 다르면 해당 건을 실패로 바꾼다
+    private List<TransferLegResult> rejectReusedKeys(List<TransferRequest> legs, List<TransferLegResult> results) {
+        return IntStream.range(0, legs.size())
+                .mapToObj(i -> {
+                    TransferRequest leg = legs.get(i);
+                    TransferLegResult result = results.get(i);
+                    if (leg.getIdempotencyKey() == null || !result.isSuccess()
+                            || RequestFingerprint.of(leg).matches(result.getTransaction())) {
+                        return result;
+                    }
+                    return TransferLegResult.failure(result.getIndex(), ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                })
+                .toList();
+    }
+
+    private List<TransferLegResult> failAll(List<TransferRequest> chunk, int startIndex, ErrorCode errorCode) {
+        return IntStream.range(0, chunk.size())
+                .mapToObj(i -> TransferLegResult.failure(startIndex + i, errorCode))
+                .toList();
+    }
+}
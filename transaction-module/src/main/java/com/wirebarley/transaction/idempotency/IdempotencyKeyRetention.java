@@ -0,0 +1,91 @@
+package com.wirebarley.transaction.idempotency;
+
+import com.wirebarley.transaction.repository.IdempotencyKeyRepository;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 멱등성 키 보존 기간 관리. MySQL 파티션 테이블이면 다음 영업일 파티션을 미리 만들고 보존 기간이 지난 파티션을 삭제한다.
+ * 파티션이 없는 테이블(H2, 파티션 없이 만든 스키마)은 만료 행을 DELETE로 지운다.
+ * 여러 노드가 동시에 실행해도 이미 만들었거나 지운 파티션은 건너뛰며, DDL 충돌로 실패하면 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyRetention {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyProperties properties;
+    private final ScheduledExecutorService scheduler;
+
+    public IdempotencyKeyRetention(IdempotencyKeyRepository idempotencyKeyRepository,
+                                   IdempotencyProperties properties) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.properties = properties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long intervalMillis = properties.getRetentionCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runSafely, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 보존 기간 밖의 키를 정리한다. 오늘에서 retentionDays를 뺀 영업일보다 이전 키가 대상이다.
+     */
+    public void run() {
+        LocalDate today = BusinessCalendar.today();
+        LocalDate cutoff = today.minusDays(properties.retentionDays());
+
+        if (!idempotencyKeyRepository.isMySql() || !idempotencyKeyRepository.isPartitioned()) {
+            int deleted = idempotencyKeyRepository.deleteBefore(cutoff);
+            if (deleted > 0) {
+                log.info("만료 멱등성 키 삭제: rows={}, before={}", deleted, cutoff);
+            }
+            return;
+        }
+
+        List<LocalDate> existing = idempotencyKeyRepository.findPartitionDates();
+        LocalDate last = existing.isEmpty() ? today.minusDays(1) : existing.get(existing.size() - 1);
+        List<LocalDate> missing = Stream.iterate(last.plusDays(1), date -> date.plusDays(1))
+                .takeWhile(date -> !date.isAfter(today.plusDays(properties.getPartitionPrecreateDays())))
+                .toList();
+        idempotencyKeyRepository.addPartitions(missing);
+
+        List<LocalDate> expired = existing.stream()
+                .filter(date -> date.isBefore(cutoff))
+                .toList();
+        idempotencyKeyRepository.dropPartitions(expired);
+        if (!missing.isEmpty() || !expired.isEmpty()) {
+            log.info("멱등성 키 파티션 갱신: added={}, dropped={}", missing, expired);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.warn("멱등성 키 보존 기간 정리 실패: cause={}", e.getMessage());
+        }
+    }
+}
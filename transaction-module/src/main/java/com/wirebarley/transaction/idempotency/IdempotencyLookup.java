@@ -0,0 +1,259 @@
+package com.wirebarley.transaction.idempotency;
+
+import com.wirebarley.transaction.dto.IdempotencyStatsResponse;
+import com.wirebarley.transaction.dto.TransactionResponse;
+import com.wirebarley.transaction.entity.Transaction;
+import com.wirebarley.transaction.repository.IdempotencyKeyRepository;
+import com.wirebarley.transaction.repository.TransactionRepository;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 멱등성 키 조회와 기록. 키는 영업일별로 나눈 idempotency_keys에 보존 기간 동안만 남는다.
+ * 최근 응답 캐시(LRU)에 있으면 DB 없이 돌려주고, 블룸 필터에 없으면 확실히 처음 보는 키이므로 DB 조회를 생략한다.
+ * 필터는 이 노드가 기록한 키와 시작 시 읽은 최근 키만 알기 때문에, 필터를 지나친 중복 요청은
+ * 키 기록 시 중복으로 실패(DuplicateKeyException)하고 TransactionFacade가 DB에서 기존 결과를 찾아 돌려준다.
+ */
+@Slf4j
+@Component
+public class IdempotencyLookup {
+
+    private final TransactionRepository transactionRepository;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BloomFilter filter;
+    private final ResponseCache cache;
+    private volatile boolean filterReady;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder filterNegatives = new LongAdder();
+    private final LongAdder dbLookups = new LongAdder();
+    private final LongAdder dbHits = new LongAdder();
+    // 준비된 필터가 있을 수 있다고 답해 DB를 조회한 수와, 그중 DB에 키가 없었던 수 (오탐)
+    private final LongAdder filterPositives = new LongAdder();
+    private final LongAdder filterFalsePositives = new LongAdder();
+
+    public IdempotencyLookup(TransactionRepository transactionRepository,
+                             IdempotencyKeyRepository idempotencyKeyRepository,
+                             IdempotencyProperties properties,
+                             PlatformTransactionManager transactionManager) {
+        this.transactionRepository = transactionRepository;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.filter = new BloomFilter(properties.getExpectedKeys(), properties.getFalsePositiveRate());
+        this.cache = new ResponseCache(properties.getCacheSize());
+    }
+
+    /**
+     * 최근 기간의 키로 필터를 채운다. 채우는 동안에는 필터를 쓰지 않고 DB를 조회한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isFilterEnabled()) {
+            return;
+        }
+        LocalDate warmupStart = LocalDateTime.now(BusinessCalendar.BUSINESS_ZONE)
+                .minus(properties.getWarmupWindow())
+                .toLocalDate();
+        LocalDate since = warmupStart.isAfter(retentionStart()) ? warmupStart : retentionStart();
+        LongAdder loaded = new LongAdder();
+        readOnlyTransaction.executeWithoutResult(status -> idempotencyKeyRepository.forEachKeySince(since, key -> {
+            filter.put(key);
+            loaded.increment();
+        }));
+        filterReady = true;
+        log.info("멱등성 필터 준비 완료: keys={}, since={}", loaded.sum(), since);
+    }
+
+    public Optional<TransactionResponse> find(String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+        lookups.increment();
+
+        TransactionResponse cached = cache.get(idempotencyKey);
+        if (cached != null) {
+            cacheHits.increment();
+            return Optional.of(cached);
+        }
+        if (!filterReady) {
+            return findInDatabase(idempotencyKey);
+        }
+        if (!filter.mightContain(idempotencyKey)) {
+            filterNegatives.increment();
+            return Optional.empty();
+        }
+        filterPositives.increment();
+        Optional<TransactionResponse> stored = findInDatabase(idempotencyKey);
+        if (stored.isEmpty()) {
+            filterFalsePositives.increment();
+        }
+        return stored;
+    }
+
+    /**
+     * 여러 키를 한 번에 찾는다. 캐시에 없는 키는 한 번의 IN 조회로 확인한다.
+     * 묶음 INSERT는 중복 키 하나로 전체가 실패하므로 여기서는 필터로 조회 대상을 줄이지 않는다.
+     */
+    public Map<String, TransactionResponse> findAll(Collection<String> idempotencyKeys) {
+        List<String> keys = idempotencyKeys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        lookups.add(keys.size());
+
+        Map<String, TransactionResponse> found = new HashMap<>();
+        List<String> misses = keys.stream()
+                .filter(key -> {
+                    TransactionResponse cached = cache.get(key);
+                    if (cached == null) {
+                        return true;
+                    }
+                    cacheHits.increment();
+                    found.put(key, cached);
+                    return false;
+                })
+                .toList();
+        if (!misses.isEmpty()) {
+            dbLookups.add(misses.size());
+            Map<String, TransactionResponse> stored = findStored(misses);
+            dbHits.add(stored.size());
+            stored.forEach(this::cacheCommitted);
+            found.putAll(stored);
+        }
+        return found;
+    }
+
+    // 필터를 거치지 않고 DB에서 찾는다 (키 중복으로 실패한 뒤 기존 결과 조회용)
+    public Optional<TransactionResponse> findInDatabase(String idempotencyKey) {
+        dbLookups.increment();
+        Optional<TransactionResponse> stored = Optional.ofNullable(findStored(List.of(idempotencyKey)).get(idempotencyKey));
+        stored.ifPresent(response -> {
+            dbHits.increment();
+            cacheCommitted(idempotencyKey, response);
+        });
+        return stored;
+    }
+
+    /**
+     * 새로 기록한 거래의 키를 저장하고 응답을 등록한다. 호출한 쪽의 트랜잭션에서 키를 기록하므로 거래와 함께 커밋되거나 롤백된다.
+     */
+    public void remember(String idempotencyKey, TransactionResponse response) {
+        if (idempotencyKey == null) {
+            return;
+        }
+        rememberAll(Map.of(idempotencyKey, response));
+    }
+
+    /**
+     * 키는 오늘 영업일 파티션에 기록하고, 보존 기간 안의 이전 영업일에 같은 키가 있는지 잠금 읽기로 확인한다.
+     * 이전 영업일에 기록 중인 키는 그 트랜잭션이 끝날 때까지 기다리므로 자정을 사이에 둔 동시 요청도 한 건만 남는다.
+     * 필터에는 바로 넣고(롤백되면 오탐 한 건이 될 뿐이다), 응답 캐시에는 커밋된 뒤에 넣는다.
+     */
+    public void rememberAll(Map<String, TransactionResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        LocalDate today = BusinessCalendar.today();
+        Map<String, Long> transactionIds = responses.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getId()));
+        idempotencyKeyRepository.insertAll(transactionIds, today, LocalDateTime.now());
+        List<String> duplicates = idempotencyKeyRepository.findKeysBetweenForUpdate(
+                responses.keySet(), retentionStart(), today);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateKeyException("이미 처리된 멱등성 키: " + duplicates);
+        }
+
+        responses.keySet().forEach(filter::put);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    responses.forEach(cache::put);
+                }
+            });
+        } else {
+            responses.forEach(cache::put);
+        }
+    }
+
+    public IdempotencyStatsResponse getStats() {
+        long lookupCount = lookups.sum();
+        long dbLookupCount = dbLookups.sum();
+        return IdempotencyStatsResponse.builder()
+                .lookups(lookupCount)
+                .cacheHits(cacheHits.sum())
+                .filterNegatives(filterNegatives.sum())
+                .dbLookups(dbLookupCount)
+                .dbHits(dbHits.sum())
+                .filterPositives(filterPositives.sum())
+                .filterFalsePositives(filterFalsePositives.sum())
+                .cacheHitRate(ratio(cacheHits.sum(), lookupCount))
+                .filterNegativeRate(ratio(filterNegatives.sum(), lookupCount))
+                .falsePositiveRate(ratio(filterFalsePositives.sum(), filterPositives.sum()))
+                .cacheSize(cache.size())
+                .filterReady(filterReady)
+                .filterKeys(filter.insertions())
+                .estimatedFalsePositiveRate(filter.expectedFalsePositiveRate())
+                .build();
+    }
+
+    // 보존 기간 안의 키로 기존 거래를 찾는다
+    private Map<String, TransactionResponse> findStored(Collection<String> idempotencyKeys) {
+        Map<String, Long> transactionIds = idempotencyKeyRepository.findTransactionIds(idempotencyKeys, retentionStart());
+        if (transactionIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Transaction> transactions = transactionRepository.findAllById(transactionIds.values()).stream()
+                .collect(Collectors.toMap(Transaction::getId, Function.identity()));
+        Map<String, TransactionResponse> found = new HashMap<>();
+        transactionIds.forEach((key, id) -> {
+            Transaction transaction = transactions.get(id);
+            if (transaction != null) {
+                found.put(key, TransactionResponse.from(transaction));
+            }
+        });
+        return found;
+    }
+
+    // 보존 기간의 첫 영업일. 이보다 이전 영업일의 키는 만료되어 조회하지 않는다
+    private LocalDate retentionStart() {
+        return BusinessCalendar.today().minusDays(properties.retentionDays());
+    }
+
+    private void cacheCommitted(String idempotencyKey, TransactionResponse response) {
+        filter.put(idempotencyKey);
+        cache.put(idempotencyKey, response);
+    }
+
+    private static double ratio(long count, long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+}
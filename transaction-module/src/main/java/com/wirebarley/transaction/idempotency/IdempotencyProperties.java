@@ -0,0 +1,46 @@
+package com.wirebarley.transaction.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.idempotency")
+public class IdempotencyProperties {
+
+    // 블룸 필터로 확실히 없는 키의 DB 조회를 생략할지 여부
+    private boolean filterEnabled = true;
+
+    // 필터에 넣을 것으로 예상하는 키 수. 넘으면 오탐률이 올라간다 (통계의 estimatedFalsePositiveRate 참고)
+    private long expectedKeys = 1_000_000;
+
+    // 목표 오탐률
+    private double falsePositiveRate = 0.01;
+
+    // 시작 시 필터에 다시 넣을 최근 키의 기간 (보존 기간보다 길면 보존 기간까지). 이보다 오래된 키의 재시도는 키 중복으로 실패한 뒤 DB에서 기존 결과를 찾는다
+    private Duration warmupWindow = Duration.ofHours(24);
+
+    // 멱등성 키 보존 기간. 영업일 단위로 올림해 그 기간의 파티션을 남기며, 지난 키로 재요청하면 새 거래로 처리된다
+    private Duration retention = Duration.ofHours(72);
+
+    // 미리 만들어 둘 다음 영업일 파티션 수 (MySQL 파티션 테이블)
+    private int partitionPrecreateDays = 2;
+
+    // 파티션 생성과 만료 파티션 삭제 주기
+    private Duration retentionCheckInterval = Duration.ofHours(1);
+
+    // 최근 응답 캐시 크기 (LRU). 0이면 캐시하지 않는다
+    private int cacheSize = 10_000;
+
+    // 같은 키로 처리 중인 요청의 결과를 기다리는 최대 시간
+    private Duration inFlightWaitTimeout = Duration.ofSeconds(30);
+
+    // 보존 기간을 덮는 영업일 수 (오늘 제외)
+    public long retentionDays() {
+        long days = retention.toDays();
+        return retention.equals(Duration.ofDays(days)) ? days : days + 1;
+    }
+}
@@ -0,0 +1,107 @@
+package com.wirebarley.transaction.idempotency;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.TransactionResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키별 처리 중 요청 (single-flight).
+ * 같은 키의 요청이 동시에 들어오면 첫 요청만 실행하고, 나머지는 첫 요청의 결과(응답 또는 예외)를 함께 받는다.
+ * 요청 내용(RequestFingerprint)이 다르면 락을 잡기 전에 거절하며, 재시도 응답의 내용이 다를 때도 거절한다.
+ */
+@Component
+public class InFlightRequests {
+
+    private final IdempotencyProperties properties;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public InFlightRequests(IdempotencyProperties properties) {
+        this.properties = properties;
+    }
+
+    public TransactionResponse execute(String idempotencyKey, RequestFingerprint fingerprint,
+                                       Supplier<TransactionResponse> operation) {
+        if (idempotencyKey == null) {
+            return operation.get();
+        }
+
+        InFlight mine = new InFlight(fingerprint);
+        InFlight leader = inFlight.putIfAbsent(idempotencyKey, mine);
+        if (leader != null) {
+            verify(fingerprint, leader.fingerprint);
+            coalesced.increment();
+            return await(leader.result);
+        }
+
+        try {
+            TransactionResponse response = operation.get();
+            if (!fingerprint.matches(response)) {
+                rejected.increment();
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            mine.result.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, mine);
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private void verify(RequestFingerprint fingerprint, RequestFingerprint leader) {
+        if (!fingerprint.equals(leader)) {
+            rejected.increment();
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private TransactionResponse await(CompletableFuture<TransactionResponse> result) {
+        try {
+            return result.get(properties.getInFlightWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.SERVICE_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static class InFlight {
+
+        private final RequestFingerprint fingerprint;
+        private final CompletableFuture<TransactionResponse> result = new CompletableFuture<>();
+
+        InFlight(RequestFingerprint fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.wirebarley.transaction.idempotency;
+
+import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.TransactionResponse;
+import com.wirebarley.transaction.dto.TransferRequest;
+import com.wirebarley.transaction.dto.WithdrawRequest;
+import com.wirebarley.transaction.entity.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 멱등성 키에 묶인 요청 내용 (거래 유형, 계좌, 금액). 같은 키로 다른 내용을 보내면 거절한다.
+ * 금액은 스케일을 정규화하므로 100000과 100000.00은 같은 요청이다.
+ */
+public record RequestFingerprint(TransactionType type, String fromAccountNumber, String toAccountNumber,
+                                 BigDecimal amount) {
+
+    public RequestFingerprint {
+        amount = amount != null ? amount.stripTrailingZeros() : null;
+    }
+
+    public static RequestFingerprint of(DepositRequest request) {
+        return new RequestFingerprint(TransactionType.DEPOSIT, null, request.getAccountNumber(), request.getAmount());
+    }
+
+    public static RequestFingerprint of(WithdrawRequest request) {
+        return new RequestFingerprint(TransactionType.WITHDRAWAL, request.getAccountNumber(), null, request.getAmount());
+    }
+
+    public static RequestFingerprint of(TransferRequest request) {
+        return new RequestFingerprint(TransactionType.TRANSFER_OUT, request.getFromAccountNumber(),
+                request.getToAccountNumber(), request.getAmount());
+    }
+
+    // 기존 거래(재시도 응답)가 이 요청과 같은 내용인지 확인한다
+    public boolean matches(TransactionResponse response) {
+        return response.getType() == type
+                && Objects.equals(response.getFromAccountNumber(), fromAccountNumber)
+                && Objects.equals(response.getToAccountNumber(), toAccountNumber)
+                && response.getAmount() != null && amount != null
+                && response.getAmount().compareTo(amount) == 0;
+    }
+}
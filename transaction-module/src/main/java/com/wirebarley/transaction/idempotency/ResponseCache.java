@@ -0,0 +1,60 @@
+package com.wirebarley.transaction.idempotency;
+
+import com.wirebarley.transaction.dto.TransactionResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 거래 응답 LRU 캐시. 거래 내역은 기록 후 바뀌지 않으므로 만료 없이 크기로만 제한한다.
+ */
+final class ResponseCache {
+
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, TransactionResponse> entries;
+
+    ResponseCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TransactionResponse> eldest) {
+                return size() > ResponseCache.this.capacity;
+            }
+        };
+    }
+
+    TransactionResponse get(String key) {
+        if (capacity <= 0) {
+            return null;
+        }
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(String key, TransactionResponse response) {
+        if (capacity <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.put(key, response);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.wirebarley.transaction.lane;
+
+import com.wirebarley.common.db.ReadConsistencyContext;
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * 계좌번호를 일관된 해시로 고정된 단일 스레드 레인에 배정한다.
+ * 같은 계좌의 요청은 DB에 닿기 전에 메모리에서 직렬화되므로, DB 락은 경합 없이 획득되고
+ * 락 대기 중인 요청이 커넥션 풀을 점유하지 않는다.
+ * 요청의 읽기 일관성 상태를 레인 스레드로 넘기므로 레인에서 커밋한 쓰기도 일관성 토큰을 발급한다.
+ */
+@Slf4j
+@Component
+public class AccountLaneRouter {
+
+    private final boolean enabled;
+    private final List<ExecutorService> lanes = new ArrayList<>();
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+
+    public AccountLaneRouter(TransactionLaneProperties properties) {
+        this.enabled = properties.isEnabled();
+        if (!enabled) {
+            return;
+        }
+
+        for (int lane = 0; lane < properties.getCount(); lane++) {
+            lanes.add(newLane(lane, properties.getQueueCapacity()));
+            for (int node = 0; node < properties.getVirtualNodes(); node++) {
+                ring.put(hash("lane-" + lane + "#" + node), lane);
+            }
+        }
+        log.info("계좌 실행 레인 활성화: lanes={}, queueCapacity={}", properties.getCount(), properties.getQueueCapacity());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int laneOf(String accountNumber) {
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(hash(accountNumber));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    /**
+     * 계좌의 레인에서 작업을 실행하고 결과를 기다린다. 레인이 비활성화되어 있으면 호출 스레드에서 바로 실행한다.
+     */
+    public <T> T execute(String accountNumber, Supplier<T> task) {
+        if (!enabled) {
+            return task.get();
+        }
+        return await(submit(laneOf(accountNumber), task));
+    }
+
+    /**
+     * 두 계좌에 걸친 작업(이체)을 실행한다.
+     * 번호가 낮은 레인이 높은 레인으로 작업을 넘기고 완료를 기다린다. 레인은 항상 자신보다 높은 레인만 기다리므로
+     * 대기 사이클이 생기지 않고, 작업이 실행되는 동안 두 계좌의 레인이 모두 점유된다.
+     */
+    public <T> T execute(String firstAccountNumber, String secondAccountNumber, Supplier<T> task) {
+        if (!enabled) {
+            return task.get();
+        }
+
+        int firstLane = laneOf(firstAccountNumber);
+        int secondLane = laneOf(secondAccountNumber);
+        if (firstLane == secondLane) {
+            return await(submit(firstLane, task));
+        }
+
+        int lowLane = Math.min(firstLane, secondLane);
+        int highLane = Math.max(firstLane, secondLane);
+        return await(submit(lowLane, () -> await(submit(highLane, task))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(ExecutorService::shutdown);
+    }
+
+    private <T> Future<T> submit(int lane, Supplier<T> task) {
+        ReadConsistencyContext.Handoff context = ReadConsistencyContext.capture();
+        try {
+            return lanes.get(lane).submit((Callable<T>) () -> context.call(task));
+        } catch (RejectedExecutionException e) {
+            log.warn("계좌 실행 레인 대기열 초과: lane={}", lane);
+            throw new BusinessException(ErrorCode.SERVICE_BUSY);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static ExecutorService newLane(int lane, int queueCapacity) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "account-lane-" + lane);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private static long hash(String key) {
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
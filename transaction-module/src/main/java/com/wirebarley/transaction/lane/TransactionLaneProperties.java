@@ -0,0 +1,23 @@
+package com.wirebarley.transaction.lane;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.lane")
+public class TransactionLaneProperties {
+
+    // 계좌별 단일 스레드 실행 레인 사용 여부
+    private boolean enabled = false;
+
+    // 레인(단일 스레드 실행기) 수
+    private int count = 16;
+
+    // 해시 링에서 레인 하나가 차지하는 가상 노드 수
+    private int virtualNodes = 64;
+
+    // 레인별 대기열 크기 (초과 시 SERVICE_BUSY)
+    private int queueCapacity = 1000;
+}
@@ -0,0 +1,74 @@
+package com.wirebarley.transaction.lock;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 정책이 고른 락 전략으로 작업을 실행한다.
+ * 낙관적 락 충돌(ObjectOptimisticLockingFailureException)은 지터를 준 지수 백오프 후 재시도하며,
+ * 시도 한도를 넘기면 비관적 락으로 마지막 시도를 한다. 작업은 트랜잭션 경계 바깥에서 호출되어야 한다.
+ * 락 대기 시간 초과나 데드락 희생(PessimisticLockingFailureException)도 트랜잭션이 롤백된 것이므로
+ * 같은 방식으로 재시도하고, 비관적 락 시도는 시도 한도까지 백오프 후 다시 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountLockExecutor {
+
+    private final AccountLockPolicy accountLockPolicy;
+    private final AccountLockProperties properties;
+
+    public <T> T execute(List<String> accountNumbers, Function<AccountLockStrategy, T> operation) {
+        if (accountLockPolicy.strategyFor(accountNumbers) == AccountLockStrategy.PESSIMISTIC) {
+            return executePessimistic(accountNumbers, operation);
+        }
+
+        for (int attempt = 1; attempt < properties.getMaxAttempts(); attempt++) {
+            try {
+                T result = operation.apply(AccountLockStrategy.OPTIMISTIC);
+                accountLockPolicy.recordSuccess(accountNumbers);
+                return result;
+            } catch (ObjectOptimisticLockingFailureException | PessimisticLockingFailureException e) {
+                accountLockPolicy.recordConflict(accountNumbers);
+                log.debug("낙관적 락 충돌: accounts={}, attempt={}, cause={}",
+                        accountNumbers, attempt, e.getClass().getSimpleName());
+                backoff(attempt);
+            }
+        }
+        return executePessimistic(accountNumbers, operation);
+    }
+
+    private <T> T executePessimistic(List<String> accountNumbers, Function<AccountLockStrategy, T> operation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.apply(AccountLockStrategy.PESSIMISTIC);
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    throw e;
+                }
+                log.debug("비관적 락 실패: accounts={}, attempt={}, cause={}",
+                        accountNumbers, attempt, e.getClass().getSimpleName());
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long bound = properties.getBackoffBaseMillis() << (attempt - 1);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
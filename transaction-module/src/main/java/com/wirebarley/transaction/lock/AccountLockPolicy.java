@@ -0,0 +1,142 @@
+package com.wirebarley.transaction.lock;
+
+import com.wirebarley.transaction.dto.AccountLockStatsResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌별 낙관적 락 충돌률을 관찰해 락 전략을 결정한다.
+ * 충돌이 드문 계좌는 락 없이 처리하고, 충돌률이 임계치를 넘은 계좌만 일정 시간 비관적 락으로 전환한다.
+ */
+@Component
+public class AccountLockPolicy {
+
+    private final AccountLockProperties properties;
+    private final ConcurrentHashMap<String, LockStats> statsByAccount = new ConcurrentHashMap<>();
+
+    public AccountLockPolicy(AccountLockProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 작업에 사용할 전략. 여러 계좌에 걸친 작업은 하나라도 비관적 락이면 비관적 락을 사용한다.
+     */
+    public AccountLockStrategy strategyFor(Collection<String> accountNumbers) {
+        return switch (properties.getMode()) {
+            case PESSIMISTIC -> AccountLockStrategy.PESSIMISTIC;
+            case OPTIMISTIC -> AccountLockStrategy.OPTIMISTIC;
+            case ADAPTIVE -> accountNumbers.stream()
+                    .anyMatch(accountNumber -> currentStrategy(accountNumber) == AccountLockStrategy.PESSIMISTIC)
+                    ? AccountLockStrategy.PESSIMISTIC : AccountLockStrategy.OPTIMISTIC;
+        };
+    }
+
+    public void recordSuccess(Collection<String> accountNumbers) {
+        accountNumbers.forEach(accountNumber -> stats(accountNumber).record(false));
+    }
+
+    public void recordConflict(Collection<String> accountNumbers) {
+        accountNumbers.forEach(accountNumber -> stats(accountNumber).record(true));
+    }
+
+    public Optional<AccountLockStatsResponse> getStats(String accountNumber) {
+        return Optional.ofNullable(statsByAccount.get(accountNumber))
+                .map(stats -> stats.toResponse(accountNumber));
+    }
+
+    // 충돌률이 높은 순
+    public List<AccountLockStatsResponse> getTopStats(int limit) {
+        return statsByAccount.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparingDouble(AccountLockStatsResponse::getConflictRate).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private AccountLockStrategy currentStrategy(String accountNumber) {
+        LockStats stats = statsByAccount.get(accountNumber);
+        return stats != null ? stats.strategy() : AccountLockStrategy.OPTIMISTIC;
+    }
+
+    private LockStats stats(String accountNumber) {
+        if (statsByAccount.size() >= properties.getMaxTrackedAccounts() && !statsByAccount.containsKey(accountNumber)) {
+            evictColdAccounts();
+        }
+        return statsByAccount.computeIfAbsent(accountNumber, key -> new LockStats());
+    }
+
+    // 낙관적 락으로 충돌 없이 처리되고 있는 계좌의 통계를 버린다
+    private void evictColdAccounts() {
+        statsByAccount.values().removeIf(stats -> stats.strategy() == AccountLockStrategy.OPTIMISTIC
+                && stats.conflictRate < properties.getEscalateThreshold() / 2);
+    }
+
+    private class LockStats {
+
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        // 요청 경로에서 호출되므로 가상 스레드 고정을 피하도록 synchronized 대신 사용
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile double conflictRate;
+        private volatile long pessimisticSince;
+
+        void record(boolean conflict) {
+            attempts.increment();
+            if (conflict) {
+                conflicts.increment();
+            }
+            lock.lock();
+            try {
+                double alpha = properties.getConflictRateAlpha();
+                conflictRate = conflictRate * (1 - alpha) + (conflict ? alpha : 0);
+                if (pessimisticSince == 0 && conflictRate >= properties.getEscalateThreshold()) {
+                    pessimisticSince = System.currentTimeMillis();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        AccountLockStrategy strategy() {
+            long since = pessimisticSince;
+            if (since == 0) {
+                return AccountLockStrategy.OPTIMISTIC;
+            }
+            if (System.currentTimeMillis() - since < properties.getPessimisticHoldMillis()) {
+                return AccountLockStrategy.PESSIMISTIC;
+            }
+            relax();
+            return AccountLockStrategy.OPTIMISTIC;
+        }
+
+        // 유지 시간이 지나면 충돌률을 임계치 절반으로 낮춰 낙관적 락을 다시 시도한다
+        private void relax() {
+            lock.lock();
+            try {
+                if (pessimisticSince != 0) {
+                    pessimisticSince = 0;
+                    conflictRate = properties.getEscalateThreshold() / 2;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        AccountLockStatsResponse toResponse(String accountNumber) {
+            return AccountLockStatsResponse.builder()
+                    .accountNumber(accountNumber)
+                    .strategy(strategy())
+                    .attempts(attempts.sum())
+                    .conflicts(conflicts.sum())
+                    .conflictRate(conflictRate)
+                    .build();
+        }
+    }
+}
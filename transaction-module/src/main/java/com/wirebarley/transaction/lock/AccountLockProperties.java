@@ -0,0 +1,40 @@
+package com.wirebarley.transaction.lock;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.lock")
+public class AccountLockProperties {
+
+    public enum Mode {
+        PESSIMISTIC,  // 항상 비관적 락
+        OPTIMISTIC,   // 항상 낙관적 락 (재시도 한도 초과 시 비관적 락으로 마지막 시도)
+        ADAPTIVE      // 계좌별 충돌률에 따라 전환
+    }
+
+    private Mode mode = Mode.PESSIMISTIC;
+
+    // 최대 시도 횟수 (마지막 시도는 비관적 락)
+    private int maxAttempts = 3;
+
+    // 재시도 대기 기본값 (시도마다 2배, 0 ~ 상한 사이 무작위)
+    private long backoffBaseMillis = 5;
+
+    // 충돌률(지수 이동 평균) 반영 비율
+    private double conflictRateAlpha = 0.2;
+
+    // 이 충돌률 이상이면 비관적 락으로 전환
+    private double escalateThreshold = 0.3;
+
+    // 비관적 락 유지 시간. 지나면 낙관적 락을 다시 시도한다
+    private long pessimisticHoldMillis = 30_000;
+
+    // 통계를 유지할 최대 계좌 수
+    private int maxTrackedAccounts = 10_000;
+
+    // 이체 시 두 계좌를 한 번의 쿼리로 잠근다 (false면 계좌별로 순서대로 잠근다)
+    private boolean singleQueryTransferLock = true;
+}
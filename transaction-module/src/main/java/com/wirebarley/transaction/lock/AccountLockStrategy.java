@@ -0,0 +1,6 @@
+package com.wirebarley.transaction.lock;
+
+public enum AccountLockStrategy {
+    OPTIMISTIC,   // 락 없이 읽고 @Version 으로 충돌 감지 후 재시도
+    PESSIMISTIC   // SELECT ... FOR UPDATE
+}
@@ -0,0 +1,22 @@
+package com.wirebarley.transaction.lock;
+
+import com.wirebarley.transaction.entity.TransactionType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.atomic-update")
+public class AtomicUpdateProperties {
+
+    // 조건부 UPDATE 한 문장으로 잔액을 갱신할 거래 유형 (DEPOSIT, WITHDRAWAL)
+    private Set<TransactionType> operations = EnumSet.noneOf(TransactionType.class);
+
+    public boolean isEnabled(TransactionType type) {
+        return operations.contains(type);
+    }
+}
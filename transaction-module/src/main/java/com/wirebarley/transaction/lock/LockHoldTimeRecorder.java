@@ -0,0 +1,102 @@
+package com.wirebarley.transaction.lock;
+
+import com.wirebarley.transaction.dto.LockHoldTimeResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 보유 시간 측정. 첫 번째 락을 획득한 시점부터 트랜잭션이 끝나 락이 풀리는 시점까지를 작업별로 기록한다.
+ * 분포는 마이크로초 단위 2의 거듭제곱 구간 히스토그램으로 유지하며, 백분위는 구간 상한으로 근사한다.
+ */
+@Component
+public class LockHoldTimeRecorder {
+
+    private static final int BUCKET_COUNT = 36;
+
+    private final ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * 락을 획득한 직후 호출한다. 현재 트랜잭션이 완료될 때 보유 시간이 기록된다.
+     */
+    public void lockAcquired(String operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                record(operation, System.nanoTime() - startedAt);
+            }
+        });
+    }
+
+    public void record(String operation, long elapsedNanos) {
+        histograms.computeIfAbsent(operation, key -> new Histogram()).record(elapsedNanos / 1_000);
+    }
+
+    public List<LockHoldTimeResponse> getStats() {
+        return histograms.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparing(LockHoldTimeResponse::getOperation))
+                .toList();
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    private static class Histogram {
+
+        private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+        Histogram() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        // i번째 구간은 [2^(i-1), 2^i) 마이크로초
+        void record(long micros) {
+            int bucket = Math.min(64 - Long.numberOfLeadingZeros(Math.max(micros, 0)), BUCKET_COUNT - 1);
+            buckets[bucket].increment();
+            count.increment();
+            totalMicros.add(micros);
+            maxMicros.accumulate(micros);
+        }
+
+        long percentileMicros(double percentile, long total) {
+            long threshold = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets[i].sum();
+                if (seen >= threshold) {
+                    return Math.min(1L << i, maxMicros.get());
+                }
+            }
+            return maxMicros.get();
+        }
+
+        LockHoldTimeResponse toResponse(String operation) {
+            long total = count.sum();
+            return LockHoldTimeResponse.builder()
+                    .operation(operation)
+                    .count(total)
+                    .meanMillis(total == 0 ? 0 : totalMicros.sum() / 1_000.0 / total)
+                    .p50Millis(percentileMicros(0.50, total) / 1_000.0)
+                    .p99Millis(percentileMicros(0.99, total) / 1_000.0)
+                    .maxMillis(maxMicros.get() / 1_000.0)
+                    .build();
+        }
+    }
+}
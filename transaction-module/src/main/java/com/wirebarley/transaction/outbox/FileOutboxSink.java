@@ -0,0 +1,38 @@
+package com.wirebarley.transaction.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 메시지 payload를 한 줄씩 NDJSON 파일에 추가하는 로컬용 싱크.
+ * 묶음 단위로 한 번에 쓰고 디스크에 동기화한 뒤 반환한다.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+
+    public FileOutboxSink(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        StringBuilder lines = new StringBuilder();
+        messages.forEach(message -> lines.append(message.getPayload()).append('\n'));
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE,
+                    StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아웃박스 파일 기록 실패: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.wirebarley.transaction.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 아웃박스 행. 거래 내역과 같은 DB 트랜잭션에서 기록되고, 릴레이가 발행한 뒤 삭제한다.
+ * 쓰기와 릴레이는 배치 처리를 위해 OutboxRepository(JDBC)로 수행하며, 이 엔티티는 테이블 정의를 담당한다.
+ */
+@Entity
+@Table(name = "transaction_outbox", indexes = {
+        @Index(name = "idx_outbox_partition_seq", columnList = "partition_no, account_id, account_seq")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    private Long id;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_seq", nullable = false)
+    private long accountSeq;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
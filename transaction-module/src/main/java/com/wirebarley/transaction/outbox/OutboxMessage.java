@@ -0,0 +1,23 @@
+package com.wirebarley.transaction.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크로 발행되는 아웃박스 메시지. payload는 TransactionEvent의 JSON이다.
+ */
+@Getter
+@Builder
+public class OutboxMessage {
+
+    private Long id;
+    private Long accountId;
+    // 계좌별 발행 순서 (1부터 증가, 커밋 순서와 같음)
+    private Long accountSeq;
+    private Long transactionId;
+    private String eventType;
+    private String payload;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.wirebarley.transaction.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 파티션 임대 행. 릴레이는 이 행을 SELECT ... FOR UPDATE SKIP LOCKED로 잠근 동안에만
+ * 해당 파티션의 이벤트를 발행하므로, 여러 인스턴스가 동시에 돌아도 파티션(계좌)별 발행 순서가 유지된다.
+ */
+@Entity
+@Table(name = "transaction_outbox_partitions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxPartition {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_relayed_at")
+    private LocalDateTime lastRelayedAt;
+}
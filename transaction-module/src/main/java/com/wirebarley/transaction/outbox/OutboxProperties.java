@@ -0,0 +1,38 @@
+package com.wirebarley.transaction.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.outbox")
+public class OutboxProperties {
+
+    public enum SinkType {
+        MEMORY,  // 프로세스 메모리 (로컬/테스트용)
+        FILE     // NDJSON 파일에 추가
+    }
+
+    // 거래 저장 시 아웃박스 기록 및 릴레이 실행 여부
+    private boolean enabled = false;
+
+    private SinkType sink = SinkType.MEMORY;
+
+    // FILE 싱크 출력 파일
+    private String filePath = "outbox/transactions.ndjson";
+
+    // MEMORY 싱크가 보관하는 최대 메시지 수 (초과 시 오래된 것부터 버림)
+    private int memoryCapacity = 10_000;
+
+    // 계좌 ID 기준 파티션 수. 파티션 하나는 한 번에 한 릴레이만 처리하므로 계좌별 순서가 보장된다
+    private int partitions = 16;
+
+    // 한 번에 발행할 최대 이벤트 수
+    private int batchSize = 500;
+
+    // 파티션이 비었을 때 다음 조회까지 대기 시간
+    private long pollIntervalMillis = 100;
+
+    private int relayThreads = 2;
+}
@@ -0,0 +1,165 @@
+package com.wirebarley.transaction.outbox;
+
+import com.wirebarley.transaction.dto.OutboxStatsResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아웃박스 릴레이. 파티션 임대 행을 SKIP LOCKED로 잡은 파티션의 이벤트를 계좌 시퀀스 순서대로 묶어 싱크에 발행하고 삭제한다.
+ * 발행과 삭제는 한 트랜잭션이므로 싱크 오류 시 묶음이 남아 다음 주기에 다시 발행된다 (at-least-once).
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink outboxSink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService scheduler;
+    private final Stats stats = new Stats();
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       OutboxSink outboxSink,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.outboxSink = outboxSink;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduler = properties.isEnabled()
+                ? Executors.newScheduledThreadPool(properties.getRelayThreads(), daemon("outbox-relay")) : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (scheduler == null) {
+            return;
+        }
+        outboxRepository.ensurePartitions(properties.getPartitions());
+        for (int worker = 0; worker < properties.getRelayThreads(); worker++) {
+            int offset = worker * properties.getPartitions() / properties.getRelayThreads();
+            scheduler.scheduleWithFixedDelay(() -> relayRound(offset),
+                    properties.getPollIntervalMillis(), properties.getPollIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * 모든 파티션을 한 바퀴 돌며 비울 때까지 발행한다. 작업자마다 시작 파티션을 달리해 경합을 줄인다.
+     * 발행한 이벤트 수를 반환한다.
+     */
+    public int relayRound(int offset) {
+        int published = 0;
+        for (int i = 0; i < properties.getPartitions(); i++) {
+            int partition = (offset + i) % properties.getPartitions();
+            try {
+                int count;
+                do {
+                    count = relayBatch(partition);
+                    published += count;
+                } while (count == properties.getBatchSize());
+            } catch (RuntimeException e) {
+                log.warn("아웃박스 발행 실패: partition={}, cause={}", partition, e.getMessage());
+            }
+        }
+        return published;
+    }
+
+    public OutboxStatsResponse getStats() {
+        return stats.toResponse(outboxRepository.countPending());
+    }
+
+    private int relayBatch(int partition) {
+        long startedAt = System.nanoTime();
+        List<OutboxMessage> batch = transactionTemplate.execute(status -> {
+            if (outboxRepository.lockPartition(partition).isEmpty()) {
+                return List.of();
+            }
+            List<OutboxMessage> messages = outboxRepository.findBatch(partition, properties.getBatchSize());
+            if (messages.isEmpty()) {
+                return messages;
+            }
+            outboxSink.publish(messages);
+            outboxRepository.deleteAll(messages);
+            outboxRepository.markRelayed(partition, LocalDateTime.now());
+            return messages;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        stats.record(batch, System.nanoTime() - startedAt);
+        return batch.size();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 묶음별 처리량과 지연. 지연은 묶음에서 가장 오래된 이벤트의 생성 시각부터 발행 완료까지의 시간이다.
+     */
+    private static class Stats {
+
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder events = new LongAdder();
+        private final AtomicLong lastBatchSize = new AtomicLong();
+        private final AtomicLong lastBatchMicros = new AtomicLong();
+        private final AtomicLong lastLagMillis = new AtomicLong();
+        private final LongAccumulator maxLagMillis = new LongAccumulator(Math::max, 0);
+
+        void record(List<OutboxMessage> batch, long elapsedNanos) {
+            LocalDateTime now = LocalDateTime.now();
+            long lag = batch.stream()
+                    .mapToLong(message -> Duration.between(message.getCreatedAt(), now).toMillis())
+                    .max()
+                    .orElse(0);
+            batches.increment();
+            events.add(batch.size());
+            lastBatchSize.set(batch.size());
+            lastBatchMicros.set(elapsedNanos / 1_000);
+            lastLagMillis.set(lag);
+            maxLagMillis.accumulate(lag);
+        }
+
+        OutboxStatsResponse toResponse(long pending) {
+            long micros = lastBatchMicros.get();
+            return OutboxStatsResponse.builder()
+                    .batches(batches.sum())
+                    .publishedEvents(events.sum())
+                    .pendingEvents(pending)
+                    .lastBatchSize(lastBatchSize.get())
+                    .lastBatchMillis(micros / 1_000.0)
+                    .lastBatchEventsPerSecond(micros == 0 ? 0 : lastBatchSize.get() * 1_000_000.0 / micros)
+                    .lastLagMillis(lastLagMillis.get())
+                    .maxLagMillis(maxLagMillis.get())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.wirebarley.transaction.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 아웃박스 JDBC 저장소. 호출한 쪽의 트랜잭션(같은 커넥션)에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO transaction_outbox " +
+            "(id, partition_no, account_id, account_seq, transaction_id, event_type, payload, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String NEXT_SEQUENCE_SQL = "INSERT INTO transaction_outbox_sequences " +
+            "(account_id, last_seq) VALUES (?, ?) ON DUPLICATE KEY UPDATE last_seq = last_seq + ?";
+
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> OutboxMessage.builder()
+            .id(rs.getLong("id"))
+            .accountId(rs.getLong("account_id"))
+            .accountSeq(rs.getLong("account_seq"))
+            .transactionId(rs.getLong("transaction_id"))
+            .eventType(rs.getString("event_type"))
+            .payload(rs.getString("payload"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<OutboxMessage> messages, int partitions) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.getId());
+            ps.setInt(2, (int) Math.floorMod(message.getAccountId(), (long) partitions));
+            ps.setLong(3, message.getAccountId());
+            ps.setLong(4, message.getAccountSeq());
+            ps.setLong(5, message.getTransactionId());
+            ps.setString(6, message.getEventType());
+            ps.setString(7, message.getPayload());
+            ps.setTimestamp(8, Timestamp.valueOf(message.getCreatedAt()));
+        });
+    }
+
+    /**
+     * 계좌 시퀀스를 count만큼 올리고 마지막 번호를 반환한다. 행이 없으면 만든다.
+     * 시퀀스 행의 배타 락은 트랜잭션이 끝날 때까지 유지되므로 다음 번호는 이 트랜잭션이 커밋된 뒤에야 발급된다.
+     */
+    public long nextSequence(Long accountId, int count) {
+        jdbcTemplate.update(NEXT_SEQUENCE_SQL, accountId, count, count);
+        Long last = jdbcTemplate.queryForObject(
+                "SELECT last_seq FROM transaction_outbox_sequences WHERE account_id = ?", Long.class, accountId);
+        return last != null ? last : count;
+    }
+
+    /**
+     * 파티션 임대 행을 잠근다. 다른 릴레이가 잡고 있으면 기다리지 않고 빈 값을 반환한다.
+     */
+    public Optional<Integer> lockPartition(int partition) {
+        return jdbcTemplate.queryForList(
+                        "SELECT id FROM transaction_outbox_partitions WHERE id = ? FOR UPDATE SKIP LOCKED",
+                        Integer.class, partition)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 임대 행을 잠근 상태에서 호출하므로 잠금 없이 계좌 시퀀스 순서대로 읽는다.
+     * 시퀀스는 커밋 순서대로 발급되므로, 아직 커밋되지 않은 앞 번호를 건너뛰고 뒷 번호를 읽는 일이 없다.
+     */
+    public List<OutboxMessage> findBatch(int partition, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, account_id, account_seq, transaction_id, event_type, payload, created_at " +
+                        "FROM transaction_outbox WHERE partition_no = ? ORDER BY account_id, account_seq LIMIT ?",
+                MESSAGE_MAPPER, partition, limit);
+    }
+
+    public void deleteAll(List<OutboxMessage> messages) {
+        jdbcTemplate.batchUpdate("DELETE FROM transaction_outbox WHERE id = ?", messages, messages.size(),
+                (ps, message) -> ps.setLong(1, message.getId()));
+    }
+
+    public void markRelayed(int partition, LocalDateTime relayedAt) {
+        jdbcTemplate.update("UPDATE transaction_outbox_partitions SET last_relayed_at = ? WHERE id = ?",
+                Timestamp.valueOf(relayedAt), partition);
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_outbox", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 없는 파티션 임대 행을 만든다. 여러 인스턴스가 동시에 만들어도 중복 키는 무시한다.
+     */
+    public void ensurePartitions(int partitions) {
+        List<Integer> existing = jdbcTemplate.queryForList("SELECT id FROM transaction_outbox_partitions", Integer.class);
+        for (int partition = 0; partition < partitions; partition++) {
+            if (existing.contains(partition)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.update("INSERT INTO transaction_outbox_partitions (id) VALUES (?)", partition);
+            } catch (DuplicateKeyException ignored) {
+                // 다른 인스턴스가 먼저 생성
+            }
+        }
+    }
+}
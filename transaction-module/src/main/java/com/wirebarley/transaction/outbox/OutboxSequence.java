@@ -0,0 +1,25 @@
+package com.wirebarley.transaction.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계좌별 아웃박스 시퀀스 행. 거래 트랜잭션이 INSERT ... ON DUPLICATE KEY UPDATE로 번호를 받고,
+ * 커밋할 때까지 이 행의 배타 락을 쥐므로 같은 계좌의 시퀀스 순서가 커밋 순서와 같다.
+ * 쓰기는 OutboxRepository(JDBC)로 수행하며, 이 엔티티는 테이블 정의를 담당한다.
+ */
+@Entity
+@Table(name = "transaction_outbox_sequences")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxSequence {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
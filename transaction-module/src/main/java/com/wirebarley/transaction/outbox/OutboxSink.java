@@ -0,0 +1,12 @@
+package com.wirebarley.transaction.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 메시지 발행 대상. 메시지는 파티션(계좌)별 생성 순서대로 전달된다.
+ * 예외를 던지면 묶음 전체가 롤백되어 다음 주기에 다시 발행된다 (at-least-once).
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,84 @@
+package com.wirebarley.transaction.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.common.id.TimeOrderedIds;
+import com.wirebarley.transaction.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 저장한 거래를 아웃박스에 기록한다. 거래 저장과 같은 DB 트랜잭션 안에서 호출해야 한다.
+ * 아웃박스 ID(시간 순서 ID)는 노드 간 시계 차이가 있거나, 분산 잔액 계좌 입금처럼 공유 락만 잡는 거래가
+ * 동시에 기록되면 커밋 순서와 어긋날 수 있다. 그래서 발행 순서는 계좌별 시퀀스 행에서 받은 번호로 정한다.
+ * 시퀀스 행은 커밋까지 잠겨 있으므로, 분산 잔액 계좌 입금도 아웃박스를 켜면 이 행에서 한 건씩 직렬화된다.
+ * 시퀀스 행은 계좌 락을 잡은 뒤에 잡고, 한 번에 여러 계좌를 기록할 때는 계좌 ID 순서로 잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+
+    // JPA로 저장한 거래 (ID와 생성 시각이 엔티티에 채워져 있다)
+    public void append(Transaction transaction) {
+        append(List.of(transaction), List.of(transaction.getId()), transaction.getCreatedAt());
+    }
+
+    // JDBC 배치로 저장한 거래 (ID는 저장소가 발급한 값)
+    public void append(List<Transaction> transactions, List<Long> ids, LocalDateTime createdAt) {
+        if (!properties.isEnabled() || transactions.isEmpty()) {
+            return;
+        }
+        LocalDateTime occurredAt = createdAt != null ? createdAt : LocalDateTime.now();
+        Map<Long, Long> nextSeqByAccount = reserveSequences(transactions);
+
+        List<OutboxMessage> messages = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            Long accountId = transaction.getOwnerAccount().getId();
+            long accountSeq = nextSeqByAccount.merge(accountId, 1L, Long::sum) - 1;
+            messages.add(OutboxMessage.builder()
+                    .id(TimeOrderedIds.next())
+                    .accountId(accountId)
+                    .accountSeq(accountSeq)
+                    .transactionId(ids.get(i))
+                    .eventType(transaction.getType().name())
+                    .payload(toJson(TransactionEvent.of(transaction, ids.get(i), occurredAt)))
+                    .createdAt(occurredAt)
+                    .build());
+        }
+        outboxRepository.insertAll(messages, properties.getPartitions());
+    }
+
+    // 계좌별로 필요한 만큼 시퀀스를 받아 계좌별 첫 번호를 반환한다 (계좌 ID 순서로 락을 잡는다)
+    private Map<Long, Long> reserveSequences(List<Transaction> transactions) {
+        Map<Long, Integer> countByAccount = new TreeMap<>();
+        transactions.forEach(transaction ->
+                countByAccount.merge(transaction.getOwnerAccount().getId(), 1, Integer::sum));
+
+        Map<Long, Long> firstSeqByAccount = new HashMap<>();
+        countByAccount.forEach((accountId, count) ->
+                firstSeqByAccount.put(accountId, outboxRepository.nextSequence(accountId, count) - count + 1));
+        return firstSeqByAccount;
+    }
+
+    private String toJson(TransactionEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.wirebarley.transaction.outbox;
+
+import com.wirebarley.transaction.entity.Transaction;
+import com.wirebarley.transaction.entity.TransactionStatus;
+import com.wirebarley.transaction.entity.TransactionType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 하위 시스템(알림, 회계, 이상거래 탐지)으로 전달되는 거래 이벤트.
+ * 계좌 프록시를 초기화하지 않도록 계좌는 ID로만 담는다.
+ */
+@Getter
+@Builder
+public class TransactionEvent {
+
+    private Long transactionId;
+    private TransactionType type;
+    private Long ownerAccountId;
+    private Long fromAccountId;
+    private Long toAccountId;
+    private BigDecimal amount;
+    private BigDecimal fee;
+    private BigDecimal balanceAfter;
+    private TransactionStatus status;
+    private LocalDateTime occurredAt;
+
+    public static TransactionEvent of(Transaction transaction, Long transactionId, LocalDateTime occurredAt) {
+        return TransactionEvent.builder()
+                .transactionId(transactionId)
+                .type(transaction.getType())
+                .ownerAccountId(transaction.getOwnerAccount().getId())
+                .fromAccountId(transaction.getFromAccount() != null ? transaction.getFromAccount().getId() : null)
+                .toAccountId(transaction.getToAccount() != null ? transaction.getToAccount().getId() : null)
+                .amount(transaction.getAmount())
+                .fee(transaction.getFee())
+                .balanceAfter(transaction.getBalanceAfter())
+                .status(transaction.getStatus())
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.wirebarley.transaction.repository;
+
+import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 일일 사용량 JDBC 저장소. 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountDailyUsageRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO account_daily_usage " +
+            "(account_id, type, business_date, amount, updated_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE amount = amount + ?, updated_at = ?";
+
+    private static final String REBUILD_SQL = "INSERT INTO account_daily_usage " +
+            "(account_id, type, business_date, amount, updated_at) " +
+            "SELECT t.owner_account_id, t.type, CAST(? AS DATE), SUM(t.amount), CAST(? AS DATETIME) FROM transactions t " +
+            "WHERE t.status = 'SUCCESS' AND t.type IN ('WITHDRAWAL', 'TRANSFER_OUT') " +
+            "AND t.created_at >= ? AND t.created_at < ? " +
+            "GROUP BY t.owner_account_id, t.type " +
+            "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), updated_at = VALUES(updated_at)";
+
+    private static final String REBUILD_LEASES_SQL = "INSERT INTO account_daily_usage " +
+            "(account_id, type, business_date, amount, updated_at) " +
+            "SELECT l.account_id, l.type, l.business_date, SUM(l.amount), CAST(? AS DATETIME) " +
+            "FROM account_quota_leases l WHERE l.business_date = ? AND l.expires_at > ? " +
+            "GROUP BY l.account_id, l.type, l.business_date " +
+            "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용량에 금액을 더하고 누적값을 반환한다. 행이 없으면 만든다.
+     * 행에 배타 락이 걸리므로 금액 0으로 호출하면 최신 사용량을 잠그고 읽는다.
+     */
+    public BigDecimal addAndGet(Long accountId, TransactionType type, LocalDate businessDate, BigDecimal amount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(UPSERT_SQL,
+                accountId, type.name(), Date.valueOf(businessDate), amount, now, amount, now);
+        return jdbcTemplate.queryForObject(
+                "SELECT amount FROM account_daily_usage WHERE account_id = ? AND type = ? AND business_date = ?",
+                BigDecimal.class, accountId, type.name(), Date.valueOf(businessDate));
+    }
+
+    /**
+     * 거래 내역으로부터 영업일의 사용량을 다시 계산한다. 갱신한 행 수를 반환한다.
+     * 기존 행을 먼저 삭제(잠금)하므로 재계산 중 들어온 거래의 사용량은 재계산이 끝난 뒤 그 위에 더해진다.
+     * 노드가 임대 중인 한도는 사용분이 거래 내역과 겹치더라도 전액 더한다 (전체 한도를 넘지 않는 쪽으로 보수적).
+     * 만료된 임대의 사용분은 이미 거래 내역에 있으므로 제외한다.
+     */
+    public int rebuild(LocalDate businessDate) {
+        Date date = Date.valueOf(businessDate);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("DELETE FROM account_daily_usage WHERE business_date = ?", date);
+        int rows = jdbcTemplate.update(REBUILD_SQL,
+                date,
+                now,
+                Timestamp.valueOf(BusinessCalendar.startOf(businessDate)),
+                Timestamp.valueOf(BusinessCalendar.startOf(businessDate.plusDays(1))));
+        return rows + jdbcTemplate.update(REBUILD_LEASES_SQL, now, date, now);
+    }
+}
@@ -0,0 +1,39 @@
+package com.wirebarley.transaction.repository;
+
+import com.wirebarley.transaction.entity.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 노드별 한도 임대 JDBC 저장소. 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountQuotaLeaseRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO account_quota_leases " +
+            "(node_id, account_id, type, business_date, amount, expires_at) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE amount = ?, expires_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(int nodeId, Long accountId, TransactionType type, LocalDate businessDate,
+                     BigDecimal amount, LocalDateTime expiresAt) {
+        Timestamp expires = Timestamp.valueOf(expiresAt);
+        jdbcTemplate.update(UPSERT_SQL,
+                nodeId, accountId, type.name(), Date.valueOf(businessDate), amount, expires, amount, expires);
+    }
+
+    public void delete(int nodeId, Long accountId, TransactionType type, LocalDate businessDate) {
+        jdbcTemplate.update("DELETE FROM account_quota_leases " +
+                        "WHERE node_id = ? AND account_id = ? AND type = ? AND business_date = ?",
+                nodeId, accountId, type.name(), Date.valueOf(businessDate));
+    }
+}
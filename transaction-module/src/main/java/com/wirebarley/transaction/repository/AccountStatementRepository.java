@@ -0,0 +1,151 @@
+package com.wirebarley.transaction.repository;
+
+import com.wirebarley.transaction.entity.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+/**
+ * 월간 거래명세서 JDBC 저장소. 명세서 생성 작업은 계좌 ID 범위 단위로 집계하고 기록한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountStatementRepository {
+
+    private static final int ACCOUNT_ID_FETCH_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO account_statements " +
+            "(account_id, statement_month, opening_balance, deposit_total, withdrawal_total, transfer_in_total, " +
+            "transfer_out_total, fee_total, closing_balance, transaction_count, generated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // 계좌 잔액에 더해지는 금액. 이체 출금은 수수료까지 빠져나간다
+    static final String NET_AMOUNT = "CASE WHEN type IN ('DEPOSIT', 'TRANSFER_IN') THEN amount " +
+            "ELSE -(amount + COALESCE(fee, 0)) END";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 명세서 대상 계좌(createdBefore 전에 만든 계좌)의 ID를 순서대로 넘긴다. 결과를 모으지 않는다
+    public void forEachAccountId(LocalDateTime createdBefore, LongConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "SELECT id FROM accounts WHERE created_at < ? ORDER BY id");
+            ps.setFetchSize(ACCOUNT_ID_FETCH_SIZE);
+            ps.setTimestamp(1, Timestamp.valueOf(createdBefore));
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1)));
+    }
+
+    public List<Long> findAccountIds(long startId, long endId, LocalDateTime createdBefore) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM accounts WHERE id BETWEEN ? AND ? AND created_at < ? ORDER BY id",
+                Long.class, startId, endId, Timestamp.valueOf(createdBefore));
+    }
+
+    // 범위 안 계좌들의 지정한 달 명세서 마감 잔액
+    public Map<Long, BigDecimal> findClosingBalances(LocalDate statementMonth, long startId, long endId) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT account_id, closing_balance FROM account_statements " +
+                        "WHERE statement_month = ? AND account_id BETWEEN ? AND ?",
+                (RowCallbackHandler) rs -> balances.put(rs.getLong(1), rs.getBigDecimal(2)),
+                Date.valueOf(statementMonth), startId, endId);
+        return balances;
+    }
+
+    // before 이전의 모든 거래로 계산한 잔액. 이전 달 명세서가 없는 계좌의 기초 잔액에 쓴다
+    public Map<Long, BigDecimal> sumBalancesBefore(long startId, long endId, LocalDateTime before) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT owner_account_id, SUM(" + NET_AMOUNT + ") FROM transactions " +
+                        "WHERE owner_account_id BETWEEN ? AND ? AND created_at < ? AND status = 'SUCCESS' " +
+                        "GROUP BY owner_account_id",
+                (RowCallbackHandler) rs -> balances.put(rs.getLong(1), rs.getBigDecimal(2)),
+                startId, endId, Timestamp.valueOf(before));
+        return balances;
+    }
+
+    // [from, to) 기간 거래를 계좌, 유형별로 합산한다
+    public List<TypeTotal> sumByType(long startId, long endId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+                "SELECT owner_account_id, type, SUM(amount), SUM(COALESCE(fee, 0)), COUNT(*) FROM transactions " +
+                        "WHERE owner_account_id BETWEEN ? AND ? AND created_at >= ? AND created_at < ? " +
+                        "AND status = 'SUCCESS' GROUP BY owner_account_id, type",
+                (rs, rowNum) -> new TypeTotal(
+                        rs.getLong(1),
+                        TransactionType.valueOf(rs.getString(2)),
+                        rs.getBigDecimal(3),
+                        rs.getBigDecimal(4),
+                        rs.getInt(5)),
+                startId, endId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 범위 안 계좌의 명세서를 새로 쓴다. 중단 후 다시 처리해도 결과가 같다.
+     */
+    public void replaceAll(LocalDate statementMonth, long startId, long endId, List<AccountStatementRow> rows) {
+        jdbcTemplate.update("DELETE FROM account_statements WHERE statement_month = ? AND account_id BETWEEN ? AND ?",
+                Date.valueOf(statementMonth), startId, endId);
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AccountStatementRow row = rows.get(i);
+                ps.setLong(1, row.accountId());
+                ps.setDate(2, Date.valueOf(row.statementMonth()));
+                ps.setBigDecimal(3, row.openingBalance());
+                ps.setBigDecimal(4, row.depositTotal());
+                ps.setBigDecimal(5, row.withdrawalTotal());
+                ps.setBigDecimal(6, row.transferInTotal());
+                ps.setBigDecimal(7, row.transferOutTotal());
+                ps.setBigDecimal(8, row.feeTotal());
+                ps.setBigDecimal(9, row.closingBalance());
+                ps.setInt(10, row.transactionCount());
+                ps.setTimestamp(11, Timestamp.valueOf(row.generatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    public Optional<AccountStatementRow> find(Long accountId, LocalDate statementMonth) {
+        return jdbcTemplate.query(
+                "SELECT account_id, statement_month, opening_balance, deposit_total, withdrawal_total, " +
+                        "transfer_in_total, transfer_out_total, fee_total, closing_balance, transaction_count, " +
+                        "generated_at FROM account_statements WHERE account_id = ? AND statement_month = ?",
+                (rs, rowNum) -> new AccountStatementRow(
+                        rs.getLong("account_id"),
+                        rs.getObject("statement_month", LocalDate.class),
+                        rs.getBigDecimal("opening_balance"),
+                        rs.getBigDecimal("deposit_total"),
+                        rs.getBigDecimal("withdrawal_total"),
+                        rs.getBigDecimal("transfer_in_total"),
+                        rs.getBigDecimal("transfer_out_total"),
+                        rs.getBigDecimal("fee_total"),
+                        rs.getBigDecimal("closing_balance"),
+                        rs.getInt("transaction_count"),
+                        rs.getObject("generated_at", LocalDateTime.class)),
+                accountId, Date.valueOf(statementMonth)).stream().findFirst();
+    }
+
+    public record TypeTotal(Long accountId, TransactionType type, BigDecimal amount, BigDecimal fee, int count) {
+    }
+}
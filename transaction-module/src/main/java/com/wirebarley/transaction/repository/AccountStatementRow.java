@@ -0,0 +1,19 @@
+package com.wirebarley.transaction.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record AccountStatementRow(
+        Long accountId,
+        LocalDate statementMonth,
+        BigDecimal openingBalance,
+        BigDecimal depositTotal,
+        BigDecimal withdrawalTotal,
+        BigDecimal transferInTotal,
+        BigDecimal transferOutTotal,
+        BigDecimal feeTotal,
+        BigDecimal closingBalance,
+        int transactionCount,
+        LocalDateTime generatedAt) {
+}
@@ -0,0 +1,49 @@
+package com.wirebarley.transaction.repository;
+
+import com.wirebarley.transaction.entity.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 분 단위 거래 집계 링 버퍼 JDBC 저장소. 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountVelocityBucketRepository {
+
+    // 같은 분이면 누적하고, 지난 바퀴의 슬롯이면 덮어쓴다. minute_epoch는 마지막에 갱신해야 앞의 비교가 이전 값을 본다
+    private static final String ADD_SQL = "INSERT INTO account_velocity_buckets " +
+            "(account_id, type, slot, minute_epoch, amount, tx_count) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "amount = CASE WHEN minute_epoch = VALUES(minute_epoch) THEN amount + VALUES(amount) ELSE VALUES(amount) END, " +
+            "tx_count = CASE WHEN minute_epoch = VALUES(minute_epoch) THEN tx_count + VALUES(tx_count) ELSE VALUES(tx_count) END, " +
+            "minute_epoch = VALUES(minute_epoch)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * fromMinute 이후의 버킷을 잠그고 읽는다. 계좌 행 락 이후에 호출하며, 잠금 읽기이므로 트랜잭션 스냅샷과 무관하게 최신 값을 본다.
+     */
+    public List<Bucket> findSinceForUpdate(Long accountId, long fromMinute) {
+        return jdbcTemplate.query(
+                "SELECT type, minute_epoch, amount, tx_count FROM account_velocity_buckets " +
+                        "WHERE account_id = ? AND minute_epoch >= ? FOR UPDATE",
+                (rs, rowNum) -> new Bucket(
+                        TransactionType.valueOf(rs.getString("type")),
+                        rs.getLong("minute_epoch"),
+                        rs.getBigDecimal("amount"),
+                        rs.getInt("tx_count")),
+                accountId, fromMinute);
+    }
+
+    public void add(Long accountId, TransactionType type, int slot, long minute, BigDecimal amount, int count) {
+        jdbcTemplate.update(ADD_SQL, accountId, type.name(), slot, minute, amount, count);
+    }
+
+    public record Bucket(TransactionType type, long minute, BigDecimal amount, int count) {
+    }
+}
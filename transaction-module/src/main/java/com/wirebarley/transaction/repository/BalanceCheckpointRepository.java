@@ -0,0 +1,166 @@
+package com.wirebarley.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 영업일 마감 잔액 체크포인트 JDBC 저장소. 잔액은 SUCCESS 거래의 순 금액(NET_AMOUNT) 합계로 계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BalanceCheckpointRepository {
+
+    private static final String NET_AMOUNT = AccountStatementRepository.NET_AMOUNT;
+    private static final RowMapper<NetTotal> NET_TOTAL_MAPPER =
+            (rs, rowNum) -> new NetTotal(rs.getBigDecimal(1), rs.getInt(2));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // date 이전의 가장 가까운 체크포인트. PK (account_id, business_date)를 역순으로 한 행만 읽는다
+    public Optional<Checkpoint> findLatestBefore(Long accountId, LocalDate date) {
+        return jdbcTemplate.query(
+                "SELECT business_date, balance FROM account_balance_checkpoints " +
+                        "WHERE account_id = ? AND business_date < ? ORDER BY business_date DESC LIMIT 1",
+                (rs, rowNum) -> new Checkpoint(rs.getObject(1, LocalDate.class), rs.getBigDecimal(2)),
+                accountId, Date.valueOf(date)).stream().findFirst();
+    }
+
+    // 체크포인트 기록을 마친 마지막 영업일
+    public Optional<LocalDate> findLastCompletedDay() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT MAX(business_date) FROM balance_checkpoint_days", LocalDate.class));
+    }
+
+    public void markDayCompleted(LocalDate date, int accountCount, LocalDateTime completedAt) {
+        jdbcTemplate.update("DELETE FROM balance_checkpoint_days WHERE business_date = ?", Date.valueOf(date));
+        jdbcTemplate.update("INSERT INTO balance_checkpoint_days (business_date, account_count, completed_at) " +
+                "VALUES (?, ?, ?)", Date.valueOf(date), accountCount, Timestamp.valueOf(completedAt));
+    }
+
+    /**
+     * from 이후(포함) to까지(포함) 거래의 순 금액 합계와 건수. from이 null이면 처음부터 합산한다.
+     * (owner_account_id, created_at, id) 인덱스 범위만 읽으므로 비용은 구간 안 거래 수에 비례한다.
+     */
+    public NetTotal sumNet(Long accountId, LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT COALESCE(SUM(" + NET_AMOUNT + "), 0), COUNT(*) FROM transactions " +
+                "WHERE owner_account_id = ? AND status = 'SUCCESS' AND created_at <= ?";
+        if (from == null) {
+            return jdbcTemplate.queryForObject(sql, NET_TOTAL_MAPPER, accountId, Timestamp.valueOf(to));
+        }
+        return jdbcTemplate.queryForObject(sql + " AND created_at >= ?", NET_TOTAL_MAPPER,
+                accountId, Timestamp.valueOf(to), Timestamp.valueOf(from));
+    }
+
+    // [from, to) 기간에 거래가 있었던 계좌별 순 금액
+    public Map<Long, BigDecimal> sumNetByAccount(LocalDateTime from, LocalDateTime to) {
+        Map<Long, BigDecimal> totals = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT owner_account_id, SUM(" + NET_AMOUNT + ") FROM transactions " +
+                        "WHERE created_at >= ? AND created_at < ? AND status = 'SUCCESS' GROUP BY owner_account_id",
+                (RowCallbackHandler) rs -> totals.put(rs.getLong(1), rs.getBigDecimal(2)),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return totals;
+    }
+
+    // 계좌별로 date 이전의 가장 가까운 체크포인트 잔액
+    public Map<Long, BigDecimal> findLatestBalances(List<Long> accountIds, LocalDate date) {
+        if (accountIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        Object[] args = Stream.concat(accountIds.stream(), Stream.of(Date.valueOf(date))).toArray();
+        jdbcTemplate.query(
+                "SELECT c.account_id, c.balance FROM account_balance_checkpoints c " +
+                        "JOIN (SELECT account_id, MAX(business_date) AS business_date FROM account_balance_checkpoints " +
+                        "WHERE account_id IN (" + placeholders(accountIds.size()) + ") AND business_date < ? " +
+                        "GROUP BY account_id) latest " +
+                        "ON c.account_id = latest.account_id AND c.business_date = latest.business_date",
+                (RowCallbackHandler) rs -> balances.put(rs.getLong(1), rs.getBigDecimal(2)),
+                args);
+        return balances;
+    }
+
+    // 체크포인트가 하나도 없는 계좌를 afterId 다음부터 ID 순서로 limit개
+    public List<Long> findAccountIdsWithoutCheckpoint(long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT a.id FROM accounts a WHERE a.id > ? AND NOT EXISTS (" +
+                        "SELECT 1 FROM account_balance_checkpoints c WHERE c.account_id = a.id) " +
+                        "ORDER BY a.id LIMIT ?",
+                Long.class, afterId, limit);
+    }
+
+    // before 이전의 모든 거래로 계산한 잔액. 이전 체크포인트가 없는 계좌에 쓴다
+    public Map<Long, BigDecimal> sumNetBefore(List<Long> accountIds, LocalDateTime before) {
+        if (accountIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        Object[] args = Stream.concat(accountIds.stream(), Stream.of(Timestamp.valueOf(before))).toArray();
+        jdbcTemplate.query(
+                "SELECT owner_account_id, SUM(" + NET_AMOUNT + ") FROM transactions " +
+                        "WHERE owner_account_id IN (" + placeholders(accountIds.size()) + ") " +
+                        "AND created_at < ? AND status = 'SUCCESS' GROUP BY owner_account_id",
+                (RowCallbackHandler) rs -> balances.put(rs.getLong(1), rs.getBigDecimal(2)),
+                args);
+        return balances;
+    }
+
+    /**
+     * 영업일의 체크포인트를 새로 쓴다. 같은 영업일을 다시 처리해도 결과가 같다.
+     */
+    public void replaceAll(LocalDate date, Map<Long, BigDecimal> balances, LocalDateTime createdAt) {
+        if (balances.isEmpty()) {
+            return;
+        }
+        List<Long> accountIds = new ArrayList<>(balances.keySet());
+        Object[] args = Stream.concat(Stream.of(Date.valueOf(date)), accountIds.stream()).toArray();
+        jdbcTemplate.update("DELETE FROM account_balance_checkpoints WHERE business_date = ? AND account_id IN (" +
+                placeholders(accountIds.size()) + ")", args);
+        jdbcTemplate.batchUpdate("INSERT INTO account_balance_checkpoints " +
+                "(account_id, business_date, balance, created_at) VALUES (?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Long accountId = accountIds.get(i);
+                        ps.setLong(1, accountId);
+                        ps.setDate(2, Date.valueOf(date));
+                        ps.setBigDecimal(3, balances.get(accountId));
+                        ps.setTimestamp(4, Timestamp.valueOf(createdAt));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return accountIds.size();
+                    }
+                });
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    public record Checkpoint(LocalDate businessDate, BigDecimal balance) {
+    }
+
+    public record NetTotal(BigDecimal amount, int count) {
+    }
+}
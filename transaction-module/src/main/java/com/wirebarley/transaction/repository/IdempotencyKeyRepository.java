@@ -0,0 +1,177 @@
+package com.wirebarley.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 멱등성 키 JDBC 저장소. 호출한 쪽의 트랜잭션에 참여한다.
+ * 파티션 관리는 운영(MySQL)에서 business_date 기준 RANGE COLUMNS 파티션을 만든 경우에만 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    private static final String TABLE = "idempotency_keys";
+    private static final String INSERT_SQL = "INSERT INTO idempotency_keys " +
+            "(idempotency_key, business_date, transaction_id, created_at) VALUES (?, ?, ?, ?)";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키를 영업일 파티션에 기록한다. 같은 영업일에 이미 있는 키는 기본 키 위반(DuplicateKeyException)으로 실패한다.
+     */
+    public void insertAll(Map<String, Long> transactionIdByKey, LocalDate businessDate, LocalDateTime createdAt) {
+        if (transactionIdByKey.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(transactionIdByKey.entrySet());
+        Date date = Date.valueOf(businessDate);
+        Timestamp created = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, entries.get(i).getKey());
+                ps.setDate(2, date);
+                ps.setLong(3, entries.get(i).getValue());
+                ps.setTimestamp(4, created);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    /**
+     * [since, before) 영업일에 이미 기록된 키를 잠그고 찾는다. 다른 트랜잭션이 기록 중인 키는 그 트랜잭션이 끝날 때까지 기다린다.
+     */
+    public List<String> findKeysBetweenForUpdate(Collection<String> keys, LocalDate since, LocalDate before) {
+        if (keys.isEmpty() || !since.isBefore(before)) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(keys);
+        args.add(Date.valueOf(since));
+        args.add(Date.valueOf(before));
+        return jdbcTemplate.queryForList(
+                "SELECT idempotency_key FROM idempotency_keys WHERE idempotency_key IN (" + placeholders(keys.size()) + ") " +
+                        "AND business_date >= ? AND business_date < ? FOR UPDATE",
+                String.class, args.toArray());
+    }
+
+    /**
+     * since 이후 영업일에 기록된 키의 거래 ID. 같은 키가 여러 영업일에 있으면 가장 이른 기록을 쓴다.
+     */
+    public Map<String, Long> findTransactionIds(Collection<String> keys, LocalDate since) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> args = new ArrayList<>(keys);
+        args.add(Date.valueOf(since));
+        Map<String, Long> found = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT idempotency_key, transaction_id FROM idempotency_keys " +
+                        "WHERE idempotency_key IN (" + placeholders(keys.size()) + ") AND business_date >= ? " +
+                        "ORDER BY business_date",
+                (RowCallbackHandler) rs -> found.putIfAbsent(
+                        rs.getString("idempotency_key"), rs.getLong("transaction_id")),
+                args.toArray());
+        return found;
+    }
+
+    // 필터 재구성용. 트랜잭션 안에서 호출해야 fetchSize가 스트리밍으로 동작한다
+    public void forEachKeySince(LocalDate since, Consumer<String> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "SELECT idempotency_key FROM idempotency_keys WHERE business_date >= ?");
+            ps.setFetchSize(1000);
+            ps.setDate(1, Date.valueOf(since));
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1)));
+    }
+
+    // 파티션이 없는 환경의 보존 기간 정리
+    public int deleteBefore(LocalDate businessDate) {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE business_date < ?", Date.valueOf(businessDate));
+    }
+
+    public boolean isMySql() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    /**
+     * 일 단위 파티션의 영업일 목록 (pYYYYMMDD). MAXVALUE 파티션(pmax)은 제외한다. 파티션이 없는 테이블이면 빈 목록이다.
+     */
+    public List<LocalDate> findPartitionDates() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                String.class, TABLE);
+        return names.stream()
+                .filter(name -> name.matches("p\\d{8}"))
+                .map(name -> LocalDate.parse(name, PARTITION_NAME))
+                .sorted()
+                .toList();
+    }
+
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * MAXVALUE 파티션에서 영업일 파티션을 떼어 낸다. 새 영업일이 시작되기 전에 만들면 pmax가 비어 있어 데이터 이동이 없다.
+     */
+    public void addPartitions(List<LocalDate> businessDates) {
+        if (businessDates.isEmpty()) {
+            return;
+        }
+        String partitions = businessDates.stream()
+                .map(date -> "PARTITION " + date.format(PARTITION_NAME)
+                        + " VALUES LESS THAN ('" + date.plusDays(1) + "')")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION pmax INTO ("
+                + partitions + ", PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    // 파티션 삭제는 행 단위 삭제 없이 파일을 지우므로 보존 기간 정리 비용이 키 수와 무관하다
+    public void dropPartitions(List<LocalDate> businessDates) {
+        if (businessDates.isEmpty()) {
+            return;
+        }
+        String partitions = businessDates.stream()
+                .map(date -> date.format(PARTITION_NAME))
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partitions);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
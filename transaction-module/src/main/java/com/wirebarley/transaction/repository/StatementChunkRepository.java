@@ -0,0 +1,49 @@
+package com.wirebarley.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 명세서 생성 작업의 완료 범위 기록. 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatementChunkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 완료한 범위의 시작 ID → 끝 ID
+    public Map<Long, Long> findCompletedRanges(LocalDate statementMonth) {
+        Map<Long, Long> ranges = new HashMap<>();
+        jdbcTemplate.query("SELECT range_start, range_end FROM statement_chunks WHERE statement_month = ?",
+                (RowCallbackHandler) rs -> ranges.put(rs.getLong(1), rs.getLong(2)),
+                Date.valueOf(statementMonth));
+        return ranges;
+    }
+
+    public int countCompleted(LocalDate statementMonth) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM statement_chunks WHERE statement_month = ?",
+                Integer.class, Date.valueOf(statementMonth));
+        return count != null ? count : 0;
+    }
+
+    // 같은 시작 ID의 이전 기록(계좌 삭제로 범위가 바뀐 경우)은 덮어쓴다
+    public void markCompleted(LocalDate statementMonth, long rangeStart, long rangeEnd, int accountCount,
+                              LocalDateTime completedAt) {
+        jdbcTemplate.update("DELETE FROM statement_chunks WHERE statement_month = ? AND range_start = ?",
+                Date.valueOf(statementMonth), rangeStart);
+        jdbcTemplate.update("INSERT INTO statement_chunks " +
+                        "(statement_month, range_start, range_end, account_count, completed_at) VALUES (?, ?, ?, ?, ?)",
+                Date.valueOf(statementMonth), rangeStart, rangeEnd, accountCount, Timestamp.valueOf(completedAt));
+    }
+}
@@ -0,0 +1,80 @@
+package com.wirebarley.transaction.repository;
+
+import com.wirebarley.account.entity.Account;
+import com.wirebarley.common.id.TimeOrderedIds;
+import com.wirebarley.transaction.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 거래 내역 JDBC 배치 저장소.
+ * 다건 저장 시 엔티티를 영속성 컨텍스트에 올리지 않고 JDBC 배치로 한 번에 전송한다.
+ * ID는 엔티티와 같은 시간 순서 ID 생성기로 미리 발급하므로 생성 키를 돌려받을 필요가 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO transactions " +
+            "(id, type, amount, fee, owner_account_id, from_account_id, to_account_id, " +
+            "from_account_number, to_account_number, balance_after, status, idempotency_key, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 거래 내역을 배치로 저장하고 발급한 ID를 입력 순서대로 반환한다.
+     */
+    public List<Long> insertAll(List<Transaction> transactions, LocalDateTime createdAt) {
+        if (transactions.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = IntStream.range(0, transactions.size())
+                .mapToObj(i -> TimeOrderedIds.next())
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Transaction transaction = transactions.get(i);
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, transaction.getType().name());
+                ps.setBigDecimal(3, transaction.getAmount());
+                ps.setBigDecimal(4, transaction.getFee());
+                ps.setLong(5, transaction.getOwnerAccount().getId());
+                setAccountId(ps, 6, transaction.getFromAccount());
+                setAccountId(ps, 7, transaction.getToAccount());
+                ps.setString(8, transaction.getFromAccountNumber());
+                ps.setString(9, transaction.getToAccountNumber());
+                ps.setBigDecimal(10, transaction.getBalanceAfter());
+                ps.setString(11, transaction.getStatus().name());
+                ps.setString(12, transaction.getIdempotencyKey());
+                ps.setTimestamp(13, Timestamp.valueOf(createdAt));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return transactions.size();
+            }
+        });
+        return ids;
+    }
+
+    private static void setAccountId(PreparedStatement ps, int index, Account account) throws SQLException {
+        if (account == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, account.getId());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.wirebarley.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 거래내역 내보내기용 JDBC 조회. 전진 전용 커서에서 한 행씩 읽어 넘기며 결과를 모으지 않는다.
+ * (owner_account_id, created_at, id) 인덱스 범위를 오래된 거래부터 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionExportRepository {
+
+    // MySQL은 useCursorFetch=true일 때 이 크기만큼씩 서버 커서에서 읽는다
+    private static final int FETCH_SIZE = 1000;
+    private static final String SELECT_SQL = "SELECT id, type, amount, fee, from_account_number, to_account_number, " +
+            "balance_after, status, created_at FROM transactions " +
+            "WHERE owner_account_id = ? AND created_at >= ? AND created_at < ? ORDER BY created_at, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // [from, to) 기간의 거래를 오래된 순서로 넘긴다
+    public void forEachBetween(Long ownerAccountId, LocalDateTime from, LocalDateTime to,
+                               Consumer<TransactionExportRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setLong(1, ownerAccountId);
+            ps.setTimestamp(2, Timestamp.valueOf(from));
+            ps.setTimestamp(3, Timestamp.valueOf(to));
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new TransactionExportRow(
+                rs.getLong("id"),
+                rs.getString("type"),
+                rs.getBigDecimal("amount"),
+                rs.getBigDecimal("fee"),
+                rs.getString("from_account_number"),
+                rs.getString("to_account_number"),
+                rs.getBigDecimal("balance_after"),
+                rs.getString("status"),
+                rs.getObject("created_at", LocalDateTime.class))));
+    }
+}
@@ -0,0 +1,19 @@
+package com.wirebarley.transaction.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 내보내기 한 행. 엔티티 대신 결과 행을 그대로 담는다.
+ */
+public record TransactionExportRow(
+        Long id,
+        String type,
+        BigDecimal amount,
+        BigDecimal fee,
+        String fromAccountNumber,
+        String toAccountNumber,
+        BigDecimal balanceAfter,
+        String status,
+        LocalDateTime createdAt) {
+}
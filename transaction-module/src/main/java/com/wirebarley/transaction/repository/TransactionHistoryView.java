@@ -0,0 +1,31 @@
+package com.wirebarley.transaction.repository;
+
+import com.wirebarley.transaction.entity.TransactionStatus;
+import com.wirebarley.transaction.entity.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 엔티티와 연관 계좌를 로딩하지 않고 읽는 거래내역 프로젝션. 응답에 필요한 컬럼만 거래 행에서 읽는다.
+ */
+public interface TransactionHistoryView {
+
+    Long getId();
+
+    TransactionType getType();
+
+    BigDecimal getAmount();
+
+    BigDecimal getFee();
+
+    String getFromAccountNumber();
+
+    String getToAccountNumber();
+
+    BigDecimal getBalanceAfter();
+
+    TransactionStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+}
@@ -1,41 +1,37 @@
 package com.wirebarley.transaction.repository;
 
-import com.wirebarley.account.entity.Account;
 import com.wirebarley.transaction.entity.Transaction;
-import com.wirebarley.transaction.entity.TransactionType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    // ownerAccount 기반 조회 (인덱스 최적화)
-    Page<Transaction> findByOwnerAccountOrderByCreatedAtDesc(Account ownerAccount, Pageable pageable);
-
-    Page<Transaction> findByOwnerAccountIdOrderByCreatedAtDesc(Long ownerAccountId, Pageable pageable);
-
-    // 멱등성 키로 중복 체크
-    boolean existsByIdempotencyKey(String idempotencyKey);
-
-    Optional<Transaction> findByIdempotencyKey(String idempotencyKey);
-
-    // 일일 한도 계산 (ownerAccount 기반)
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-            "WHERE t.ownerAccount = :account " +
-            "AND t.type = :type " +
-            "AND t.status = 'SUCCESS' " +
-            "AND t.createdAt >= :startOfDay " +
-            "AND t.createdAt < :endOfDay")
-    BigDecimal sumDailyAmountByOwnerAccountAndType(
-            @Param("account") Account account,
-            @Param("type") TransactionType type,
-            @Param("startOfDay") LocalDateTime startOfDay,
-            @Param("endOfDay") LocalDateTime endOfDay
-    );
+    String HISTORY_COLUMNS = "SELECT t.id AS id, t.type AS type, t.amount AS amount, t.fee AS fee, " +
+            "t.fromAccountNumber AS fromAccountNumber, t.toAccountNumber AS toAccountNumber, " +
+            "t.balanceAfter AS balanceAfter, t.status AS status, t.createdAt AS createdAt FROM Transaction t ";
+
+    // 계좌별 거래내역 페이지 조회. 계좌 조인 없이 (owner_account_id, created_at, id) 인덱스로 읽는다
+    @Query(value = HISTORY_COLUMNS + "WHERE t.ownerAccount.id = :ownerAccountId",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.ownerAccount.id = :ownerAccountId")
+    Page<TransactionHistoryView> findHistoryPage(@Param("ownerAccountId") Long ownerAccountId, Pageable pageable);
+
+    // 키셋 페이지네이션 (owner_account_id, created_at, id) 인덱스를 역순으로 읽으며 COUNT 쿼리가 없다
+    @Query(HISTORY_COLUMNS + "WHERE t.ownerAccount.id = :ownerAccountId " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionHistoryView> findHistory(@Param("ownerAccountId") Long ownerAccountId, Limit limit);
+
+    @Query(HISTORY_COLUMNS + "WHERE t.ownerAccount.id = :ownerAccountId " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionHistoryView> findHistoryAfter(@Param("ownerAccountId") Long ownerAccountId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Limit limit);
 }
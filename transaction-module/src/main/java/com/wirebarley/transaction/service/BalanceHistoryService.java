@@ -0,0 +1,51 @@
+package com.wirebarley.transaction.service;
+
+import com.wirebarley.account.repository.AccountRepository;
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.BalanceAsOfResponse;
+import com.wirebarley.transaction.repository.BalanceCheckpointRepository;
+import com.wirebarley.transaction.repository.BalanceCheckpointRepository.Checkpoint;
+import com.wirebarley.transaction.repository.BalanceCheckpointRepository.NetTotal;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BalanceHistoryService {
+
+    private final AccountRepository accountRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+
+    /**
+     * asOf 시각(포함)의 잔액. asOf가 속한 영업일 전의 가장 가까운 체크포인트에 그 뒤 거래만 더한다.
+     * 체크포인트가 매일 기록되면 더하는 거래는 하루치 이내이므로 계좌의 거래 이력 길이와 무관하다.
+     */
+    public BalanceAsOfResponse getBalanceAsOf(Long accountId, LocalDateTime asOf) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        Optional<Checkpoint> checkpoint = balanceCheckpointRepository.findLatestBefore(accountId,
+                BusinessCalendar.dateOf(asOf));
+        LocalDateTime since = checkpoint
+                .map(found -> BusinessCalendar.startOf(found.businessDate().plusDays(1)))
+                .orElse(null);
+        NetTotal delta = balanceCheckpointRepository.sumNet(accountId, since, asOf);
+        BigDecimal base = checkpoint.map(Checkpoint::balance).orElse(BigDecimal.ZERO);
+
+        return BalanceAsOfResponse.builder()
+                .accountId(accountId)
+                .asOf(asOf)
+                .balance(base.add(delta.amount()))
+                .checkpointDate(checkpoint.map(Checkpoint::businessDate).orElse(null))
+                .appliedTransactions(delta.count())
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.wirebarley.transaction.service;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.StatementResponse;
+import com.wirebarley.transaction.repository.AccountStatementRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatementService {
+
+    private final AccountStatementRepository accountStatementRepository;
+
+    /**
+     * 명세서 생성 작업이 만들어 둔 행 하나를 읽는다. 거래 내역을 다시 집계하지 않는다.
+     */
+    public StatementResponse getStatement(Long accountId, YearMonth month) {
+        return accountStatementRepository.find(accountId, month.atDay(1))
+                .map(StatementResponse::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STATEMENT_NOT_FOUND));
+    }
+}
@@ -0,0 +1,44 @@
+package com.wirebarley.transaction.service;
+
+import com.wirebarley.account.repository.AccountRepository;
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.repository.TransactionExportRepository;
+import com.wirebarley.transaction.repository.TransactionExportRow;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TransactionExportService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionExportRepository transactionExportRepository;
+
+    /**
+     * 응답을 쓰기 시작하기 전에 호출해 오류를 상태 코드로 돌려줄 수 있게 한다.
+     */
+    public void validate(Long accountId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        if (!accountRepository.existsById(accountId)) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+    }
+
+    /**
+     * from ~ to (영업일, 양 끝 포함) 거래를 오래된 순서로 넘긴다. 조회가 끝날 때까지 읽기 트랜잭션과 커넥션을 유지한다.
+     * 거래 시각은 서버 시간대로 저장되므로 영업일 경계를 서버 시각으로 바꿔 조회한다.
+     */
+    public void export(Long accountId, LocalDate from, LocalDate to, Consumer<TransactionExportRow> consumer) {
+        transactionExportRepository.forEachBetween(accountId, BusinessCalendar.startOf(from),
+                BusinessCalendar.startOf(to.plusDays(1)), consumer);
+    }
+}
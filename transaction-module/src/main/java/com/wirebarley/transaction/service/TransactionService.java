@@ -1,15 +1,34 @@
 package com.wirebarley.transaction.service;
 
+import com.wirebarley.account.cache.AccountCache;
 import com.wirebarley.account.entity.Account;
+import com.wirebarley.account.entity.AccountBalanceSlot;
+import com.wirebarley.account.repository.AccountBalanceSlotRepository;
+import com.wirebarley.account.repository.AccountBalanceView;
 import com.wirebarley.account.repository.AccountRepository;
+import com.wirebarley.account.repository.AccountVersionLockRepository;
 import com.wirebarley.common.exception.BusinessException;
 import com.wirebarley.common.exception.ErrorCode;
 import com.wirebarley.transaction.dto.*;
 import com.wirebarley.transaction.entity.Transaction;
 import com.wirebarley.transaction.entity.TransactionStatus;
 import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.idempotency.IdempotencyLookup;
+import com.wirebarley.transaction.lock.AccountLockProperties;
+import com.wirebarley.transaction.lock.AccountLockStrategy;
+import com.wirebarley.transaction.lock.LockHoldTimeRecorder;
+import com.wirebarley.transaction.outbox.OutboxWriter;
+import com.wirebarley.transaction.repository.AccountDailyUsageRepository;
+import com.wirebarley.transaction.repository.TransactionBatchRepository;
+import com.wirebarley.transaction.repository.TransactionHistoryView;
 import com.wirebarley.transaction.repository.TransactionRepository;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import com.wirebarley.transaction.usage.QuotaLeaseManager;
+import com.wirebarley.transaction.usage.QuotaReservation;
+import com.wirebarley.transaction.velocity.VelocityLimiter;
+import com.wirebarley.transaction.velocity.VelocityState;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,193 +36,734 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TransactionService {
 
-    private static final BigDecimal DAILY_WITHDRAWAL_LIMIT = new BigDecimal("1000000");
-    private static final BigDecimal DAILY_TRANSFER_LIMIT = new BigDecimal("3000000");
+    public static final BigDecimal DAILY_WITHDRAWAL_LIMIT = new BigDecimal("1000000");
+    public static final BigDecimal DAILY_TRANSFER_LIMIT = new BigDecimal("3000000");
     private static final BigDecimal TRANSFER_FEE_RATE = new BigDecimal("0.01");
+    private static final String TRANSFER_LOCK_OPERATION = "transfer";
+    private static final int MAX_HISTORY_LIMIT = 100;
 
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final AccountVersionLockRepository accountVersionLockRepository;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final AccountLockProperties accountLockProperties;
+    private final LockHoldTimeRecorder lockHoldTimeRecorder;
+    private final OutboxWriter outboxWriter;
+    private final AccountDailyUsageRepository accountDailyUsageRepository;
+    private final QuotaLeaseManager quotaLeaseManager;
+    private final VelocityLimiter velocityLimiter;
+    private final IdempotencyLookup idempotencyLookup;
+    private final AccountCache accountCache;
+
+    /**
+     * 멱등성 키로 기존 거래를 DB에서 찾는다. 유니크 제약 위반으로 실패한 요청의 기존 결과를 돌려줄 때 사용한다.
+     * 충돌한 거래는 방금 프라이머리에 커밋됐으므로 읽기 전용(레플리카)으로 읽지 않는다.
+     */
+    @Transactional
+    public Optional<TransactionResponse> findByIdempotencyKey(String idempotencyKey) {
+        return idempotencyLookup.findInDatabase(idempotencyKey);
+    }
 
     @Transactional
     public TransactionResponse deposit(DepositRequest request) {
+        return deposit(request, AccountLockStrategy.PESSIMISTIC);
+    }
+
+    @Transactional
+    public TransactionResponse deposit(DepositRequest request, AccountLockStrategy lockStrategy) {
         // 멱등성 체크
-        if (request.getIdempotencyKey() != null) {
-            Optional<Transaction> existing = transactionRepository.findByIdempotencyKey(request.getIdempotencyKey());
-            if (existing.isPresent()) {
-                return TransactionResponse.from(existing.get());
-            }
+        Optional<TransactionResponse> existing = idempotencyLookup.find(request.getIdempotencyKey());
+        if (existing.isPresent()) {
+            return existing.get();
         }
 
-        Account account = accountRepository.findByAccountNumberWithLock(request.getAccountNumber())
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        Account account = lockAccount(request.getAccountNumber(), isStriped(request.getAccountNumber()), lockStrategy);
 
-        account.deposit(request.getAmount());
+        credit(account, request.getAmount(), request.getIdempotencyKey());
+        accountCache.refreshAfterCommit(account);
 
         Transaction transaction = Transaction.builder()
                 .type(TransactionType.DEPOSIT)
                 .amount(request.getAmount())
                 .ownerAccount(account)
                 .toAccount(account)
+                .toAccountNumber(account.getAccountNumber())
                 .balanceAfter(account.getBalance())
                 .status(TransactionStatus.SUCCESS)
                 .idempotencyKey(request.getIdempotencyKey())
                 .build();
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        return TransactionResponse.from(savedTransaction);
+        Transaction savedTransaction = save(transaction);
+        return remember(request.getIdempotencyKey(), TransactionResponse.from(savedTransaction));
+    }
+
+    /**
+     * 조건부 UPDATE 한 문장으로 입금한다. 계좌 엔티티를 로딩하지 않으며 갱신 후 잔액만 다시 읽는다.
+     * 분산 잔액 계좌는 갱신 대상에서 제외되므로 기존 방식으로 처리한다.
+     */
+    @Transactional
+    public TransactionResponse depositAtomic(DepositRequest request) {
+        Optional<TransactionResponse> existing = idempotencyLookup.find(request.getIdempotencyKey());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        AccountBalanceView account = addBalance(request.getAccountNumber(), request.getAmount());
+        if (account == null) {
+            return deposit(request, AccountLockStrategy.PESSIMISTIC);
+        }
+
+        accountCache.evictAfterCommit(account.getId());
+        Account reference = accountRepository.getReferenceById(account.getId());
+        Transaction savedTransaction = save(Transaction.builder()
+                .type(TransactionType.DEPOSIT)
+                .amount(request.getAmount())
+                .ownerAccount(reference)
+                .toAccount(reference)
+                .toAccountNumber(request.getAccountNumber())
+                .balanceAfter(account.getBalance())
+                .status(TransactionStatus.SUCCESS)
+                .idempotencyKey(request.getIdempotencyKey())
+                .build());
+        return remember(request.getIdempotencyKey(),
+                atomicResponse(savedTransaction, null, request.getAccountNumber()));
+    }
+
+    /**
+     * 같은 계좌에 대한 입금 여러 건을 한 번의 락과 한 번의 잔액 갱신으로 처리한다.
+     * 거래 내역은 요청별로 기록되며, 각 행의 balanceAfter는 요청 순서대로 누적한 잔액이다.
+     * 응답은 요청과 같은 순서로 반환한다.
+     */
+    @Transactional
+    public List<TransactionResponse> depositBatch(String accountNumber, List<DepositRequest> requests) {
+        Map<String, TransactionResponse> existing = findExistingByIdempotencyKeys(
+                requests.stream().map(DepositRequest::getIdempotencyKey).toList());
+
+        Account account = lockAccount(accountNumber, false, AccountLockStrategy.PESSIMISTIC);
+
+        TransactionResponse[] responses = new TransactionResponse[requests.size()];
+        Map<String, Integer> firstIndexByKey = new HashMap<>();
+        List<Integer> newIndexes = new ArrayList<>();
+        List<Transaction> newTransactions = new ArrayList<>();
+        BigDecimal runningBalance = account.getBalance();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+
+        for (int i = 0; i < requests.size(); i++) {
+            DepositRequest request = requests.get(i);
+            String key = request.getIdempotencyKey();
+            if (key != null && (existing.containsKey(key) || firstIndexByKey.containsKey(key))) {
+                continue;
+            }
+
+            runningBalance = runningBalance.add(request.getAmount());
+            totalAmount = totalAmount.add(request.getAmount());
+            newTransactions.add(Transaction.builder()
+                    .type(TransactionType.DEPOSIT)
+                    .amount(request.getAmount())
+                    .ownerAccount(account)
+                    .toAccount(account)
+                    .toAccountNumber(account.getAccountNumber())
+                    .balanceAfter(runningBalance)
+                    .status(TransactionStatus.SUCCESS)
+                    .idempotencyKey(key)
+                    .build());
+            newIndexes.add(i);
+            if (key != null) {
+                firstIndexByKey.put(key, i);
+            }
+        }
+
+        account.deposit(totalAmount);
+        accountCache.refreshAfterCommit(account);
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Long> ids = transactionBatchRepository.insertAll(newTransactions, createdAt);
+        outboxWriter.append(newTransactions, ids, createdAt);
+        Map<String, TransactionResponse> newResponses = new HashMap<>();
+        for (int i = 0; i < newTransactions.size(); i++) {
+            TransactionResponse response = TransactionResponse.from(newTransactions.get(i)).toBuilder()
+                    .id(ids.get(i))
+                    .createdAt(createdAt)
+                    .build();
+            responses[newIndexes.get(i)] = response;
+            String key = newTransactions.get(i).getIdempotencyKey();
+            if (key != null) {
+                newResponses.put(key, response);
+            }
+        }
+        idempotencyLookup.rememberAll(newResponses);
+
+        // 이미 처리된 키는 기존 결과를, 배치 안에서 중복된 키는 첫 요청의 결과를 돌려준다
+        for (int i = 0; i < requests.size(); i++) {
+            if (responses[i] == null) {
+                String key = requests.get(i).getIdempotencyKey();
+                responses[i] = existing.containsKey(key) ? existing.get(key) : responses[firstIndexByKey.get(key)];
+            }
+        }
+        return Arrays.asList(responses);
     }
 
     @Transactional
     public TransactionResponse withdraw(WithdrawRequest request) {
+        return withdraw(request, AccountLockStrategy.PESSIMISTIC);
+    }
+
+    @Transactional
+    public TransactionResponse withdraw(WithdrawRequest request, AccountLockStrategy lockStrategy) {
         // 멱등성 체크
-        if (request.getIdempotencyKey() != null) {
-            Optional<Transaction> existing = transactionRepository.findByIdempotencyKey(request.getIdempotencyKey());
-            if (existing.isPresent()) {
-                return TransactionResponse.from(existing.get());
-            }
+        Optional<TransactionResponse> existing = idempotencyLookup.find(request.getIdempotencyKey());
+        if (existing.isPresent()) {
+            return existing.get();
         }
 
-        Account account = accountRepository.findByAccountNumberWithLock(request.getAccountNumber())
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        Account account = lockAccount(request.getAccountNumber(), false, lockStrategy);
+        lockSlots(account);
 
         validateWithdrawalLimit(account, request.getAmount());
 
         if (account.getBalance().compareTo(request.getAmount()) < 0) {
             throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
         }
+        checkVelocity(account, TransactionType.WITHDRAWAL, request.getAmount());
 
         account.withdraw(request.getAmount());
+        accountCache.refreshAfterCommit(account);
 
         Transaction transaction = Transaction.builder()
                 .type(TransactionType.WITHDRAWAL)
                 .amount(request.getAmount())
                 .ownerAccount(account)
                 .fromAccount(account)
+                .fromAccountNumber(account.getAccountNumber())
                 .balanceAfter(account.getBalance())
                 .status(TransactionStatus.SUCCESS)
                 .idempotencyKey(request.getIdempotencyKey())
                 .build();
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        return TransactionResponse.from(savedTransaction);
+        Transaction savedTransaction = save(transaction);
+        return remember(request.getIdempotencyKey(), TransactionResponse.from(savedTransaction));
+    }
+
+    /**
+     * 조건부 UPDATE 한 문장으로 출금한다. 잔액 부족은 갱신된 행 수로 판단한다.
+     * UPDATE가 잡은 행 락 아래에서 일일 한도를 검증하며, 한도 초과 시 예외로 롤백된다.
+     * 분산 잔액 계좌는 갱신 대상에서 제외되므로 기존 방식으로 처리한다.
+     */
+    @Transactional
+    public TransactionResponse withdrawAtomic(WithdrawRequest request) {
+        Optional<TransactionResponse> existing = idempotencyLookup.find(request.getIdempotencyKey());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        AccountBalanceView account = addBalance(request.getAccountNumber(), request.getAmount().negate());
+        if (account == null) {
+            return withdraw(request, AccountLockStrategy.PESSIMISTIC);
+        }
+
+        accountCache.evictAfterCommit(account.getId());
+        Account reference = accountRepository.getReferenceById(account.getId());
+        validateWithdrawalLimit(reference, request.getAmount());
+        checkVelocity(reference, TransactionType.WITHDRAWAL, request.getAmount());
+
+        Transaction savedTransaction = save(Transaction.builder()
+                .type(TransactionType.WITHDRAWAL)
+                .amount(request.getAmount())
+                .ownerAccount(reference)
+                .fromAccount(reference)
+                .fromAccountNumber(request.getAccountNumber())
+                .balanceAfter(account.getBalance())
+                .status(TransactionStatus.SUCCESS)
+                .idempotencyKey(request.getIdempotencyKey())
+                .build());
+        return remember(request.getIdempotencyKey(),
+                atomicResponse(savedTransaction, request.getAccountNumber(), null));
     }
 
     @Transactional
     public TransactionResponse transfer(TransferRequest request) {
+        return transfer(request, AccountLockStrategy.PESSIMISTIC);
+    }
+
+    @Transactional
+    public TransactionResponse transfer(TransferRequest request, AccountLockStrategy lockStrategy) {
         // 멱등성 체크
-        if (request.getIdempotencyKey() != null) {
-            Optional<Transaction> existing = transactionRepository.findByIdempotencyKey(request.getIdempotencyKey());
-            if (existing.isPresent()) {
-                return TransactionResponse.from(existing.get());
-            }
+        Optional<TransactionResponse> existing = idempotencyLookup.find(request.getIdempotencyKey());
+        if (existing.isPresent()) {
+            return existing.get();
         }
 
         if (request.getFromAccountNumber().equals(request.getToAccountNumber())) {
             throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER);
         }
 
+        Map<String, Account> accounts = lockTransferAccounts(request, lockStrategy);
+        Account fromAccount = accounts.get(request.getFromAccountNumber());
+        Account toAccount = accounts.get(request.getToAccountNumber());
+        lockSlots(fromAccount);
+
+        validateTransferLimit(fromAccount, request.getAmount());
+
+        BigDecimal fee = calculateTransferFee(request.getAmount());
+        BigDecimal totalDeduction = request.getAmount().add(fee);
+
+        if (fromAccount.getBalance().compareTo(totalDeduction) < 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+        checkVelocity(fromAccount, TransactionType.TRANSFER_OUT, request.getAmount());
+
+        fromAccount.withdraw(totalDeduction);
+        credit(toAccount, request.getAmount(), request.getIdempotencyKey());
+        accountCache.refreshAfterCommit(fromAccount);
+        accountCache.refreshAfterCommit(toAccount);
+
+        Transaction outTransaction = transferOutTransaction(fromAccount, toAccount, request.getAmount(), fee,
+                request.getIdempotencyKey());
+        Transaction inTransaction = transferInTransaction(fromAccount, toAccount, request.getAmount());
+
+        save(outTransaction);
+        save(inTransaction);
+
+        return remember(request.getIdempotencyKey(), TransactionResponse.from(outTransaction));
+    }
+
+    /**
+     * 대량 이체의 한 묶음(chunk)을 하나의 트랜잭션으로 처리한다.
+     * 묶음에 등장하는 모든 계좌를 계좌번호 순서대로 한 번에 잠그고, 로딩한 계좌를 건별 처리에 재사용한다.
+     * 일일 이체 한도는 출금 계좌별로 누적 계산하며, 실패한 건은 건별 결과로 남기고 나머지 건은 계속 처리한다.
+     * 성공한 건의 이체 금액은 거래 INSERT 전에 계좌별로 합산해 사용량에 한 번씩 더한다 (한도 임대 사용 시 건별로 임대에서 차감).
+     * 기간별 한도도 출금 계좌별로 버킷을 한 번만 읽어 누적 검증하고, INSERT 전에 한 번에 기록한다.
+     */
+    @Transactional
+    public List<TransferLegResult> transferChunk(List<TransferRequest> legs, int startIndex) {
+        Map<String, TransactionResponse> existing = findExistingByIdempotencyKeys(
+                legs.stream().map(TransferRequest::getIdempotencyKey).toList());
+
+        Set<String> accountNumbers = new TreeSet<>();
+        legs.forEach(leg -> {
+            accountNumbers.add(leg.getFromAccountNumber());
+            accountNumbers.add(leg.getToAccountNumber());
+        });
+        Map<String, Account> accounts = accountRepository.findAllByAccountNumberInWithLock(accountNumbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, account -> account, (a, b) -> a, TreeMap::new));
+        accounts.values().forEach(this::lockSlots);
+        accounts.values().forEach(accountCache::refreshAfterCommit);
+
+        TransferLegResult[] results = new TransferLegResult[legs.size()];
+        Map<String, Integer> firstIndexByKey = new HashMap<>();
+        Map<Integer, Integer> outTransactionPositionByLeg = new HashMap<>();
+        Map<String, BigDecimal> dailyTransferred = new HashMap<>();
+        Map<String, BigDecimal> transferredInChunk = new TreeMap<>();
+        Map<String, VelocityState> velocityStates = new TreeMap<>();
+        List<Transaction> newTransactions = new ArrayList<>();
+
+        for (int i = 0; i < legs.size(); i++) {
+            TransferRequest leg = legs.get(i);
+            String key = leg.getIdempotencyKey();
+            if (key != null && (existing.containsKey(key) || firstIndexByKey.containsKey(key))) {
+                continue;
+            }
+            if (key != null) {
+                firstIndexByKey.put(key, i);
+            }
+
+            try {
+                List<Transaction> legTransactions = transferLeg(leg, accounts, dailyTransferred, velocityStates);
+                outTransactionPositionByLeg.put(i, newTransactions.size());
+                newTransactions.addAll(legTransactions);
+                if (!quotaLeaseManager.isEnabled()) {
+                    transferredInChunk.merge(leg.getFromAccountNumber(), leg.getAmount(), BigDecimal::add);
+                }
+            } catch (BusinessException e) {
+                results[i] = TransferLegResult.failure(startIndex + i, e.getErrorCode());
+            }
+        }
+
+        transferredInChunk.forEach((accountNumber, amount) -> accountDailyUsageRepository.addAndGet(
+                accounts.get(accountNumber).getId(), TransactionType.TRANSFER_OUT, BusinessCalendar.today(), amount));
+        velocityStates.values().forEach(velocityLimiter::flush);
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Long> ids = transactionBatchRepository.insertAll(newTransactions, createdAt);
+        outboxWriter.append(newTransactions, ids, createdAt);
+        Map<String, TransactionResponse> newResponses = new HashMap<>();
+        outTransactionPositionByLeg.forEach((legIndex, position) -> {
+            TransactionResponse response = TransactionResponse.from(newTransactions.get(position)).toBuilder()
+                    .id(ids.get(position))
+                    .createdAt(createdAt)
+                    .build();
+            results[legIndex] = TransferLegResult.success(startIndex + legIndex, response);
+            String key = newTransactions.get(position).getIdempotencyKey();
+            if (key != null) {
+                newResponses.put(key, response);
+            }
+        });
+        idempotencyLookup.rememberAll(newResponses);
+
+        // 이미 처리된 키는 기존 결과를, 묶음 안에서 중복된 키는 첫 건의 결과를 돌려준다
+        for (int i = 0; i < legs.size(); i++) {
+            if (results[i] == null) {
+                String key = legs.get(i).getIdempotencyKey();
+                results[i] = existing.containsKey(key)
+                        ? TransferLegResult.success(startIndex + i, existing.get(key))
+                        : results[firstIndexByKey.get(key)].toBuilder().index(startIndex + i).build();
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    public Page<TransactionResponse> getTransactionHistory(Long accountId, Pageable pageable) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        return transactionRepository.findHistoryPage(accountId, pageable)
+                .map(TransactionResponse::from);
+    }
+
+    public Page<TransactionResponse> getTransactionHistoryByAccountNumber(String accountNumber, Pageable pageable) {
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        return transactionRepository.findHistoryPage(accountId, pageable)
+                .map(TransactionResponse::from);
+    }
+
+    public CursorPageResponse<TransactionResponse> getTransactionHistory(Long accountId, String after, int limit) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        return getHistoryPage(accountId, after, limit);
+    }
+
+    public CursorPageResponse<TransactionResponse> getTransactionHistoryByAccountNumber(String accountNumber,
+                                                                                     String after, int limit) {
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        return getHistoryPage(accountId, after, limit);
+    }
+
+    /**
+     * 거래내역 ETag. 계좌 행과 슬롯 행의 버전만 읽으므로 거래 수와 상관없이 일정한 비용이며,
+     * If-None-Match 요청은 거래내역을 조회하지 않고 304로 응답할 수 있다.
+     * 계좌가 있는지도 함께 확인하므로, 200 응답은 반환한 ETag로 거래내역을 조회해 계좌를 다시 찾지 않는다.
+     */
+    public HistoryEtag getHistoryEtag(Long accountId) {
+        return accountRepository.findHistoryVersionById(accountId)
+                .map(HistoryEtag::of)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    public HistoryEtag getHistoryEtagByAccountNumber(String accountNumber) {
+        return accountRepository.findHistoryVersionByAccountNumber(accountNumber)
+                .map(HistoryEtag::of)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    // ETag 조회로 계좌를 이미 확인한 거래내역 조회
+    public Page<TransactionResponse> getTransactionHistory(HistoryEtag etag, Pageable pageable) {
+        return transactionRepository.findHistoryPage(etag.accountId(), pageable)
+                .map(TransactionResponse::from);
+    }
+
+    public CursorPageResponse<TransactionResponse> getTransactionHistory(HistoryEtag etag, String after, int limit) {
+        return getHistoryPage(etag.accountId(), after, limit);
+    }
+
+    /**
+     * 계좌번호의 계좌 ID. 거래 트랜잭션을 열기 전에 한도 임대를 갱신할 때 사용한다.
+     */
+    public Optional<Long> findAccountId(String accountNumber) {
+        return accountRepository.findIdByAccountNumber(accountNumber);
+    }
+
+    /**
+     * 커서 다음의 거래를 최신순으로 limit건 조회한다. 한 건을 더 읽어 다음 페이지 여부를 판단하므로 COUNT 쿼리가 없다.
+     */
+    private CursorPageResponse<TransactionResponse> getHistoryPage(Long accountId, String after, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+        Limit fetchLimit = Limit.of(size + 1);
+        List<TransactionHistoryView> rows;
+        if (after == null || after.isBlank()) {
+            rows = transactionRepository.findHistory(accountId, fetchLimit);
+        } else {
+            TransactionCursor cursor = TransactionCursor.decode(after);
+            rows = transactionRepository.findHistoryAfter(accountId, cursor.createdAt(), cursor.id(), fetchLimit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<TransactionHistoryView> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? TransactionCursor.of(page.get(size - 1)).encode() : null;
+        return CursorPageResponse.of(page.stream().map(TransactionResponse::from).toList(), nextCursor);
+    }
+
+    // 거래 내역 저장과 아웃박스 기록을 같은 트랜잭션에서 수행한다
+    private Transaction save(Transaction transaction) {
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        outboxWriter.append(savedTransaction);
+        return savedTransaction;
+    }
+
+    private Map<String, TransactionResponse> findExistingByIdempotencyKeys(List<String> idempotencyKeys) {
+        return idempotencyLookup.findAll(idempotencyKeys);
+    }
+
+    // 새 거래의 멱등성 키를 기록하고 응답을 캐시에 등록한다 (캐시는 커밋 후 반영)
+    private TransactionResponse remember(String idempotencyKey, TransactionResponse response) {
+        idempotencyLookup.remember(idempotencyKey, response);
+        return response;
+    }
+
+    private boolean isStriped(String accountNumber) {
+        return accountRepository.findStripeCountByAccountNumber(accountNumber)
+                .map(stripeCount -> stripeCount > 0)
+                .orElse(false);
+    }
+
+    /**
+     * 계좌 조회. 낙관적 전략이면 락 없이 읽은 뒤 바로 버전을 올려(@Version 검사) 동시 수정을 감지한다.
+     * 버전 UPDATE가 계좌 행 락을 잡으므로 이후의 사용량/기간별 한도 행 락은 비관적 전략과 같은 순서(계좌 → 사용량)가 된다.
+     * 분산 잔액 계좌 입금(shared)은 전략과 무관하게 공유 락을 사용한다.
+     */
+    private Account lockAccount(String accountNumber, boolean shared, AccountLockStrategy lockStrategy) {
+        if (shared) {
+            return accountRepository.findByAccountNumberWithSharedLock(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        }
+        if (lockStrategy == AccountLockStrategy.OPTIMISTIC) {
+            Account account = accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+            accountVersionLockRepository.lockByVersion(account);
+            return account;
+        }
+        return accountRepository.findByAccountNumberWithLock(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    /**
+     * 잔액을 조건부로 갱신하고 갱신 후 잔액을 읽는다.
+     * 분산 잔액 계좌라 갱신하지 않았으면 null을 반환한다.
+     */
+    private AccountBalanceView addBalance(String accountNumber, BigDecimal delta) {
+        if (accountRepository.addBalanceIfSufficient(accountNumber, delta, LocalDateTime.now()) == 0) {
+            Integer stripeCount = accountRepository.findStripeCountByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+            if (stripeCount > 0) {
+                return null;
+            }
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+        return accountRepository.findBalanceViewByAccountNumber(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    // 계좌 프록시를 초기화하지 않도록 계좌번호는 요청 값으로 채운다
+    private TransactionResponse atomicResponse(Transaction transaction, String fromAccountNumber,
+                                               String toAccountNumber) {
+        return TransactionResponse.builder()
+                .id(transaction.getId())
+                .type(transaction.getType())
+                .amount(transaction.getAmount())
+                .fee(transaction.getFee())
+                .fromAccountNumber(fromAccountNumber)
+                .toAccountNumber(toAccountNumber)
+                .balanceAfter(transaction.getBalanceAfter())
+                .status(transaction.getStatus())
+                .createdAt(transaction.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 이체 두 계좌를 잠근다. 두 계좌 모두 배타 락이면 계좌번호 순서로 정렬한 한 번의 쿼리로 잠근다.
+     * 분산 잔액 모드인 수취 계좌(공유 락)나 낙관적 전략은 계좌번호 순서대로 한 건씩 조회한다.
+     */
+    private Map<String, Account> lockTransferAccounts(TransferRequest request, AccountLockStrategy lockStrategy) {
+        boolean toStriped = isStriped(request.getToAccountNumber());
+        Map<String, Account> accounts = new HashMap<>();
+
+        if (!toStriped && lockStrategy == AccountLockStrategy.PESSIMISTIC && accountLockProperties.isSingleQueryTransferLock()) {
+            accountRepository.findAllByAccountNumberInWithLock(
+                            List.of(request.getFromAccountNumber(), request.getToAccountNumber()))
+                    .forEach(account -> accounts.put(account.getAccountNumber(), account));
+            if (accounts.size() < 2) {
+                throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+            }
+            lockHoldTimeRecorder.lockAcquired(TRANSFER_LOCK_OPERATION);
+            return accounts;
+        }
+
         // 데드락 방지: 계좌번호 순서대로 락 획득
         String firstLock = request.getFromAccountNumber().compareTo(request.getToAccountNumber()) < 0
                 ? request.getFromAccountNumber() : request.getToAccountNumber();
         String secondLock = request.getFromAccountNumber().compareTo(request.getToAccountNumber()) < 0
                 ? request.getToAccountNumber() : request.getFromAccountNumber();
 
-        Account first = accountRepository.findByAccountNumberWithLock(firstLock)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
-        Account second = accountRepository.findByAccountNumberWithLock(secondLock)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        // 분산 잔액 모드인 수취 계좌는 공유 락만 잡는다 (슬롯 락은 계좌 락 이후에 획득)
+        // 보유 시간은 두 모드 모두 마지막 락을 잡은 뒤부터 잰다
+        Account first = lockAccount(firstLock, toStriped && firstLock.equals(request.getToAccountNumber()), lockStrategy);
+        Account second = lockAccount(secondLock, toStriped && secondLock.equals(request.getToAccountNumber()), lockStrategy);
+        lockHoldTimeRecorder.lockAcquired(TRANSFER_LOCK_OPERATION);
+        accounts.put(first.getAccountNumber(), first);
+        accounts.put(second.getAccountNumber(), second);
+        return accounts;
+    }
 
-        Account fromAccount = first.getAccountNumber().equals(request.getFromAccountNumber()) ? first : second;
-        Account toAccount = first.getAccountNumber().equals(request.getToAccountNumber()) ? first : second;
+    // 출금 전 모든 슬롯에 락을 건다. 잔액 조회보다 먼저 호출해야 슬롯을 최신 상태로 읽는다.
+    private void lockSlots(Account account) {
+        if (account.isStriped()) {
+            accountBalanceSlotRepository.findAllByAccountIdWithLock(account.getId());
+        }
+    }
 
-        validateTransferLimit(fromAccount, request.getAmount());
+    /**
+     * 분산 잔액 계좌는 슬롯 하나에만 입금한다.
+     * 이때 balanceAfter는 다른 슬롯의 동시 입금을 반영하지 않은 시점 잔액일 수 있다.
+     */
+    private void credit(Account account, BigDecimal amount, String routingKey) {
+        if (!account.isStriped()) {
+            account.deposit(amount);
+            return;
+        }
+        AccountBalanceSlot slot = accountBalanceSlotRepository
+                .findByAccountIdAndSlotIndexWithLock(account.getId(), account.selectSlotIndex(routingKey))
+                .orElseThrow(() -> new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR));
+        slot.credit(amount);
+    }
 
-        BigDecimal fee = request.getAmount().multiply(TRANSFER_FEE_RATE).setScale(0, RoundingMode.DOWN);
-        BigDecimal totalDeduction = request.getAmount().add(fee);
+    /**
+     * 대량 이체 한 건을 검증하고 메모리상의 계좌에 반영한다. 검증을 모두 통과한 뒤에만 상태를 변경한다.
+     */
+    private List<Transaction> transferLeg(TransferRequest leg, Map<String, Account> accounts,
+                                          Map<String, BigDecimal> dailyTransferred,
+                                          Map<String, VelocityState> velocityStates) {
+        if (leg.getFromAccountNumber().equals(leg.getToAccountNumber())) {
+            throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER);
+        }
 
-        if (fromAccount.getBalance().compareTo(totalDeduction) < 0) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        Account fromAccount = accounts.get(leg.getFromAccountNumber());
+        Account toAccount = accounts.get(leg.getToAccountNumber());
+        if (fromAccount == null || toAccount == null) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+
+        QuotaReservation reservation = null;
+        if (quotaLeaseManager.isEnabled()) {
+            reservation = quotaLeaseManager.reserve(fromAccount.getId(), TransactionType.TRANSFER_OUT,
+                    leg.getAmount(), DAILY_TRANSFER_LIMIT);
+            if (reservation == null) {
+                throw new BusinessException(ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
+            }
+        } else {
+            BigDecimal transferred = dailyTransferred.computeIfAbsent(leg.getFromAccountNumber(),
+                    accountNumber -> dailyUsage(fromAccount, TransactionType.TRANSFER_OUT, BigDecimal.ZERO));
+            if (transferred.add(leg.getAmount()).compareTo(DAILY_TRANSFER_LIMIT) > 0) {
+                throw new BusinessException(ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
+            }
+        }
+
+        BigDecimal fee = calculateTransferFee(leg.getAmount());
+        BigDecimal totalDeduction = leg.getAmount().add(fee);
+        try {
+            if (fromAccount.getBalance().compareTo(totalDeduction) < 0) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+            }
+            if (velocityLimiter.isEnabled()) {
+                VelocityState velocity = velocityStates.computeIfAbsent(leg.getFromAccountNumber(),
+                        accountNumber -> velocityLimiter.load(fromAccount.getId()));
+                velocityLimiter.check(velocity, TransactionType.TRANSFER_OUT, leg.getAmount());
+            }
+        } catch (BusinessException e) {
+            if (reservation != null) {
+                reservation.cancel();
+            }
+            throw e;
         }
 
         fromAccount.withdraw(totalDeduction);
-        toAccount.deposit(request.getAmount());
+        toAccount.deposit(leg.getAmount());
+        dailyTransferred.merge(leg.getFromAccountNumber(), leg.getAmount(), BigDecimal::add);
 
-        // 출금자 관점 거래 기록 (TRANSFER_OUT)
-        Transaction outTransaction = Transaction.builder()
+        return List.of(
+                transferOutTransaction(fromAccount, toAccount, leg.getAmount(), fee, leg.getIdempotencyKey()),
+                transferInTransaction(fromAccount, toAccount, leg.getAmount()));
+    }
+
+    private BigDecimal calculateTransferFee(BigDecimal amount) {
+        return amount.multiply(TRANSFER_FEE_RATE).setScale(0, RoundingMode.DOWN);
+    }
+
+    // 출금자 관점 거래 기록 (TRANSFER_OUT)
+    private Transaction transferOutTransaction(Account fromAccount, Account toAccount, BigDecimal amount,
+                                               BigDecimal fee, String idempotencyKey) {
+        return Transaction.builder()
                 .type(TransactionType.TRANSFER_OUT)
-                .amount(request.getAmount())
+                .amount(amount)
                 .fee(fee)
                 .ownerAccount(fromAccount)
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
+                .fromAccountNumber(fromAccount.getAccountNumber())
+                .toAccountNumber(toAccount.getAccountNumber())
                 .balanceAfter(fromAccount.getBalance())
                 .status(TransactionStatus.SUCCESS)
-                .idempotencyKey(request.getIdempotencyKey())
+                .idempotencyKey(idempotencyKey)
                 .build();
+    }
 
-        // 수취자 관점 거래 기록 (TRANSFER_IN)
-        Transaction inTransaction = Transaction.builder()
+    // 수취자 관점 거래 기록 (TRANSFER_IN)
+    private Transaction transferInTransaction(Account fromAccount, Account toAccount, BigDecimal amount) {
+        return Transaction.builder()
                 .type(TransactionType.TRANSFER_IN)
-                .amount(request.getAmount())
+                .amount(amount)
                 .ownerAccount(toAccount)
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
+                .fromAccountNumber(fromAccount.getAccountNumber())
+                .toAccountNumber(toAccount.getAccountNumber())
                 .balanceAfter(toAccount.getBalance())
                 .status(TransactionStatus.SUCCESS)
                 .build();
-
-        transactionRepository.save(outTransaction);
-        transactionRepository.save(inTransaction);
-
-        return TransactionResponse.from(outTransaction);
     }
 
-    public Page<TransactionResponse> getTransactionHistory(Long accountId, Pageable pageable) {
-        Account account = accountRepository.findById(accountId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
-
-        return transactionRepository.findByOwnerAccountOrderByCreatedAtDesc(account, pageable)
-                .map(TransactionResponse::from);
+    /**
+     * 일일 사용량에 금액을 더하고 누적값을 반환한다. 사용량 행은 계좌 행을 잠근 뒤에만 잠근다.
+     */
+    private BigDecimal dailyUsage(Account account, TransactionType type, BigDecimal amount) {
+        return accountDailyUsageRepository.addAndGet(account.getId(), type, BusinessCalendar.today(), amount);
     }
 
-    public Page<TransactionResponse> getTransactionHistoryByAccountNumber(String accountNumber, Pageable pageable) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    // 사용량을 먼저 예약하고 검증한다. 한도 초과 시 예외로 트랜잭션과 함께 예약도 롤백된다
+    private boolean reserveDailyUsage(Account account, TransactionType type, BigDecimal amount, BigDecimal limit) {
+        if (quotaLeaseManager.isEnabled()) {
+            return quotaLeaseManager.reserve(account.getId(), type, amount, limit) != null;
+        }
+        return dailyUsage(account, type, amount).compareTo(limit) <= 0;
+    }
 
-        return transactionRepository.findByOwnerAccountOrderByCreatedAtDesc(account, pageable)
-                .map(TransactionResponse::from);
+    // 기간별 한도 검증 후 현재 분 버킷에 기록한다. 계좌 행 락 이후에 호출한다
+    private void checkVelocity(Account account, TransactionType type, BigDecimal amount) {
+        if (velocityLimiter.isEnabled()) {
+            velocityLimiter.checkAndRecord(account.getId(), type, amount);
+        }
     }
 
     private void validateWithdrawalLimit(Account account, BigDecimal amount) {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(LocalTime.MAX);
-
-        BigDecimal dailyWithdrawal = transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                account, TransactionType.WITHDRAWAL, startOfDay, endOfDay);
-
-        if (dailyWithdrawal.add(amount).compareTo(DAILY_WITHDRAWAL_LIMIT) > 0) {
+        if (!reserveDailyUsage(account, TransactionType.WITHDRAWAL, amount, DAILY_WITHDRAWAL_LIMIT)) {
             throw new BusinessException(ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
         }
     }
 
     private void validateTransferLimit(Account account, BigDecimal amount) {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(LocalTime.MAX);
-
-        BigDecimal dailyTransfer = transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                account, TransactionType.TRANSFER_OUT, startOfDay, endOfDay);
-
-        if (dailyTransfer.add(amount).compareTo(DAILY_TRANSFER_LIMIT) > 0) {
+        if (!reserveDailyUsage(account, TransactionType.TRANSFER_OUT, amount, DAILY_TRANSFER_LIMIT)) {
             throw new BusinessException(ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
         }
     }
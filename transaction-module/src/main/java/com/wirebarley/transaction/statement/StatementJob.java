@@ -0,0 +1,253 @@
+package com.wirebarley.transaction.statement;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.StatementJobResponse;
+import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.repository.AccountStatementRepository;
+import com.wirebarley.transaction.repository.AccountStatementRepository.TypeTotal;
+import com.wirebarley.transaction.repository.AccountStatementRow;
+import com.wirebarley.transaction.repository.StatementChunkRepository;
+import com.wirebarley.transaction.usage.BusinessCalendar;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 마감된 달의 계좌별 월간 명세서를 만든다.
+ * 계좌를 ID 순서로 chunkSize개씩 범위로 나누고, fork-join 풀에서 범위마다 한 트랜잭션으로 집계, 기록, 완료 표시를 커밋한다.
+ * 다시 실행하면 완료 표시가 있는 범위는 건너뛰므로 중단된 작업은 마지막으로 커밋한 범위 다음부터 이어서 처리된다.
+ * 기초 잔액은 이전 달 명세서의 기말 잔액을 쓰고, 없으면 그 전까지의 모든 거래로 계산한다.
+ * 기말 잔액은 기초 잔액에 그달 거래를 더해 계산하므로 분산 잔액 계좌의 balance_after 시점 차이와 무관하다.
+ */
+@Slf4j
+@Component
+public class StatementJob {
+
+    private final AccountStatementRepository accountStatementRepository;
+    private final StatementChunkRepository statementChunkRepository;
+    private final StatementProperties properties;
+    private final TransactionTemplate chunkTransaction;
+    private final ExecutorService launcher;
+    private final AtomicReference<YearMonth> runningMonth = new AtomicReference<>();
+    private final AtomicReference<StatementJobResponse> lastRun = new AtomicReference<>();
+
+    public StatementJob(AccountStatementRepository accountStatementRepository,
+                        StatementChunkRepository statementChunkRepository,
+                        StatementProperties properties,
+                        PlatformTransactionManager transactionManager) {
+        this.accountStatementRepository = accountStatementRepository;
+        this.statementChunkRepository = statementChunkRepository;
+        this.properties = properties;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.launcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "statement-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 작업을 백그라운드에서 시작한다. 진행 상황은 getStatus로 확인한다.
+     */
+    public StatementJobResponse start(YearMonth month) {
+        validateClosed(month);
+        acquire(month);
+        launcher.execute(() -> {
+            try {
+                execute(month);
+            } catch (RuntimeException e) {
+                log.warn("명세서 생성 실패: month={}, cause={}", month, e.getMessage());
+            } finally {
+                runningMonth.set(null);
+            }
+        });
+        return getStatus(month);
+    }
+
+    // 호출한 스레드에서 끝까지 실행한다
+    public StatementJobResponse run(YearMonth month) {
+        validateClosed(month);
+        acquire(month);
+        try {
+            return execute(month);
+        } finally {
+            runningMonth.set(null);
+        }
+    }
+
+    public StatementJobResponse getStatus(YearMonth month) {
+        StatementJobResponse last = lastRun.get();
+        StatementJobResponse.StatementJobResponseBuilder builder = last != null && last.getMonth().equals(month)
+                ? last.toBuilder()
+                : StatementJobResponse.builder().month(month);
+        return builder
+                .running(month.equals(runningMonth.get()))
+                .completedChunks(statementChunkRepository.countCompleted(month.atDay(1)))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launcher.shutdownNow();
+    }
+
+    private StatementJobResponse execute(YearMonth month) {
+        long started = System.nanoTime();
+        LocalDateTime from = BusinessCalendar.startOf(month.atDay(1));
+        LocalDateTime to = BusinessCalendar.startOf(month.plusMonths(1).atDay(1));
+
+        List<AccountRange> ranges = partition(to);
+        Map<Long, Long> completed = statementChunkRepository.findCompletedRanges(month.atDay(1));
+        List<AccountRange> pending = ranges.stream()
+                .filter(range -> !Long.valueOf(range.end()).equals(completed.get(range.start())))
+                .toList();
+
+        StatementJobResponse.StatementJobResponseBuilder result = StatementJobResponse.builder()
+                .month(month)
+                .totalChunks(ranges.size())
+                .skippedChunks(ranges.size() - pending.size());
+        ForkJoinPool pool = new ForkJoinPool(Math.max(properties.getParallelism(), 1));
+        try {
+            long generated = pending.isEmpty() ? 0 : pool.invoke(new ChunkTask(month, from, to, pending));
+            result.generatedStatements(generated);
+        } catch (RuntimeException e) {
+            result.failure(e.getMessage());
+            throw e;
+        } finally {
+            pool.shutdown();
+            lastRun.set(result.elapsedMillis((System.nanoTime() - started) / 1_000_000).build());
+        }
+        log.info("명세서 생성 완료: month={}, chunks={}, skipped={}", month, ranges.size(), ranges.size() - pending.size());
+        return lastRun.get();
+    }
+
+    // 대상 계좌 ID를 한 번 훑어 chunkSize개마다 범위를 끊는다. 범위 경계만 메모리에 둔다
+    private List<AccountRange> partition(LocalDateTime createdBefore) {
+        int chunkSize = Math.max(properties.getChunkSize(), 1);
+        List<AccountRange> ranges = new ArrayList<>();
+        long[] current = {0, 0, 0};
+        accountStatementRepository.forEachAccountId(createdBefore, id -> {
+            if (current[2] == 0) {
+                current[0] = id;
+            }
+            current[1] = id;
+            if (++current[2] == chunkSize) {
+                ranges.add(new AccountRange(current[0], current[1]));
+                current[2] = 0;
+            }
+        });
+        if (current[2] > 0) {
+            ranges.add(new AccountRange(current[0], current[1]));
+        }
+        return ranges;
+    }
+
+    // 범위 하나의 명세서와 완료 표시를 한 트랜잭션으로 커밋한다
+    private long processChunk(YearMonth month, LocalDateTime from, LocalDateTime to, AccountRange range) {
+        LocalDate statementMonth = month.atDay(1);
+        Integer generated = chunkTransaction.execute(status -> {
+            List<Long> accountIds = accountStatementRepository.findAccountIds(range.start(), range.end(), to);
+            Map<Long, BigDecimal> openingBalances = new HashMap<>(accountStatementRepository.findClosingBalances(
+                    month.minusMonths(1).atDay(1), range.start(), range.end()));
+            if (!openingBalances.keySet().containsAll(accountIds)) {
+                accountStatementRepository.sumBalancesBefore(range.start(), range.end(), from)
+                        .forEach(openingBalances::putIfAbsent);
+            }
+
+            Map<Long, Map<TransactionType, TypeTotal>> totals = new HashMap<>();
+            accountStatementRepository.sumByType(range.start(), range.end(), from, to).forEach(total ->
+                    totals.computeIfAbsent(total.accountId(), id -> new EnumMap<>(TransactionType.class))
+                            .put(total.type(), total));
+
+            LocalDateTime generatedAt = LocalDateTime.now();
+            List<AccountStatementRow> rows = accountIds.stream()
+                    .map(accountId -> statement(accountId, statementMonth,
+                            openingBalances.getOrDefault(accountId, BigDecimal.ZERO),
+                            totals.getOrDefault(accountId, Map.of()), generatedAt))
+                    .toList();
+            accountStatementRepository.replaceAll(statementMonth, range.start(), range.end(), rows);
+            statementChunkRepository.markCompleted(statementMonth, range.start(), range.end(), rows.size(), generatedAt);
+            return rows.size();
+        });
+        return generated != null ? generated : 0;
+    }
+
+    private static AccountStatementRow statement(Long accountId, LocalDate statementMonth, BigDecimal opening,
+                                                 Map<TransactionType, TypeTotal> totals, LocalDateTime generatedAt) {
+        BigDecimal deposit = amount(totals.get(TransactionType.DEPOSIT));
+        BigDecimal withdrawal = amount(totals.get(TransactionType.WITHDRAWAL));
+        BigDecimal transferIn = amount(totals.get(TransactionType.TRANSFER_IN));
+        BigDecimal transferOut = amount(totals.get(TransactionType.TRANSFER_OUT));
+        BigDecimal fee = totals.values().stream().map(TypeTotal::fee).reduce(BigDecimal.ZERO, BigDecimal::add);
+        int count = totals.values().stream().mapToInt(TypeTotal::count).sum();
+        BigDecimal closing = opening.add(deposit).add(transferIn).subtract(withdrawal).subtract(transferOut).subtract(fee);
+        return new AccountStatementRow(accountId, statementMonth, opening, deposit, withdrawal, transferIn,
+                transferOut, fee, closing, count, generatedAt);
+    }
+
+    private static BigDecimal amount(TypeTotal total) {
+        return total != null ? total.amount() : BigDecimal.ZERO;
+    }
+
+    private static void validateClosed(YearMonth month) {
+        if (!month.isBefore(YearMonth.now(BusinessCalendar.BUSINESS_ZONE))) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+
+    private void acquire(YearMonth month) {
+        if (!runningMonth.compareAndSet(null, month)) {
+            throw new BusinessException(ErrorCode.STATEMENT_JOB_RUNNING);
+        }
+    }
+
+    record AccountRange(long start, long end) {
+    }
+
+    // 범위 목록을 반씩 나눠 풀의 스레드에 분배한다
+    private final class ChunkTask extends RecursiveTask<Long> {
+
+        private final YearMonth month;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final List<AccountRange> ranges;
+
+        ChunkTask(YearMonth month, LocalDateTime from, LocalDateTime to, List<AccountRange> ranges) {
+            this.month = month;
+            this.from = from;
+            this.to = to;
+            this.ranges = ranges;
+        }
+
+        @Override
+        protected Long compute() {
+            if (ranges.size() == 1) {
+                return processChunk(month, from, to, ranges.get(0));
+            }
+            int middle = ranges.size() / 2;
+            ChunkTask left = new ChunkTask(month, from, to, ranges.subList(0, middle));
+            ChunkTask right = new ChunkTask(month, from, to, ranges.subList(middle, ranges.size()));
+            left.fork();
+            long rightCount = right.compute();
+            return left.join() + rightCount;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.wirebarley.transaction.statement;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.statement")
+public class StatementProperties {
+
+    // 명세서 생성 작업의 병렬 처리 스레드 수 (fork-join 풀 크기). DB 커넥션 풀보다 작게 둔다
+    private int parallelism = 4;
+
+    // 한 트랜잭션에서 명세서를 만들고 커밋할 계좌 수. 작업이 중단되면 이 단위로 다시 시작한다
+    private int chunkSize = 500;
+}
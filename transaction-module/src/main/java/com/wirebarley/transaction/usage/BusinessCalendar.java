@@ -0,0 +1,35 @@
+package com.wirebarley.transaction.usage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 영업일 계산. 일일 한도는 서버 시간대와 무관하게 Asia/Seoul 자정에 초기화된다.
+ * 거래 일시(created_at)는 서버 시간대의 LocalDateTime으로 저장되므로 영업일 경계를 서버 시간대로 변환해 사용한다.
+ */
+public final class BusinessCalendar {
+
+    public static final ZoneId BUSINESS_ZONE = ZoneId.of("Asia/Seoul");
+
+    private BusinessCalendar() {
+    }
+
+    public static LocalDate today() {
+        return LocalDate.now(BUSINESS_ZONE);
+    }
+
+    // 영업일 시작 시각 (서버 시간대)
+    public static LocalDateTime startOf(LocalDate businessDate) {
+        return businessDate.atStartOfDay(BUSINESS_ZONE)
+                .withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+
+    // 서버 시간대 일시가 속한 영업일
+    public static LocalDate dateOf(LocalDateTime serverDateTime) {
+        return serverDateTime.atZone(ZoneId.systemDefault())
+                .withZoneSameInstant(BUSINESS_ZONE)
+                .toLocalDate();
+    }
+}
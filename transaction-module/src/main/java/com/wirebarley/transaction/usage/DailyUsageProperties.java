@@ -0,0 +1,17 @@
+package com.wirebarley.transaction.usage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.daily-usage")
+public class DailyUsageProperties {
+
+    // 시작 시 오늘 사용량을 거래 내역으로 다시 계산 (배포 직후 누락분 보정)
+    private boolean rebuildTodayOnStartup = true;
+
+    // 한 번에 재계산할 수 있는 최대 기간 (일)
+    private int maxRebuildDays = 400;
+}
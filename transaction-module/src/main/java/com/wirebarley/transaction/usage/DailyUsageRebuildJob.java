@@ -0,0 +1,64 @@
+package com.wirebarley.transaction.usage;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.DailyUsageRebuildResponse;
+import com.wirebarley.transaction.repository.AccountDailyUsageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 사용량 백필/보정 작업. 영업일마다 별도 트랜잭션으로 거래 내역에서 사용량을 다시 계산한다.
+ */
+@Slf4j
+@Component
+public class DailyUsageRebuildJob {
+
+    private final AccountDailyUsageRepository accountDailyUsageRepository;
+    private final DailyUsageProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public DailyUsageRebuildJob(AccountDailyUsageRepository accountDailyUsageRepository,
+                                DailyUsageProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.accountDailyUsageRepository = accountDailyUsageRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildTodayOnStartup() {
+        if (properties.isRebuildTodayOnStartup()) {
+            LocalDate today = BusinessCalendar.today();
+            rebuild(today, today);
+        }
+    }
+
+    public DailyUsageRebuildResponse rebuild(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || from.plusDays(properties.getMaxRebuildDays()).isBefore(to)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        int days = 0;
+        int rows = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LocalDate businessDate = date;
+            Integer rebuilt = transactionTemplate.execute(status -> accountDailyUsageRepository.rebuild(businessDate));
+            rows += rebuilt != null ? rebuilt : 0;
+            days++;
+        }
+        log.info("일일 사용량 재계산: from={}, to={}, rows={}", from, to, rows);
+        return DailyUsageRebuildResponse.builder()
+                .from(from)
+                .to(to)
+                .days(days)
+                .rows(rows)
+                .build();
+    }
+}
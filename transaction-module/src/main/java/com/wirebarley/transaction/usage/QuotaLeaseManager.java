@@ -0,0 +1,340 @@
+package com.wirebarley.transaction.usage;
+
+import com.wirebarley.common.id.IdGeneratorProperties;
+import com.wirebarley.transaction.dto.QuotaLeaseStatsResponse;
+import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.repository.AccountDailyUsageRepository;
+import com.wirebarley.transaction.repository.AccountQuotaLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드별 일일 한도 임대. 계좌의 남은 한도 중 일부를 account_daily_usage에 미리 더해 두고(임대),
+ * 임대 금액 안의 한도 검증은 메모리 카운터(CAS)로 처리한다.
+ * 사용량 행은 임대를 획득, 갱신, 반납할 때만 잠그며, 모든 노드의 임대 합계는 사용량 행의 한도 검증을 거치므로 전체 한도를 넘지 않는다.
+ * 다른 노드가 임대 중인 미사용분만큼 한도 근처에서 거절이 빨라질 수 있으며, 만료 시 반납된다.
+ * 임대 획득은 자체 트랜잭션으로 커밋하므로 거래가 롤백되어도 임대는 유지되고 예약만 되돌린다.
+ * <p>
+ * 커넥션 예산: 요청 하나는 한 번에 커넥션을 하나만 잡는다. 임대 갱신(prepare)은 거래 트랜잭션을 열기 전에
+ * 짧은 트랜잭션으로 끝내고, 거래 트랜잭션 안의 reserve는 새 트랜잭션을 열지 않는다.
+ * 트랜잭션 안에서 임대가 모자라면 현재 커넥션으로 사용량 행에 바로 더해 검증한다 (임대 없는 경로와 같음).
+ * 그래서 DB 진입 제한(db.admission)의 허가 수가 풀 크기와 같아도 커넥션을 잡은 채 두 번째 커넥션을 기다리지 않으며,
+ * 스트라이프 락도 트랜잭션 밖에서만 잡는다.
+ */
+@Slf4j
+@Component
+public class QuotaLeaseManager {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final AccountDailyUsageRepository accountDailyUsageRepository;
+    private final AccountQuotaLeaseRepository accountQuotaLeaseRepository;
+    private final QuotaLeaseProperties properties;
+    private final int nodeId;
+    private final TransactionTemplate leaseTransaction;
+    private final Map<LeaseKey, Lease> leases = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final ScheduledExecutorService sweeper;
+
+    private final LongAdder localReservations = new LongAdder();
+    private final LongAdder directReservations = new LongAdder();
+    private final LongAdder leaseAcquisitions = new LongAdder();
+    private final LongAdder leaseReturns = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public QuotaLeaseManager(AccountDailyUsageRepository accountDailyUsageRepository,
+                             AccountQuotaLeaseRepository accountQuotaLeaseRepository,
+                             QuotaLeaseProperties properties,
+                             IdGeneratorProperties idGeneratorProperties,
+                             PlatformTransactionManager transactionManager) {
+        this.accountDailyUsageRepository = accountDailyUsageRepository;
+        this.accountQuotaLeaseRepository = accountQuotaLeaseRepository;
+        this.properties = properties;
+        this.nodeId = idGeneratorProperties.requireNodeId();
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        if (properties.isEnabled()) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "quota-lease-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sweeper.scheduleWithFixedDelay(this::returnExpired,
+                    properties.getSweepIntervalMillis(), properties.getSweepIntervalMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.sweeper = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 거래 트랜잭션을 열기 전에 호출해, 임대에 금액만큼 남아 있지 않으면 미리 갱신한다.
+     * 한도가 모자라 갱신하지 못해도 거절하지 않으며, 판정은 트랜잭션 안의 reserve가 한다.
+     * 이미 트랜잭션 안이면 두 번째 커넥션을 잡지 않도록 아무것도 하지 않는다.
+     */
+    public void prepare(Long accountId, TransactionType type, BigDecimal amount, BigDecimal limit) {
+        if (!properties.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        LeaseKey key = new LeaseKey(accountId, type, BusinessCalendar.today());
+        long units = toUnits(amount);
+        Lease lease = leases.get(key);
+        if (lease != null && lease.hasRemaining(units)) {
+            return;
+        }
+        Lease renewed = renew(key, units, limit);
+        if (renewed != null) {
+            renewed.refund(units);
+        }
+    }
+
+    /**
+     * 오늘 한도에서 금액을 예약한다. 한도를 넘으면 null을 반환한다.
+     * 트랜잭션 안에서 호출하면 롤백 시 예약이 자동으로 취소되고, 임대가 모자라도 임대를 갱신하지 않고
+     * 현재 트랜잭션에서 사용량 행에 바로 더해 검증한다.
+     */
+    public QuotaReservation reserve(Long accountId, TransactionType type, BigDecimal amount, BigDecimal limit) {
+        LeaseKey key = new LeaseKey(accountId, type, BusinessCalendar.today());
+        long units = toUnits(amount);
+
+        Lease lease = leases.get(key);
+        if (lease != null && lease.tryConsume(units)) {
+            localReservations.increment();
+        } else if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return reserveDirectly(key, amount, limit);
+        } else {
+            lease = renew(key, units, limit);
+            if (lease == null) {
+                rejections.increment();
+                return null;
+            }
+        }
+
+        Lease reserved = lease;
+        QuotaReservation reservation = new QuotaReservation(() -> reserved.refund(units));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        reservation.cancel();
+                    }
+                }
+            });
+        }
+        return reservation;
+    }
+
+    /**
+     * 만료되었거나 지난 영업일의 임대를 반납한다.
+     */
+    public void returnExpired() {
+        long now = System.nanoTime();
+        LocalDate today = BusinessCalendar.today();
+        leases.forEach((key, lease) -> {
+            if (lease.isExpired(now) || key.businessDate().isBefore(today)) {
+                try {
+                    release(key, lease);
+                } catch (RuntimeException e) {
+                    log.warn("한도 임대 반납 실패: key={}, cause={}", key, e.getMessage());
+                }
+            }
+        });
+    }
+
+    public QuotaLeaseStatsResponse getStats() {
+        return QuotaLeaseStatsResponse.builder()
+                .enabled(properties.isEnabled())
+                .nodeId(nodeId)
+                .activeLeases(leases.size())
+                .localReservations(localReservations.sum())
+                .directReservations(directReservations.sum())
+                .leaseAcquisitions(leaseAcquisitions.sum())
+                .leaseReturns(leaseReturns.sum())
+                .rejections(rejections.sum())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweeper == null) {
+            return;
+        }
+        sweeper.shutdown();
+        leases.forEach((key, lease) -> {
+            try {
+                release(key, lease);
+            } catch (RuntimeException e) {
+                log.warn("종료 시 한도 임대 반납 실패: key={}, cause={}", key, e.getMessage());
+            }
+        });
+    }
+
+    // 현재 트랜잭션에서 사용량 행에 더한다. 롤백되면 함께 되돌아가므로 롤백 시 취소를 등록하지 않는다
+    private QuotaReservation reserveDirectly(LeaseKey key, BigDecimal amount, BigDecimal limit) {
+        directReservations.increment();
+        BigDecimal used = accountDailyUsageRepository.addAndGet(
+                key.accountId(), key.type(), key.businessDate(), amount);
+        Runnable refund = () -> accountDailyUsageRepository.addAndGet(
+                key.accountId(), key.type(), key.businessDate(), amount.negate());
+        if (used.compareTo(limit) > 0) {
+            // 대량 이체는 실패한 건 이후에도 트랜잭션을 이어가므로 더한 금액을 바로 되돌린다
+            refund.run();
+            rejections.increment();
+            return null;
+        }
+        return new QuotaReservation(refund);
+    }
+
+    // 키별로 한 스레드만 사용량 행에 접근한다. 기다리는 동안 다른 스레드가 갱신한 임대가 있으면 그것을 쓴다
+    private Lease renew(LeaseKey key, long units, BigDecimal limit) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            Lease current = leases.get(key);
+            if (current != null && current.tryConsume(units)) {
+                localReservations.increment();
+                return current;
+            }
+            long unused = current != null ? current.close() : 0;
+            Lease renewed = leaseTransaction.execute(status -> acquire(key, units, unused, limit));
+            if (renewed != null) {
+                leases.put(key, renewed);
+            } else if (current != null) {
+                leases.remove(key, current);
+            }
+            return renewed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 이전 임대의 미사용분을 반납하고, 남은 한도 안에서 새 임대를 받아 요청 금액을 바로 차감한다
+    private Lease acquire(LeaseKey key, long units, long unused, BigDecimal limit) {
+        BigDecimal used = accountDailyUsageRepository.addAndGet(
+                key.accountId(), key.type(), key.businessDate(), fromUnits(-unused));
+        long available = toUnits(limit) - toUnits(used);
+        if (available < units) {
+            accountQuotaLeaseRepository.delete(nodeId, key.accountId(), key.type(), key.businessDate());
+            return null;
+        }
+
+        long slice = toUnits(limit.multiply(BigDecimal.valueOf(properties.getSliceRatio())));
+        long granted = Math.min(Math.max(slice, units), available);
+        accountDailyUsageRepository.addAndGet(key.accountId(), key.type(), key.businessDate(), fromUnits(granted));
+        accountQuotaLeaseRepository.save(nodeId, key.accountId(), key.type(), key.businessDate(),
+                fromUnits(granted), LocalDateTime.now().plusNanos(properties.getTtlMillis() * 1_000_000));
+        leaseAcquisitions.increment();
+
+        long usableMillis = properties.getTtlMillis() - properties.getSafetyMarginMillis();
+        return new Lease(granted - units, System.nanoTime() + usableMillis * 1_000_000);
+    }
+
+    private void release(LeaseKey key, Lease lease) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            if (!leases.remove(key, lease)) {
+                return;
+            }
+            long unused = lease.close();
+            leaseTransaction.executeWithoutResult(status -> {
+                if (unused > 0) {
+                    accountDailyUsageRepository.addAndGet(
+                            key.accountId(), key.type(), key.businessDate(), fromUnits(-unused));
+                }
+                accountQuotaLeaseRepository.delete(nodeId, key.accountId(), key.type(), key.businessDate());
+            });
+            leaseReturns.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(LeaseKey key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+
+    // 금액을 원 단위 소수 둘째 자리까지의 정수로 바꾼다. 예약은 올림해 한도를 넘지 않게 한다
+    private static long toUnits(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.CEILING).longValueExact();
+    }
+
+    private static BigDecimal fromUnits(long units) {
+        return BigDecimal.valueOf(units, 2);
+    }
+
+    record LeaseKey(Long accountId, TransactionType type, LocalDate businessDate) {
+    }
+
+    /**
+     * 임대 한 건의 남은 금액. 반납(close) 시 남은 금액을 원자적으로 비우므로 반납 이후의 차감과 환불은 반영되지 않는다.
+     */
+    static final class Lease {
+
+        private static final long CLOSED = Long.MIN_VALUE / 2;
+
+        private final AtomicLong remaining;
+        private final long deadlineNanos;
+
+        Lease(long remaining, long deadlineNanos) {
+            this.remaining = new AtomicLong(remaining);
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        boolean tryConsume(long units) {
+            if (isExpired(System.nanoTime())) {
+                return false;
+            }
+            long current;
+            do {
+                current = remaining.get();
+                if (current < units) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - units));
+            return true;
+        }
+
+        boolean hasRemaining(long units) {
+            return !isExpired(System.nanoTime()) && remaining.get() >= units;
+        }
+
+        void refund(long units) {
+            remaining.addAndGet(units);
+        }
+
+        long close() {
+            return Math.max(remaining.getAndSet(CLOSED), 0);
+        }
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - deadlineNanos >= 0;
+        }
+    }
+}
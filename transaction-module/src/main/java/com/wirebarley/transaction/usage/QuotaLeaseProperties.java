@@ -0,0 +1,26 @@
+package com.wirebarley.transaction.usage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.quota-lease")
+public class QuotaLeaseProperties {
+
+    // 노드별 한도 임대 사용 여부. 끄면 거래마다 사용량 행을 갱신한다
+    private boolean enabled = false;
+
+    // 한 번에 임대할 금액 (일일 한도 대비 비율). 남은 한도가 적으면 남은 만큼만 임대한다
+    private double sliceRatio = 0.1;
+
+    // 임대 유효 시간. 만료된 임대는 미사용분을 반납한다
+    private long ttlMillis = 30_000;
+
+    // 로컬 사용 마감을 만료보다 앞당기는 여유 시간 (진행 중 거래 커밋, 노드 간 시계 오차 흡수)
+    private long safetyMarginMillis = 5_000;
+
+    // 만료 임대 반납 주기
+    private long sweepIntervalMillis = 1_000;
+}
@@ -0,0 +1,24 @@
+package com.wirebarley.transaction.usage;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일일 한도에서 차감한 예약. 거래가 롤백되거나 이후 검증에 실패하면 취소해 한도에 되돌린다.
+ * 임대에서 차감한 예약은 임대로, 사용량 행에 바로 더한 예약은 같은 트랜잭션에서 사용량 행으로 되돌린다.
+ * 취소는 한 번만 반영되며, 이미 반납된 임대에는 되돌리지 않는다.
+ */
+public class QuotaReservation {
+
+    private final Runnable refund;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    QuotaReservation(Runnable refund) {
+        this.refund = refund;
+    }
+
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            refund.run();
+        }
+    }
+}
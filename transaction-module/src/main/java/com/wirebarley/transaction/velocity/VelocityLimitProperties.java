@@ -0,0 +1,47 @@
+package com.wirebarley.transaction.velocity;
+
+import com.wirebarley.transaction.entity.TransactionType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction.velocity")
+public class VelocityLimitProperties {
+
+    // 기간별 한도 검증 사용 여부. 출금(WITHDRAWAL)과 이체(TRANSFER_OUT)에 적용한다
+    private boolean enabled = false;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 규칙 하나. 현재 분을 포함한 최근 window 동안 types 거래의 금액 합계와 건수를 제한한다 (분 단위 올림).
+     * maxAmount, maxCount 중 설정한 것만 검증한다.
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        private String name;
+
+        private Set<TransactionType> types = EnumSet.of(TransactionType.WITHDRAWAL, TransactionType.TRANSFER_OUT);
+
+        private Duration window = Duration.ofHours(24);
+
+        private BigDecimal maxAmount;
+
+        private Integer maxCount;
+
+        public long windowMinutes() {
+            return Math.max(1, (window.toSeconds() + 59) / 60);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.wirebarley.transaction.velocity;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.repository.AccountVelocityBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 기간별(rolling window) 거래 한도. 계좌별 분 단위 링 버퍼를 한 번 읽어 모든 규칙의 기간 합계를 한 번에 계산한다.
+ * 규칙은 설정(transaction.velocity.rules)으로 추가하며, 링 크기는 가장 긴 규칙 기간이다.
+ * 계좌 행 락을 잡은 뒤에 호출해야 하며, 검증을 통과한 금액은 flush로 현재 분 버킷에 더한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VelocityLimiter {
+
+    private static final long MILLIS_PER_MINUTE = 60_000;
+
+    private final AccountVelocityBucketRepository accountVelocityBucketRepository;
+    private final VelocityLimitProperties properties;
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && !properties.getRules().isEmpty();
+    }
+
+    /**
+     * 계좌의 최근 버킷을 잠그고 규칙별 합계를 계산한다.
+     */
+    public VelocityState load(Long accountId) {
+        List<VelocityLimitProperties.Rule> rules = properties.getRules();
+        long now = System.currentTimeMillis() / MILLIS_PER_MINUTE;
+        long ringSize = ringSize();
+        VelocityState state = new VelocityState(accountId, rules, now);
+        accountVelocityBucketRepository.findSinceForUpdate(accountId, now - ringSize + 1)
+                .forEach(state::accumulate);
+        return state;
+    }
+
+    /**
+     * 건을 검증하고 통과하면 상태에 반영한다. 한도를 넘으면 상태를 바꾸지 않고 예외를 던진다.
+     */
+    public void check(VelocityState state, TransactionType type, BigDecimal amount) {
+        if (!state.tryAdd(type, amount)) {
+            throw new BusinessException(ErrorCode.VELOCITY_LIMIT_EXCEEDED);
+        }
+    }
+
+    /**
+     * 통과한 건의 합계를 현재 분 버킷에 기록한다.
+     */
+    public void flush(VelocityState state) {
+        int slot = (int) Math.floorMod(state.getMinute(), ringSize());
+        state.pending().forEach((type, pending) -> accountVelocityBucketRepository.add(
+                state.getAccountId(), type, slot, state.getMinute(), pending.getAmount(), pending.getCount()));
+        state.clearPending();
+    }
+
+    // 한 건을 load, check, flush 한다
+    public void checkAndRecord(Long accountId, TransactionType type, BigDecimal amount) {
+        VelocityState state = load(accountId);
+        check(state, type, amount);
+        flush(state);
+    }
+
+    private long ringSize() {
+        return properties.getRules().stream()
+                .mapToLong(VelocityLimitProperties.Rule::windowMinutes)
+                .max()
+                .orElse(1);
+    }
+}
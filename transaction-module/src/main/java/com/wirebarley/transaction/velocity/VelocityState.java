@@ -0,0 +1,90 @@
+package com.wirebarley.transaction.velocity;
+
+import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.repository.AccountVelocityBucketRepository.Bucket;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계좌 하나의 규칙별 기간 합계. 대량 이체처럼 한 트랜잭션에서 여러 건을 검증할 때 한 번 읽어 재사용한다.
+ */
+public class VelocityState {
+
+    @Getter
+    private final Long accountId;
+    @Getter
+    private final long minute;
+    private final List<VelocityLimitProperties.Rule> rules;
+    private final BigDecimal[] amounts;
+    private final long[] counts;
+    private final Map<TransactionType, Pending> pending = new EnumMap<>(TransactionType.class);
+
+    VelocityState(Long accountId, List<VelocityLimitProperties.Rule> rules, long minute) {
+        this.accountId = accountId;
+        this.rules = rules;
+        this.minute = minute;
+        this.amounts = new BigDecimal[rules.size()];
+        this.counts = new long[rules.size()];
+        Arrays.fill(amounts, BigDecimal.ZERO);
+    }
+
+    // 버킷 하나를 기간이 포함하는 모든 규칙에 더한다
+    void accumulate(Bucket bucket) {
+        long age = minute - bucket.minute();
+        for (int i = 0; i < rules.size(); i++) {
+            VelocityLimitProperties.Rule rule = rules.get(i);
+            if (age < rule.windowMinutes() && rule.getTypes().contains(bucket.type())) {
+                amounts[i] = amounts[i].add(bucket.amount());
+                counts[i] += bucket.count();
+            }
+        }
+    }
+
+    boolean tryAdd(TransactionType type, BigDecimal amount) {
+        for (int i = 0; i < rules.size(); i++) {
+            VelocityLimitProperties.Rule rule = rules.get(i);
+            if (!rule.getTypes().contains(type)) {
+                continue;
+            }
+            if (rule.getMaxAmount() != null && amounts[i].add(amount).compareTo(rule.getMaxAmount()) > 0) {
+                return false;
+            }
+            if (rule.getMaxCount() != null && counts[i] + 1 > rule.getMaxCount()) {
+                return false;
+            }
+        }
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).getTypes().contains(type)) {
+                amounts[i] = amounts[i].add(amount);
+                counts[i]++;
+            }
+        }
+        pending.computeIfAbsent(type, t -> new Pending()).add(amount);
+        return true;
+    }
+
+    Map<TransactionType, Pending> pending() {
+        return pending;
+    }
+
+    void clearPending() {
+        pending.clear();
+    }
+
+    @Getter
+    static class Pending {
+
+        private BigDecimal amount = BigDecimal.ZERO;
+        private int count;
+
+        void add(BigDecimal value) {
+            amount = amount.add(value);
+            count++;
+        }
+    }
+}
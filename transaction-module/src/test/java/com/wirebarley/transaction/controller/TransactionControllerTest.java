@@ -6,6 +6,7 @@ import com.wirebarley.common.exception.ErrorCode;
 import com.wirebarley.common.exception.GlobalExceptionHandler;
 import com.wirebarley.transaction.dto.*;
 import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.facade.TransactionFacade;
 import com.wirebarley.transaction.service.TransactionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +19,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -28,6 +30,8 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -44,6 +48,9 @@ class TransactionControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @MockBean
+    private TransactionFacade transactionFacade;
+
     @MockBean
     private TransactionService transactionService;
 
@@ -69,7 +76,7 @@ class TransactionControllerTest {
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            given(transactionService.deposit(any(DepositRequest.class))).willReturn(response);
+            given(transactionFacade.deposit(any(DepositRequest.class))).willReturn(response);
 
             // when & then
             mockMvc.perform(post("/api/transactions/deposit")
@@ -92,7 +99,7 @@ class TransactionControllerTest {
                     .amount(new BigDecimal("10000"))
                     .build();
 
-            given(transactionService.deposit(any(DepositRequest.class)))
+            given(transactionFacade.deposit(any(DepositRequest.class)))
                     .willThrow(new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
 
             // when & then
@@ -167,7 +174,7 @@ class TransactionControllerTest {
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            given(transactionService.withdraw(any(WithdrawRequest.class))).willReturn(response);
+            given(transactionFacade.withdraw(any(WithdrawRequest.class))).willReturn(response);
 
             // when & then
             mockMvc.perform(post("/api/transactions/withdraw")
@@ -188,7 +195,7 @@ class TransactionControllerTest {
                     .amount(new BigDecimal("1000000"))
                     .build();
 
-            given(transactionService.withdraw(any(WithdrawRequest.class)))
+            given(transactionFacade.withdraw(any(WithdrawRequest.class)))
                     .willThrow(new BusinessException(ErrorCode.INSUFFICIENT_BALANCE));
 
             // when & then
@@ -210,7 +217,7 @@ class TransactionControllerTest {
                     .amount(new BigDecimal("500000"))
                     .build();
 
-            given(transactionService.withdraw(any(WithdrawRequest.class)))
+            given(transactionFacade.withdraw(any(WithdrawRequest.class)))
                     .willThrow(new BusinessException(ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED));
 
             // when & then
@@ -249,7 +256,7 @@ class TransactionControllerTest {
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            given(transactionService.transfer(any(TransferRequest.class))).willReturn(response);
+            given(transactionFacade.transfer(any(TransferRequest.class))).willReturn(response);
 
             // when & then
             mockMvc.perform(post("/api/transactions/transfer")
@@ -273,7 +280,7 @@ class TransactionControllerTest {
                     .amount(new BigDecimal("10000000"))
                     .build();
 
-            given(transactionService.transfer(any(TransferRequest.class)))
+            given(transactionFacade.transfer(any(TransferRequest.class)))
                     .willThrow(new BusinessException(ErrorCode.INSUFFICIENT_BALANCE));
 
             // when & then
@@ -295,7 +302,7 @@ class TransactionControllerTest {
                     .amount(new BigDecimal("2000000"))
                     .build();
 
-            given(transactionService.transfer(any(TransferRequest.class)))
+            given(transactionFacade.transfer(any(TransferRequest.class)))
                     .willThrow(new BusinessException(ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED));
 
             // when & then
@@ -318,7 +325,7 @@ class TransactionControllerTest {
                     .amount(new BigDecimal("10000"))
                     .build();
 
-            given(transactionService.transfer(any(TransferRequest.class)))
+            given(transactionFacade.transfer(any(TransferRequest.class)))
                     .willThrow(new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER));
 
             // when & then
@@ -353,6 +360,71 @@ class TransactionControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/transactions/transfers/batch - 대량 이체")
+    class TransferBatch {
+
+        @Test
+        @DisplayName("성공: 건별 결과와 함께 200 OK 반환")
+        void transferBatch_Success() throws Exception {
+            // given
+            BatchTransferRequest request = BatchTransferRequest.builder()
+                    .legs(List.of(
+                            TransferRequest.builder()
+                                    .fromAccountNumber("1234567890")
+                                    .toAccountNumber("0987654321")
+                                    .amount(new BigDecimal("10000"))
+                                    .build(),
+                            TransferRequest.builder()
+                                    .fromAccountNumber("1234567890")
+                                    .toAccountNumber("1111111111")
+                                    .amount(new BigDecimal("99999999"))
+                                    .build()))
+                    .build();
+
+            BatchTransferResponse response = BatchTransferResponse.of(List.of(
+                    TransferLegResult.success(0, TransactionResponse.builder()
+                            .id(1L)
+                            .type(TransactionType.TRANSFER_OUT)
+                            .amount(new BigDecimal("10000"))
+                            .fee(new BigDecimal("100"))
+                            .build()),
+                    TransferLegResult.failure(1, ErrorCode.INSUFFICIENT_BALANCE)));
+
+            given(transactionFacade.transferBatch(any(BatchTransferRequest.class))).willReturn(response);
+
+            // when & then
+            mockMvc.perform(post("/api/transactions/transfers/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalCount").value(2))
+                    .andExpect(jsonPath("$.successCount").value(1))
+                    .andExpect(jsonPath("$.results[0].transaction.id").value(1))
+                    .andExpect(jsonPath("$.results[1].errorCode").value("T001"));
+        }
+
+        @Test
+        @DisplayName("실패: 빈 이체 목록 시 400 Bad Request 반환")
+        void transferBatch_EmptyLegs() throws Exception {
+            // given
+            String requestJson = """
+                    {
+                        "legs": []
+                    }
+                    """;
+
+            // when & then
+            mockMvc.perform(post("/api/transactions/transfers/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors.legs").exists());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/transactions/account/{accountId} - 거래내역 조회")
     class GetTransactionHistory {
@@ -386,7 +458,9 @@ class TransactionControllerTest {
                     2
             );
 
-            given(transactionService.getTransactionHistory(eq(1L), any(Pageable.class)))
+            HistoryEtag etag = new HistoryEtag(1L, "t1-v3-s0");
+            given(transactionService.getHistoryEtag(1L)).willReturn(etag);
+            given(transactionService.getTransactionHistory(eq(etag), any(Pageable.class)))
                     .willReturn(page);
 
             // when & then
@@ -399,7 +473,22 @@ class TransactionControllerTest {
                     .andExpect(jsonPath("$.content[0].type").value("WITHDRAWAL"))
                     .andExpect(jsonPath("$.content[1].type").value("DEPOSIT"))
                     .andExpect(jsonPath("$.totalElements").value(2))
-                    .andExpect(jsonPath("$.size").value(20));
+                    .andExpect(jsonPath("$.size").value(20))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"t1-v3-s0\""));
+        }
+
+        @Test
+        @DisplayName("성공: ETag가 같으면 거래내역을 조회하지 않고 304 Not Modified 반환")
+        void getTransactionHistory_NotModified() throws Exception {
+            // given
+            given(transactionService.getHistoryEtag(1L)).willReturn(new HistoryEtag(1L, "t1-v3-s0"));
+
+            // when & then
+            mockMvc.perform(get("/api/transactions/account/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"t1-v3-s0\""))
+                    .andDo(print())
+                    .andExpect(status().isNotModified());
+            verify(transactionService, never()).getTransactionHistory(any(HistoryEtag.class), any(Pageable.class));
         }
 
         @Test
@@ -412,7 +501,9 @@ class TransactionControllerTest {
                     0
             );
 
-            given(transactionService.getTransactionHistory(eq(1L), any(Pageable.class)))
+            HistoryEtag etag = new HistoryEtag(1L, "t1-v0-s0");
+            given(transactionService.getHistoryEtag(1L)).willReturn(etag);
+            given(transactionService.getTransactionHistory(eq(etag), any(Pageable.class)))
                     .willReturn(emptyPage);
 
             // when & then
@@ -427,7 +518,7 @@ class TransactionControllerTest {
         @DisplayName("실패: 존재하지 않는 계좌 조회 시 404 Not Found 반환")
         void getTransactionHistory_AccountNotFound() throws Exception {
             // given
-            given(transactionService.getTransactionHistory(eq(999L), any(Pageable.class)))
+            given(transactionService.getHistoryEtag(999L))
                     .willThrow(new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
 
             // when & then
@@ -463,7 +554,9 @@ class TransactionControllerTest {
                     1
             );
 
-            given(transactionService.getTransactionHistoryByAccountNumber(eq("1234567890"), any(Pageable.class)))
+            HistoryEtag etag = new HistoryEtag(1L, "t1-v1-s0");
+            given(transactionService.getHistoryEtagByAccountNumber("1234567890")).willReturn(etag);
+            given(transactionService.getTransactionHistory(eq(etag), any(Pageable.class)))
                     .willReturn(page);
 
             // when & then
@@ -478,7 +571,7 @@ class TransactionControllerTest {
         @DisplayName("실패: 존재하지 않는 계좌번호 조회 시 404 Not Found 반환")
         void getTransactionHistoryByAccountNumber_NotFound() throws Exception {
             // given
-            given(transactionService.getTransactionHistoryByAccountNumber(eq("9999999999"), any(Pageable.class)))
+            given(transactionService.getHistoryEtagByAccountNumber("9999999999"))
                     .willThrow(new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
 
             // when & then
@@ -488,4 +581,56 @@ class TransactionControllerTest {
                     .andExpect(jsonPath("$.code").value("A001"));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/transactions/account/{accountId}/history - 거래내역 커서 조회")
+    class GetTransactionHistoryByCursor {
+
+        @Test
+        @DisplayName("성공: 커서와 건수를 전달하고 다음 커서를 반환")
+        void getTransactionHistoryByCursor_Success() throws Exception {
+            // given
+            CursorPageResponse<TransactionResponse> page = CursorPageResponse.of(List.of(
+                    TransactionResponse.builder()
+                            .id(2L)
+                            .type(TransactionType.DEPOSIT)
+                            .amount(new BigDecimal("100000"))
+                            .toAccountNumber("1234567890")
+                            .balanceAfter(new BigDecimal("100000"))
+                            .createdAt(LocalDateTime.now())
+                            .build()), "next-cursor");
+
+            HistoryEtag etag = new HistoryEtag(1L, "t1-v1-s0");
+            given(transactionService.getHistoryEtag(1L)).willReturn(etag);
+            given(transactionService.getTransactionHistory(etag, "cursor", 1)).willReturn(page);
+
+            // when & then
+            mockMvc.perform(get("/api/transactions/account/1/history")
+                            .param("after", "cursor")
+                            .param("limit", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("실패: 유효하지 않은 커서는 400 Bad Request 반환")
+        void getTransactionHistoryByCursor_InvalidCursor() throws Exception {
+            // given
+            HistoryEtag etag = new HistoryEtag(1L, "t1-v1-s0");
+            given(transactionService.getHistoryEtag(1L)).willReturn(etag);
+            given(transactionService.getTransactionHistory(etag, "broken", 20))
+                    .willThrow(new BusinessException(ErrorCode.INVALID_CURSOR));
+
+            // when & then
+            mockMvc.perform(get("/api/transactions/account/1/history")
+                            .param("after", "broken"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("C004"));
+        }
+    }
 }
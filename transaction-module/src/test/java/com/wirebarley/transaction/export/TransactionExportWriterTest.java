@@ -0,0 +1,76 @@
+package com.wirebarley.transaction.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.transaction.repository.TransactionExportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionExportWriter 단위 테스트")
+class TransactionExportWriterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("CSV는 쉼표, 따옴표, 줄바꿈이 있는 값을 따옴표로 감싸고 따옴표는 두 번 씀")
+    void csv_EscapesSpecialCharacters() throws IOException {
+        // when
+        String output = export(ExportFormat.CSV,
+                row(1L, "1111111111", "22,22"),
+                row(2L, "say \"hi\"", "line\nbreak"));
+
+        // then
+        assertThat(output.split("\n", -1)).containsExactly(
+                "id,type,amount,fee,from_account_number,to_account_number,balance_after,status,created_at",
+                "1,TRANSFER_OUT,10000,100,1111111111,\"22,22\",89900,SUCCESS,2026-01-02T03:04:05",
+                "2,TRANSFER_OUT,10000,100,\"say \"\"hi\"\"\",\"line",
+                "break\",89900,SUCCESS,2026-01-02T03:04:05",
+                "");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 행마다 JSON 객체 하나를 앞뒤 공백 없이 줄바꿈으로 구분")
+    void ndjson_OneObjectPerLine() throws IOException {
+        // when
+        String output = export(ExportFormat.NDJSON,
+                row(1L, "1111111111", "2222222222"),
+                row(2L, "1111111111", "2222222222"),
+                row(3L, "1111111111", "2222222222"));
+
+        // then
+        String[] lines = output.split("\n", -1);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[3]).isEmpty();
+        for (int i = 0; i < 3; i++) {
+            assertThat(lines[i]).startsWith("{").endsWith("}");
+            JsonNode node = objectMapper.readTree(lines[i]);
+            assertThat(node.get("id").asLong()).isEqualTo(i + 1L);
+            assertThat(node.get("createdAt").asText()).isEqualTo("2026-01-02T03:04:05");
+        }
+    }
+
+    private String export(ExportFormat format, TransactionExportRow... rows) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (TransactionExportWriter writer = TransactionExportWriter.open(format, outputStream, false, objectMapper)) {
+            for (TransactionExportRow row : rows) {
+                writer.write(row);
+            }
+        }
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static TransactionExportRow row(Long id, String fromAccountNumber, String toAccountNumber) {
+        return new TransactionExportRow(id, "TRANSFER_OUT", new BigDecimal("10000"), new BigDecimal("100"),
+                fromAccountNumber, toAccountNumber, new BigDecimal("89900"), "SUCCESS",
+                LocalDateTime.of(2026, 1, 2, 3, 4, 5));
+    }
+}
@@ -0,0 +1,170 @@
+package com.wirebarley.transaction.idempotency;
+
+import com.wirebarley.transaction.dto.IdempotencyStatsResponse;
+import com.wirebarley.transaction.dto.TransactionResponse;
+import com.wirebarley.transaction.entity.Transaction;
+import com.wirebarley.transaction.repository.IdempotencyKeyRepository;
+import com.wirebarley.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("IdempotencyLookup 단위 테스트")
+class IdempotencyLookupTest {
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final IdempotencyKeyRepository idempotencyKeyRepository = mock(IdempotencyKeyRepository.class);
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+
+    private IdempotencyLookup lookup;
+
+    @BeforeEach
+    void setUp() {
+        properties.setExpectedKeys(1_000);
+        properties.setCacheSize(2);
+        lookup = new IdempotencyLookup(transactionRepository, idempotencyKeyRepository, properties,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenStoredKeys(String... keys) {
+        willAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            Arrays.stream(keys).forEach(consumer);
+            return null;
+        }).given(idempotencyKeyRepository).forEachKeySince(any(), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("필터 준비 후 처음 보는 키는 DB를 조회하지 않음")
+    void find_FilterNegativeSkipsDatabase() {
+        // given
+        givenStoredKeys("old-key");
+        lookup.warmUp();
+
+        // when
+        Optional<TransactionResponse> response = lookup.find("new-key");
+
+        // then
+        assertThat(response).isEmpty();
+        verify(idempotencyKeyRepository, never()).findTransactionIds(any(), any());
+        assertThat(lookup.getStats().getFilterNegatives()).isEqualTo(1);
+        assertThat(lookup.getStats().getFilterKeys()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터 준비 전에는 DB를 조회하지만 필터를 거치지 않았으므로 오탐으로 집계하지 않음")
+    void find_BeforeWarmUpQueriesDatabase() {
+        assertThat(lookup.find("key-1")).isEmpty();
+
+        IdempotencyStatsResponse stats = lookup.getStats();
+        assertThat(stats.getDbLookups()).isEqualTo(1);
+        assertThat(stats.getFilterPositives()).isZero();
+        assertThat(stats.getFalsePositiveRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("오탐률은 필터가 통과시킨 단건 조회 중 DB에 없던 비율만 집계")
+    void find_FalsePositiveRateCountsOnlyFilterPositives() {
+        // given: 필터에는 있지만 DB에서는 만료된 키
+        givenStoredKeys("expired-key");
+        lookup.warmUp();
+
+        // when
+        lookup.find("expired-key");
+        lookup.findInDatabase("other-key");
+        lookup.findAll(List.of("batch-key"));
+
+        // then
+        IdempotencyStatsResponse stats = lookup.getStats();
+        assertThat(stats.getDbLookups()).isEqualTo(3);
+        assertThat(stats.getFilterPositives()).isEqualTo(1);
+        assertThat(stats.getFilterFalsePositives()).isEqualTo(1);
+        assertThat(stats.getFalsePositiveRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("기록한 응답은 캐시에서 바로 반환하고 가장 오래 쓰지 않은 응답부터 밀려남")
+    void remember_CachesResponse() {
+        // given
+        givenStoredKeys();
+        lookup.warmUp();
+        TransactionResponse first = TransactionResponse.builder().id(1L).build();
+        lookup.remember("key-1", first);
+        lookup.remember("key-2", TransactionResponse.builder().id(2L).build());
+        lookup.find("key-1");
+        lookup.remember("key-3", TransactionResponse.builder().id(3L).build());
+
+        // when & then
+        assertThat(lookup.find("key-1")).containsSame(first);
+        assertThat(lookup.find("key-2")).isEmpty();
+        verify(idempotencyKeyRepository).findTransactionIds(eq(List.of("key-2")), any());
+        assertThat(lookup.getStats().getCacheHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 키 조회 시 캐시에 없는 키만 한 번에 DB 조회")
+    void findAll_QueriesOnlyCacheMisses() {
+        // given
+        lookup.remember("key-1", TransactionResponse.builder().id(1L).build());
+
+        // when
+        Map<String, TransactionResponse> found = lookup.findAll(Arrays.asList("key-1", "key-2", "key-2", null));
+
+        // then
+        assertThat(found).containsOnlyKeys("key-1");
+        verify(idempotencyKeyRepository).findTransactionIds(eq(List.of("key-2")), any());
+    }
+
+    @Test
+    @DisplayName("보존 기간 안의 키는 기록된 거래 ID로 기존 거래를 찾음")
+    void findInDatabase_ResolvesTransactionThroughKeyStore() {
+        // given
+        Transaction transaction = Transaction.builder().build();
+        ReflectionTestUtils.setField(transaction, "id", 10L);
+        given(idempotencyKeyRepository.findTransactionIds(eq(List.of("key-1")), any()))
+                .willReturn(Map.of("key-1", 10L));
+        given(transactionRepository.findAllById(any())).willReturn(List.of(transaction));
+
+        // when
+        Optional<TransactionResponse> response = lookup.findInDatabase("key-1");
+
+        // then
+        assertThat(response).get().extracting(TransactionResponse::getId).isEqualTo(10L);
+        assertThat(lookup.getStats().getDbHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이전 영업일에 같은 키가 있으면 기록을 중복으로 거절")
+    void remember_RejectsKeyRecordedOnEarlierDay() {
+        // given
+        given(idempotencyKeyRepository.findKeysBetweenForUpdate(anyCollection(), any(), any()))
+                .willReturn(List.of("key-1"));
+
+        // when & then
+        assertThatThrownBy(() -> lookup.remember("key-1", TransactionResponse.builder().id(1L).build()))
+                .isInstanceOf(DuplicateKeyException.class);
+        verify(idempotencyKeyRepository).insertAll(eq(Map.of("key-1", 1L)), any(), any());
+        assertThat(lookup.getStats().getCacheSize()).isZero();
+    }
+}
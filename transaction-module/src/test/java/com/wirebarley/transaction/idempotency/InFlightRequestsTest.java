@@ -0,0 +1,114 @@
+package com.wirebarley.transaction.idempotency;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.TransactionResponse;
+import com.wirebarley.transaction.dto.WithdrawRequest;
+import com.wirebarley.transaction.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InFlightRequests 단위 테스트")
+class InFlightRequestsTest {
+
+    private final InFlightRequests inFlightRequests = new InFlightRequests(new IdempotencyProperties());
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 실행하고 같은 응답을 받음")
+    void execute_CoalescesConcurrentDuplicates() throws Exception {
+        // given
+        RequestFingerprint fingerprint = withdrawal("10000");
+        TransactionResponse response = response("10000.00");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<TransactionResponse> first = CompletableFuture.supplyAsync(() ->
+                inFlightRequests.execute("key-1", fingerprint, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return response;
+                }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<TransactionResponse> second = CompletableFuture.supplyAsync(() ->
+                inFlightRequests.execute("key-1", fingerprint, () -> {
+                    executions.incrementAndGet();
+                    return response("10000");
+                }));
+        while (inFlightRequests.getCoalescedCount() == 0 && !second.isDone()) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(executions).hasValue(1);
+        assertThat(inFlightRequests.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리 중인 키를 다른 내용으로 보내면 실행 전에 거절")
+    void execute_RejectsDifferentPayloadInFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<TransactionResponse> first = CompletableFuture.supplyAsync(() ->
+                inFlightRequests.execute("key-1", withdrawal("10000"), () -> {
+                    started.countDown();
+                    await(release);
+                    return response("10000");
+                }));
+        started.await(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> inFlightRequests.execute("key-1", withdrawal("20000"), () -> response("20000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_KEY_REUSED);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("기존 거래를 재시도 응답으로 받았는데 내용이 다르면 거절")
+    void execute_RejectsReplayWithDifferentPayload() {
+        assertThatThrownBy(() -> inFlightRequests.execute("key-1", withdrawal("20000"), () -> response("10000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThat(inFlightRequests.getRejectedCount()).isEqualTo(1);
+    }
+
+    private static RequestFingerprint withdrawal(String amount) {
+        return RequestFingerprint.of(WithdrawRequest.builder()
+                .accountNumber("1234567890")
+                .amount(new BigDecimal(amount))
+                .build());
+    }
+
+    private static TransactionResponse response(String amount) {
+        return TransactionResponse.builder()
+                .type(TransactionType.WITHDRAWAL)
+                .fromAccountNumber("1234567890")
+                .amount(new BigDecimal(amount))
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
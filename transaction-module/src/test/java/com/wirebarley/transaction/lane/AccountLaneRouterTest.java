@@ -0,0 +1,126 @@
+package com.wirebarley.transaction.lane;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AccountLaneRouter 단위 테스트")
+class AccountLaneRouterTest {
+
+    private AccountLaneRouter router;
+
+    @BeforeEach
+    void setUp() {
+        TransactionLaneProperties properties = new TransactionLaneProperties();
+        properties.setEnabled(true);
+        properties.setCount(4);
+        router = new AccountLaneRouter(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 계좌는 항상 같은 레인에 배정")
+    void laneOf_IsStable() {
+        int lane = router.laneOf("1234567890");
+
+        assertThat(router.laneOf("1234567890")).isEqualTo(lane);
+        assertThat(lane).isBetween(0, 3);
+    }
+
+    @Test
+    @DisplayName("같은 계좌의 작업은 동시에 실행되지 않음")
+    void execute_SerializesSameAccount() throws InterruptedException {
+        // given
+        int taskCount = 50;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(taskCount);
+
+        // when
+        for (int i = 0; i < taskCount; i++) {
+            callers.submit(() -> {
+                try {
+                    router.execute("1234567890", () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        running.decrementAndGet();
+                        return null;
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        callers.shutdown();
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 레인의 이체가 엇갈려도 교착 없이 완료")
+    void execute_TwoLaneHandoffDoesNotDeadlock() throws InterruptedException {
+        // given
+        String first = "1111111111";
+        String second = findAccountOnOtherLane(first);
+        int taskCount = 100;
+        AtomicInteger completed = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(taskCount);
+
+        // when
+        for (int i = 0; i < taskCount; i++) {
+            boolean forward = i % 2 == 0;
+            callers.submit(() -> {
+                try {
+                    router.execute(forward ? first : second, forward ? second : first,
+                            completed::incrementAndGet);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        // then
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(completed.get()).isEqualTo(taskCount);
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외는 호출자에게 그대로 전달")
+    void execute_PropagatesBusinessException() {
+        assertThatThrownBy(() -> router.execute("1234567890", () -> {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_BALANCE);
+    }
+
+    private String findAccountOnOtherLane(String accountNumber) {
+        int lane = router.laneOf(accountNumber);
+        for (long candidate = 2222222222L; ; candidate++) {
+            String candidateNumber = String.valueOf(candidate);
+            if (router.laneOf(candidateNumber) != lane) {
+                return candidateNumber;
+            }
+        }
+    }
+}
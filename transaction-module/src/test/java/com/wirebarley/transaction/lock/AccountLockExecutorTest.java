@@ -0,0 +1,123 @@
+package com.wirebarley.transaction.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AccountLockExecutor 단위 테스트")
+class AccountLockExecutorTest {
+
+    private static final List<String> ACCOUNTS = List.of("1234567890");
+
+    private AccountLockProperties properties;
+    private AccountLockPolicy policy;
+    private AccountLockExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AccountLockProperties();
+        properties.setMode(AccountLockProperties.Mode.ADAPTIVE);
+        properties.setBackoffBaseMillis(0);
+        policy = new AccountLockPolicy(properties);
+        executor = new AccountLockExecutor(policy, properties);
+    }
+
+    @Test
+    @DisplayName("충돌이 없으면 낙관적 락으로 한 번에 처리")
+    void execute_OptimisticWithoutConflict() {
+        List<AccountLockStrategy> used = new ArrayList<>();
+
+        String result = executor.execute(ACCOUNTS, strategy -> {
+            used.add(strategy);
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(used).containsExactly(AccountLockStrategy.OPTIMISTIC);
+        assertThat(policy.getStats("1234567890")).hasValueSatisfying(stats -> {
+            assertThat(stats.getAttempts()).isEqualTo(1);
+            assertThat(stats.getConflicts()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("충돌이 계속되면 재시도 후 비관적 락으로 마지막 시도")
+    void execute_FallsBackToPessimistic() {
+        List<AccountLockStrategy> used = new ArrayList<>();
+
+        executor.execute(ACCOUNTS, strategy -> {
+            used.add(strategy);
+            if (strategy == AccountLockStrategy.OPTIMISTIC) {
+                throw new ObjectOptimisticLockingFailureException("Account", 1L);
+            }
+            return "ok";
+        });
+
+        assertThat(used).containsExactly(
+                AccountLockStrategy.OPTIMISTIC, AccountLockStrategy.OPTIMISTIC, AccountLockStrategy.PESSIMISTIC);
+    }
+
+    @Test
+    @DisplayName("데드락 희생이나 락 대기 시간 초과도 재시도하고, 비관적 락 시도도 다시 실행")
+    void execute_RetriesPessimisticLockingFailure() {
+        List<AccountLockStrategy> used = new ArrayList<>();
+
+        String result = executor.execute(ACCOUNTS, strategy -> {
+            used.add(strategy);
+            if (used.size() == 1) {
+                throw new DeadlockLoserDataAccessException("deadlock", null);
+            }
+            if (used.size() <= 3) {
+                throw new CannotAcquireLockException("lock wait timeout");
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(used).containsExactly(AccountLockStrategy.OPTIMISTIC, AccountLockStrategy.OPTIMISTIC,
+                AccountLockStrategy.PESSIMISTIC, AccountLockStrategy.PESSIMISTIC);
+    }
+
+    @Test
+    @DisplayName("비관적 락 실패가 시도 한도를 넘으면 예외를 그대로 던짐")
+    void execute_GivesUpAfterMaxPessimisticAttempts() {
+        properties.setMode(AccountLockProperties.Mode.PESSIMISTIC);
+        List<AccountLockStrategy> used = new ArrayList<>();
+
+        assertThatThrownBy(() -> executor.execute(ACCOUNTS, strategy -> {
+            used.add(strategy);
+            throw new CannotAcquireLockException("lock wait timeout");
+        })).isInstanceOf(CannotAcquireLockException.class);
+        assertThat(used).hasSize(3).containsOnly(AccountLockStrategy.PESSIMISTIC);
+    }
+
+    @Test
+    @DisplayName("충돌률이 임계치를 넘은 계좌는 비관적 락으로 전환")
+    void policy_EscalatesHotAccount() {
+        policy.recordConflict(ACCOUNTS);
+        policy.recordConflict(ACCOUNTS);
+
+        assertThat(policy.strategyFor(ACCOUNTS)).isEqualTo(AccountLockStrategy.PESSIMISTIC);
+        assertThat(policy.strategyFor(List.of("0987654321"))).isEqualTo(AccountLockStrategy.OPTIMISTIC);
+        assertThat(policy.strategyFor(List.of("0987654321", "1234567890"))).isEqualTo(AccountLockStrategy.PESSIMISTIC);
+    }
+
+    @Test
+    @DisplayName("비관적 락 유지 시간이 지나면 낙관적 락을 다시 시도")
+    void policy_RelaxesAfterHoldTime() {
+        properties.setPessimisticHoldMillis(0);
+        policy.recordConflict(ACCOUNTS);
+        policy.recordConflict(ACCOUNTS);
+
+        assertThat(policy.strategyFor(ACCOUNTS)).isEqualTo(AccountLockStrategy.OPTIMISTIC);
+    }
+}
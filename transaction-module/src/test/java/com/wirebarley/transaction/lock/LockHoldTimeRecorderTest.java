@@ -0,0 +1,42 @@
+package com.wirebarley.transaction.lock;
+
+import com.wirebarley.transaction.dto.LockHoldTimeResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LockHoldTimeRecorder 단위 테스트")
+class LockHoldTimeRecorderTest {
+
+    private final LockHoldTimeRecorder recorder = new LockHoldTimeRecorder();
+
+    @Test
+    @DisplayName("작업별로 건수, 백분위, 최대값을 집계")
+    void record_Percentiles() {
+        for (int i = 0; i < 99; i++) {
+            recorder.record("transfer", TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        recorder.record("transfer", TimeUnit.MILLISECONDS.toNanos(100));
+        recorder.record("withdraw", TimeUnit.MILLISECONDS.toNanos(2));
+
+        assertThat(recorder.getStats()).extracting(LockHoldTimeResponse::getOperation)
+                .containsExactly("transfer", "withdraw");
+
+        LockHoldTimeResponse transfer = recorder.getStats().get(0);
+        assertThat(transfer.getCount()).isEqualTo(100);
+        assertThat(transfer.getP50Millis()).isLessThanOrEqualTo(1.024);
+        assertThat(transfer.getP99Millis()).isLessThanOrEqualTo(1.024);
+        assertThat(transfer.getMaxMillis()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 기록하지 않음")
+    void lockAcquired_WithoutTransaction() {
+        recorder.lockAcquired("transfer");
+
+        assertThat(recorder.getStats()).isEmpty();
+    }
+}
@@ -1,34 +1,66 @@
 package com.wirebarley.transaction.service;
 
+import com.wirebarley.account.cache.AccountCache;
 import com.wirebarley.account.entity.Account;
+import com.wirebarley.account.repository.AccountBalanceSlotRepository;
+import com.wirebarley.account.repository.AccountBalanceView;
+import com.wirebarley.account.repository.AccountHistoryVersionView;
 import com.wirebarley.account.repository.AccountRepository;
+import com.wirebarley.account.repository.AccountVersionLockRepository;
 import com.wirebarley.common.exception.BusinessException;
 import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.dto.CursorPageResponse;
 import com.wirebarley.transaction.dto.DepositRequest;
+import com.wirebarley.transaction.dto.HistoryEtag;
+import com.wirebarley.transaction.dto.TransactionCursor;
 import com.wirebarley.transaction.dto.TransactionResponse;
+import com.wirebarley.transaction.dto.TransferLegResult;
 import com.wirebarley.transaction.dto.TransferRequest;
 import com.wirebarley.transaction.dto.WithdrawRequest;
 import com.wirebarley.transaction.entity.Transaction;
 import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.idempotency.IdempotencyLookup;
+import com.wirebarley.transaction.lock.AccountLockProperties;
+import com.wirebarley.transaction.lock.AccountLockStrategy;
+import com.wirebarley.transaction.lock.LockHoldTimeRecorder;
+import com.wirebarley.transaction.outbox.OutboxWriter;
+import com.wirebarley.transaction.repository.AccountDailyUsageRepository;
+import com.wirebarley.transaction.repository.TransactionBatchRepository;
+import com.wirebarley.transaction.repository.TransactionHistoryView;
 import com.wirebarley.transaction.repository.TransactionRepository;
+import com.wirebarley.transaction.usage.QuotaLeaseManager;
+import com.wirebarley.transaction.velocity.VelocityLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TransactionService 단위 테스트")
@@ -40,6 +72,39 @@ class TransactionServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    @Mock
+    private AccountVersionLockRepository accountVersionLockRepository;
+
+    @Mock
+    private TransactionBatchRepository transactionBatchRepository;
+
+    @Spy
+    private AccountLockProperties accountLockProperties = new AccountLockProperties();
+
+    @Mock
+    private LockHoldTimeRecorder lockHoldTimeRecorder;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Mock
+    private AccountDailyUsageRepository accountDailyUsageRepository;
+
+    @Mock
+    private QuotaLeaseManager quotaLeaseManager;
+
+    @Mock
+    private VelocityLimiter velocityLimiter;
+
+    @Mock
+    private IdempotencyLookup idempotencyLookup;
+
+    @Mock
+    private AccountCache accountCache;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -61,6 +126,12 @@ class TransactionServiceTest {
                 .build();
     }
 
+    // 오늘 사용량이 used인 상태에서 예약 금액을 더한 누적값을 돌려준다
+    private void givenDailyUsage(TransactionType type, String used) {
+        given(accountDailyUsageRepository.addAndGet(any(), eq(type), any(), any()))
+                .willAnswer(invocation -> new BigDecimal(used).add(invocation.getArgument(3)));
+    }
+
     @Nested
     @DisplayName("입금")
     class Deposit {
@@ -96,6 +167,35 @@ class TransactionServiceTest {
             verify(transactionRepository).save(any(Transaction.class));
         }
 
+        @Test
+        @DisplayName("성공: 분산 잔액 계좌는 계좌 행이 아닌 슬롯에 입금")
+        void deposit_StripedAccount() {
+            // given
+            testAccount.enableStriping(4);
+
+            DepositRequest request = DepositRequest.builder()
+                    .accountNumber("1234567890")
+                    .amount(new BigDecimal("100000"))
+                    .idempotencyKey("deposit-striped-001")
+                    .build();
+
+            given(accountRepository.findStripeCountByAccountNumber("1234567890")).willReturn(Optional.of(4));
+            given(accountRepository.findByAccountNumberWithSharedLock("1234567890"))
+                    .willReturn(Optional.of(testAccount));
+            given(accountBalanceSlotRepository.findByAccountIdAndSlotIndexWithLock(any(), anyInt()))
+                    .willAnswer(invocation -> Optional.of(testAccount.getSlots().get(invocation.<Integer>getArgument(1))));
+            given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            TransactionResponse response = transactionService.deposit(request);
+
+            // then
+            int slotIndex = testAccount.selectSlotIndex("deposit-striped-001");
+            assertThat(testAccount.getSlots().get(slotIndex).getBalance()).isEqualTo(new BigDecimal("100000"));
+            assertThat(testAccount.getBalance()).isEqualTo(new BigDecimal("600000"));
+            assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("600000"));
+        }
+
         @Test
         @DisplayName("실패: 존재하지 않는 계좌")
         void deposit_AccountNotFound() {
@@ -115,10 +215,81 @@ class TransactionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("입금 묶음 처리")
+    class DepositBatch {
+
+        @Test
+        @DisplayName("성공: 한 번의 잔액 갱신으로 반영하고 요청별 누적 잔액을 기록")
+        void depositBatch_RunningBalance() {
+            // given
+            List<DepositRequest> requests = List.of(
+                    DepositRequest.builder().accountNumber("1234567890").amount(new BigDecimal("1000")).build(),
+                    DepositRequest.builder().accountNumber("1234567890").amount(new BigDecimal("2000")).build(),
+                    DepositRequest.builder().accountNumber("1234567890").amount(new BigDecimal("3000")).build());
+
+            given(accountRepository.findByAccountNumberWithLock("1234567890"))
+                    .willReturn(Optional.of(testAccount));
+            given(transactionBatchRepository.insertAll(any(), any())).willReturn(List.of(1L, 2L, 3L));
+
+            // when
+            List<TransactionResponse> responses = transactionService.depositBatch("1234567890", requests);
+
+            // then
+            assertThat(responses).extracting(TransactionResponse::getId).containsExactly(1L, 2L, 3L);
+            assertThat(responses).extracting(TransactionResponse::getBalanceAfter)
+                    .containsExactly(new BigDecimal("501000"), new BigDecimal("503000"), new BigDecimal("506000"));
+            assertThat(testAccount.getBalance()).isEqualTo(new BigDecimal("506000"));
+        }
+
+        @Test
+        @DisplayName("성공: 묶음 안에서 중복된 멱등성 키는 한 번만 반영")
+        void depositBatch_DuplicateIdempotencyKey() {
+            // given
+            List<DepositRequest> requests = List.of(
+                    DepositRequest.builder().accountNumber("1234567890").amount(new BigDecimal("1000"))
+                            .idempotencyKey("batch-key-1").build(),
+                    DepositRequest.builder().accountNumber("1234567890").amount(new BigDecimal("1000"))
+                            .idempotencyKey("batch-key-1").build());
+
+            given(idempotencyLookup.findAll(any())).willReturn(Map.of());
+            given(accountRepository.findByAccountNumberWithLock("1234567890"))
+                    .willReturn(Optional.of(testAccount));
+            given(transactionBatchRepository.insertAll(any(), any())).willReturn(List.of(10L));
+
+            // when
+            List<TransactionResponse> responses = transactionService.depositBatch("1234567890", requests);
+
+            // then
+            assertThat(responses).extracting(TransactionResponse::getId).containsExactly(10L, 10L);
+            assertThat(testAccount.getBalance()).isEqualTo(new BigDecimal("501000"));
+        }
+    }
+
     @Nested
     @DisplayName("출금")
     class Withdraw {
 
+        @Test
+        @DisplayName("성공: 이미 처리된 멱등성 키는 계좌를 잠그지 않고 기존 결과 반환")
+        void withdraw_IdempotentReplay() {
+            // given
+            WithdrawRequest request = WithdrawRequest.builder()
+                    .accountNumber("1234567890")
+                    .amount(new BigDecimal("10000"))
+                    .idempotencyKey("withdraw-key-1")
+                    .build();
+            TransactionResponse previous = TransactionResponse.builder().id(7L).build();
+            given(idempotencyLookup.find("withdraw-key-1")).willReturn(Optional.of(previous));
+
+            // when
+            TransactionResponse response = transactionService.withdraw(request);
+
+            // then
+            assertThat(response).isSameAs(previous);
+            verify(accountRepository, never()).findByAccountNumberWithLock(any());
+        }
+
         @Test
         @DisplayName("성공: 유효한 금액 출금")
         void withdraw_Success() {
@@ -130,9 +301,7 @@ class TransactionServiceTest {
 
             given(accountRepository.findByAccountNumberWithLock("1234567890"))
                     .willReturn(Optional.of(testAccount));
-            given(transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                    any(Account.class), eq(TransactionType.WITHDRAWAL), any(), any()))
-                    .willReturn(BigDecimal.ZERO);
+            givenDailyUsage(TransactionType.WITHDRAWAL, "0");
 
             Transaction savedTransaction = Transaction.builder()
                     .type(TransactionType.WITHDRAWAL)
@@ -152,6 +321,31 @@ class TransactionServiceTest {
             assertThat(testAccount.getBalance()).isEqualTo(new BigDecimal("400000"));
         }
 
+        @Test
+        @DisplayName("성공: 낙관적 락 전략은 잠금 없이 조회한 뒤 사용량보다 먼저 버전을 올려 계좌 행을 잠금")
+        void withdraw_OptimisticLock() {
+            // given
+            WithdrawRequest request = WithdrawRequest.builder()
+                    .accountNumber("1234567890")
+                    .amount(new BigDecimal("100000"))
+                    .build();
+
+            given(accountRepository.findByAccountNumber("1234567890"))
+                    .willReturn(Optional.of(testAccount));
+            givenDailyUsage(TransactionType.WITHDRAWAL, "0");
+            given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            transactionService.withdraw(request, AccountLockStrategy.OPTIMISTIC);
+
+            // then
+            assertThat(testAccount.getBalance()).isEqualTo(new BigDecimal("400000"));
+            verify(accountRepository, never()).findByAccountNumberWithLock(any());
+            InOrder inOrder = inOrder(accountVersionLockRepository, accountDailyUsageRepository);
+            inOrder.verify(accountVersionLockRepository).lockByVersion(testAccount);
+            inOrder.verify(accountDailyUsageRepository).addAndGet(any(), eq(TransactionType.WITHDRAWAL), any(), any());
+        }
+
         @Test
         @DisplayName("실패: 잔액 부족")
         void withdraw_InsufficientBalance() {
@@ -163,9 +357,7 @@ class TransactionServiceTest {
 
             given(accountRepository.findByAccountNumberWithLock("1234567890"))
                     .willReturn(Optional.of(testAccount));
-            given(transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                    any(Account.class), eq(TransactionType.WITHDRAWAL), any(), any()))
-                    .willReturn(BigDecimal.ZERO);
+            givenDailyUsage(TransactionType.WITHDRAWAL, "0");
 
             // when & then
             assertThatThrownBy(() -> transactionService.withdraw(request))
@@ -185,14 +377,33 @@ class TransactionServiceTest {
             // 이미 600,000원 출금한 상태
             given(accountRepository.findByAccountNumberWithLock("1234567890"))
                     .willReturn(Optional.of(testAccount));
-            given(transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                    any(Account.class), eq(TransactionType.WITHDRAWAL), any(), any()))
-                    .willReturn(new BigDecimal("600000"));
+            givenDailyUsage(TransactionType.WITHDRAWAL, "600000");
+
+            // when & then
+            assertThatThrownBy(() -> transactionService.withdraw(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+        }
+
+        @Test
+        @DisplayName("실패: 한도 임대 사용 시 임대에서 예약하지 못하면 한도 초과")
+        void withdraw_QuotaLeaseRejected() {
+            // given
+            WithdrawRequest request = WithdrawRequest.builder()
+                    .accountNumber("1234567890")
+                    .amount(new BigDecimal("500000"))
+                    .build();
+
+            given(accountRepository.findByAccountNumberWithLock("1234567890"))
+                    .willReturn(Optional.of(testAccount));
+            given(quotaLeaseManager.isEnabled()).willReturn(true);
+            given(quotaLeaseManager.reserve(any(), eq(TransactionType.WITHDRAWAL), any(), any())).willReturn(null);
 
             // when & then
             assertThatThrownBy(() -> transactionService.withdraw(request))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+            verify(accountDailyUsageRepository, never()).addAndGet(any(), any(), any(), any());
         }
 
         @Test
@@ -213,9 +424,7 @@ class TransactionServiceTest {
             // 이미 600,000원 출금한 상태 → 400,000 추가하면 딱 1,000,000원
             given(accountRepository.findByAccountNumberWithLock("1234567890"))
                     .willReturn(Optional.of(testAccount));
-            given(transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                    any(Account.class), eq(TransactionType.WITHDRAWAL), any(), any()))
-                    .willReturn(new BigDecimal("600000"));
+            givenDailyUsage(TransactionType.WITHDRAWAL, "600000");
 
             Transaction savedTransaction = Transaction.builder()
                     .type(TransactionType.WITHDRAWAL)
@@ -234,6 +443,90 @@ class TransactionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("조건부 UPDATE 잔액 갱신")
+    class AtomicUpdate {
+
+        private AccountBalanceView balanceView(long id, String balance) {
+            return new AccountBalanceView() {
+                @Override
+                public Long getId() {
+                    return id;
+                }
+
+                @Override
+                public BigDecimal getBalance() {
+                    return new BigDecimal(balance);
+                }
+            };
+        }
+
+        @Test
+        @DisplayName("성공: 계좌 엔티티 없이 한 문장으로 입금")
+        void depositAtomic_Success() {
+            // given
+            DepositRequest request = DepositRequest.builder()
+                    .accountNumber("1234567890")
+                    .amount(new BigDecimal("100000"))
+                    .build();
+            Account reference = mock(Account.class);
+
+            given(accountRepository.addBalanceIfSufficient(eq("1234567890"), eq(new BigDecimal("100000")), any()))
+                    .willReturn(1);
+            given(accountRepository.findBalanceViewByAccountNumber("1234567890"))
+                    .willReturn(Optional.of(balanceView(1L, "600000")));
+            given(accountRepository.getReferenceById(1L)).willReturn(reference);
+            given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            TransactionResponse response = transactionService.depositAtomic(request);
+
+            // then: 계좌 참조(프록시)의 메서드를 호출하지 않으므로 계좌를 조회하지 않는다
+            assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("600000"));
+            assertThat(response.getToAccountNumber()).isEqualTo("1234567890");
+            verify(accountRepository, never()).findByAccountNumberWithLock(any());
+            verifyNoInteractions(reference);
+        }
+
+        @Test
+        @DisplayName("실패: 갱신된 행이 없으면 잔액 부족")
+        void withdrawAtomic_InsufficientBalance() {
+            // given
+            WithdrawRequest request = WithdrawRequest.builder()
+                    .accountNumber("1234567890")
+                    .amount(new BigDecimal("600000"))
+                    .build();
+
+            given(accountRepository.addBalanceIfSufficient(eq("1234567890"), eq(new BigDecimal("-600000")), any()))
+                    .willReturn(0);
+            given(accountRepository.findStripeCountByAccountNumber("1234567890")).willReturn(Optional.of(0));
+
+            // when & then
+            assertThatThrownBy(() -> transactionService.withdrawAtomic(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_BALANCE);
+            verify(transactionRepository, never()).save(any(Transaction.class));
+        }
+
+        @Test
+        @DisplayName("실패: 존재하지 않는 계좌")
+        void withdrawAtomic_AccountNotFound() {
+            // given
+            WithdrawRequest request = WithdrawRequest.builder()
+                    .accountNumber("9999999999")
+                    .amount(new BigDecimal("100000"))
+                    .build();
+
+            given(accountRepository.addBalanceIfSufficient(eq("9999999999"), any(), any())).willReturn(0);
+            given(accountRepository.findStripeCountByAccountNumber("9999999999")).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> transactionService.withdrawAtomic(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+    }
+
     @Nested
     @DisplayName("이체")
     class Transfer {
@@ -260,13 +553,9 @@ class TransactionServiceTest {
                     .amount(new BigDecimal("100000"))
                     .build();
 
-            given(accountRepository.findByAccountNumberWithLock("0987654321"))
-                    .willReturn(Optional.of(testAccount2));
-            given(accountRepository.findByAccountNumberWithLock("1234567890"))
-                    .willReturn(Optional.of(testAccount));
-            given(transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                    any(Account.class), eq(TransactionType.TRANSFER_OUT), any(), any()))
-                    .willReturn(BigDecimal.ZERO);
+            given(accountRepository.findAllByAccountNumberInWithLock(any()))
+                    .willReturn(List.of(testAccount2, testAccount));
+            givenDailyUsage(TransactionType.TRANSFER_OUT, "0");
 
             Transaction outTransaction = Transaction.builder()
                     .type(TransactionType.TRANSFER_OUT)
@@ -292,6 +581,32 @@ class TransactionServiceTest {
             assertThat(testAccount2.getBalance()).isEqualTo(new BigDecimal("200000"));
         }
 
+        @Test
+        @DisplayName("성공: 계좌별 순차 락에서도 락 보유 시간은 마지막 락을 잡은 뒤부터 잼")
+        void transfer_SequentialLockRecordsHoldTimeAfterLastLock() {
+            // given
+            accountLockProperties.setSingleQueryTransferLock(false);
+            TransferRequest request = TransferRequest.builder()
+                    .fromAccountNumber("1234567890")
+                    .toAccountNumber("0987654321")
+                    .amount(new BigDecimal("100000"))
+                    .build();
+
+            given(accountRepository.findByAccountNumberWithLock("0987654321")).willReturn(Optional.of(testAccount2));
+            given(accountRepository.findByAccountNumberWithLock("1234567890")).willReturn(Optional.of(testAccount));
+            givenDailyUsage(TransactionType.TRANSFER_OUT, "0");
+            given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            transactionService.transfer(request);
+
+            // then: 계좌번호 순서로 두 락을 잡은 뒤에 보유 시간 측정을 시작
+            InOrder inOrder = inOrder(accountRepository, lockHoldTimeRecorder);
+            inOrder.verify(accountRepository).findByAccountNumberWithLock("0987654321");
+            inOrder.verify(accountRepository).findByAccountNumberWithLock("1234567890");
+            inOrder.verify(lockHoldTimeRecorder).lockAcquired("transfer");
+        }
+
         @Test
         @DisplayName("실패: 동일 계좌로 이체")
         void transfer_SameAccount() {
@@ -308,6 +623,25 @@ class TransactionServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SAME_ACCOUNT_TRANSFER);
         }
 
+        @Test
+        @DisplayName("실패: 한 번의 락 쿼리에서 계좌 하나만 조회되면 존재하지 않는 계좌")
+        void transfer_AccountNotFound() {
+            // given
+            TransferRequest request = TransferRequest.builder()
+                    .fromAccountNumber("1234567890")
+                    .toAccountNumber("9999999999")
+                    .amount(new BigDecimal("100000"))
+                    .build();
+
+            given(accountRepository.findAllByAccountNumberInWithLock(any())).willReturn(List.of(testAccount));
+
+            // when & then
+            assertThatThrownBy(() -> transactionService.transfer(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+            verify(accountRepository, never()).findByAccountNumberWithLock(any());
+        }
+
         @Test
         @DisplayName("실패: 잔액 부족 (수수료 포함)")
         void transfer_InsufficientBalanceWithFee() {
@@ -324,13 +658,9 @@ class TransactionServiceTest {
                     .amount(new BigDecimal("100000")) // 100,000 + 1,000 수수료 = 101,000 필요
                     .build();
 
-            given(accountRepository.findByAccountNumberWithLock("0987654321"))
-                    .willReturn(Optional.of(testAccount2));
-            given(accountRepository.findByAccountNumberWithLock("1234567890"))
-                    .willReturn(Optional.of(testAccount));
-            given(transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                    any(Account.class), eq(TransactionType.TRANSFER_OUT), any(), any()))
-                    .willReturn(BigDecimal.ZERO);
+            given(accountRepository.findAllByAccountNumberInWithLock(any()))
+                    .willReturn(List.of(testAccount2, testAccount));
+            givenDailyUsage(TransactionType.TRANSFER_OUT, "0");
 
             // when & then
             assertThatThrownBy(() -> transactionService.transfer(request))
@@ -348,14 +678,10 @@ class TransactionServiceTest {
                     .amount(new BigDecimal("1000000"))
                     .build();
 
-            given(accountRepository.findByAccountNumberWithLock("0987654321"))
-                    .willReturn(Optional.of(testAccount2));
-            given(accountRepository.findByAccountNumberWithLock("1234567890"))
-                    .willReturn(Optional.of(testAccount));
+            given(accountRepository.findAllByAccountNumberInWithLock(any()))
+                    .willReturn(List.of(testAccount2, testAccount));
             // 이미 2,500,000원 이체한 상태
-            given(transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                    any(Account.class), eq(TransactionType.TRANSFER_OUT), any(), any()))
-                    .willReturn(new BigDecimal("2500000"));
+            givenDailyUsage(TransactionType.TRANSFER_OUT, "2500000");
 
             // when & then
             assertThatThrownBy(() -> transactionService.transfer(request))
@@ -379,14 +705,10 @@ class TransactionServiceTest {
                     .amount(new BigDecimal("1000000"))
                     .build();
 
-            given(accountRepository.findByAccountNumberWithLock("0987654321"))
-                    .willReturn(Optional.of(testAccount2));
-            given(accountRepository.findByAccountNumberWithLock("1234567890"))
-                    .willReturn(Optional.of(testAccount));
+            given(accountRepository.findAllByAccountNumberInWithLock(any()))
+                    .willReturn(List.of(testAccount2, testAccount));
             // 이미 2,000,000원 이체한 상태 → 1,000,000 추가하면 딱 3,000,000원
-            given(transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                    any(Account.class), eq(TransactionType.TRANSFER_OUT), any(), any()))
-                    .willReturn(new BigDecimal("2000000"));
+            givenDailyUsage(TransactionType.TRANSFER_OUT, "2000000");
 
             Transaction outTransaction = Transaction.builder()
                     .type(TransactionType.TRANSFER_OUT)
@@ -423,13 +745,9 @@ class TransactionServiceTest {
                     .amount(new BigDecimal("12345")) // 1% = 123.45 → 버림 → 123
                     .build();
 
-            given(accountRepository.findByAccountNumberWithLock("0987654321"))
-                    .willReturn(Optional.of(testAccount2));
-            given(accountRepository.findByAccountNumberWithLock("1234567890"))
-                    .willReturn(Optional.of(testAccount));
-            given(transactionRepository.sumDailyAmountByOwnerAccountAndType(
-                    any(Account.class), eq(TransactionType.TRANSFER_OUT), any(), any()))
-                    .willReturn(BigDecimal.ZERO);
+            given(accountRepository.findAllByAccountNumberInWithLock(any()))
+                    .willReturn(List.of(testAccount2, testAccount));
+            givenDailyUsage(TransactionType.TRANSFER_OUT, "0");
 
             Transaction outTransaction = Transaction.builder()
                     .type(TransactionType.TRANSFER_OUT)
@@ -449,4 +767,153 @@ class TransactionServiceTest {
             assertThat(response.getFee()).isEqualTo(new BigDecimal("123"));
         }
     }
+
+    @Nested
+    @DisplayName("대량 이체")
+    class TransferChunk {
+
+        @Test
+        @DisplayName("일일 이체 한도는 출금 계좌별로 누적 계산하고 실패한 건만 실패 처리")
+        void transferChunk_CumulativeDailyLimit() {
+            // given
+            testAccount = Account.builder()
+                    .accountNumber("1234567890")
+                    .accountHolder("홍길동")
+                    .balance(new BigDecimal("5000000"))
+                    .build();
+
+            List<TransferRequest> legs = List.of(
+                    TransferRequest.builder().fromAccountNumber("1234567890").toAccountNumber("0987654321")
+                            .amount(new BigDecimal("2000000")).build(),
+                    TransferRequest.builder().fromAccountNumber("1234567890").toAccountNumber("0987654321")
+                            .amount(new BigDecimal("1500000")).build(),
+                    TransferRequest.builder().fromAccountNumber("1234567890").toAccountNumber("0987654321")
+                            .amount(new BigDecimal("1000000")).build());
+
+            given(accountRepository.findAllByAccountNumberInWithLock(any()))
+                    .willReturn(List.of(testAccount2, testAccount));
+            givenDailyUsage(TransactionType.TRANSFER_OUT, "0");
+            given(transactionBatchRepository.insertAll(any(), any())).willReturn(List.of(1L, 2L, 3L, 4L));
+
+            // when
+            List<TransferLegResult> results = transactionService.transferChunk(legs, 0);
+
+            // then
+            assertThat(results).extracting(TransferLegResult::isSuccess).containsExactly(true, false, true);
+            assertThat(results.get(1).getErrorCode()).isEqualTo(ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED.getCode());
+            assertThat(results.get(2).getTransaction().getId()).isEqualTo(3L);
+            // 출금: (2,000,000 + 20,000) + (1,000,000 + 10,000) = 3,030,000
+            assertThat(testAccount.getBalance()).isEqualTo(new BigDecimal("1970000"));
+            assertThat(testAccount2.getBalance()).isEqualTo(new BigDecimal("3100000"));
+            // 성공한 건의 합계만 사용량에 한 번 더한다
+            verify(accountDailyUsageRepository).addAndGet(
+                    any(), eq(TransactionType.TRANSFER_OUT), any(), eq(new BigDecimal("3000000")));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 계좌가 포함된 건은 실패 처리")
+        void transferChunk_AccountNotFound() {
+            // given
+            List<TransferRequest> legs = List.of(
+                    TransferRequest.builder().fromAccountNumber("1234567890").toAccountNumber("9999999999")
+                            .amount(new BigDecimal("10000")).build());
+
+            given(accountRepository.findAllByAccountNumberInWithLock(any())).willReturn(List.of(testAccount));
+            given(transactionBatchRepository.insertAll(any(), any())).willReturn(List.of());
+
+            // when
+            List<TransferLegResult> results = transactionService.transferChunk(legs, 5);
+
+            // then
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getIndex()).isEqualTo(5);
+            assertThat(results.get(0).getErrorCode()).isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND.getCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("거래내역 커서 조회")
+    class HistoryCursor {
+
+        private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+        private TransactionHistoryView historyRow(long id, LocalDateTime createdAt) {
+            return projectionFactory.createProjection(TransactionHistoryView.class, Map.of(
+                    "id", id,
+                    "type", TransactionType.DEPOSIT,
+                    "amount", new BigDecimal("10000"),
+                    "toAccountNumber", "1234567890",
+                    "createdAt", createdAt));
+        }
+
+        @Test
+        @DisplayName("limit보다 한 건 더 읽어 다음 페이지가 있으면 마지막 거래의 커서를 반환")
+        void getTransactionHistory_ReturnsNextCursor() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 30);
+            given(accountRepository.existsById(1L)).willReturn(true);
+            given(transactionRepository.findHistory(1L, Limit.of(3))).willReturn(List.of(
+                    historyRow(30L, now), historyRow(20L, now), historyRow(10L, now.minusMinutes(1))));
+
+            // when
+            CursorPageResponse<TransactionResponse> page = transactionService.getTransactionHistory(1L, null, 2);
+
+            // then
+            assertThat(page.getContent()).extracting(TransactionResponse::getId).containsExactly(30L, 20L);
+            assertThat(page.isHasNext()).isTrue();
+            assertThat(TransactionCursor.decode(page.getNextCursor())).isEqualTo(new TransactionCursor(now, 20L));
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 커서 다음부터 조회하고 마지막 페이지는 커서가 없음")
+        void getTransactionHistory_AfterCursor() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 30);
+            String after = new TransactionCursor(now, 20L).encode();
+            given(accountRepository.findIdByAccountNumber("1234567890")).willReturn(Optional.of(1L));
+            given(transactionRepository.findHistoryAfter(1L, now, 20L, Limit.of(3)))
+                    .willReturn(List.of(historyRow(10L, now.minusMinutes(1))));
+
+            // when
+            CursorPageResponse<TransactionResponse> page =
+                    transactionService.getTransactionHistoryByAccountNumber("1234567890", after, 2);
+
+            // then
+            assertThat(page.getContent()).extracting(TransactionResponse::getId).containsExactly(10L);
+            assertThat(page.getContent().get(0).getToAccountNumber()).isEqualTo("1234567890");
+            assertThat(page.isHasNext()).isFalse();
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("ETag는 계좌와 슬롯 버전만 읽고, 그 ETag로 조회하면 계좌를 다시 찾지 않음")
+        void getHistoryEtag_ReadsVersionsOnly() {
+            // given
+            given(accountRepository.findHistoryVersionByAccountNumber("1234567890")).willReturn(Optional.of(
+                    projectionFactory.createProjection(AccountHistoryVersionView.class,
+                            Map.of("id", 1L, "version", 7L, "slotVersion", 12L))));
+            given(transactionRepository.findHistory(1L, Limit.of(3))).willReturn(List.of());
+
+            // when
+            HistoryEtag etag = transactionService.getHistoryEtagByAccountNumber("1234567890");
+            transactionService.getTransactionHistory(etag, null, 2);
+
+            // then
+            assertThat(etag).isEqualTo(new HistoryEtag(1L, "t1-v7-s12"));
+            verify(accountRepository, never()).findIdByAccountNumber(any());
+            verify(accountRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("실패: 해석할 수 없는 커서")
+        void getTransactionHistory_InvalidCursor() {
+            // given
+            given(accountRepository.existsById(1L)).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> transactionService.getTransactionHistory(1L, "not-a-cursor", 20))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        }
+    }
 }
@@ -0,0 +1,163 @@
+package com.wirebarley.transaction.usage;
+
+import com.wirebarley.common.id.IdGeneratorProperties;
+import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.repository.AccountDailyUsageRepository;
+import com.wirebarley.transaction.repository.AccountQuotaLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("QuotaLeaseManager 단위 테스트")
+class QuotaLeaseManagerTest {
+
+    private static final BigDecimal LIMIT = new BigDecimal("1000000");
+
+    private final AccountDailyUsageRepository usageRepository = mock(AccountDailyUsageRepository.class);
+    private final AccountQuotaLeaseRepository leaseRepository = mock(AccountQuotaLeaseRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final QuotaLeaseProperties properties = new QuotaLeaseProperties();
+
+    // 사용량 행 (모든 노드의 사용분 + 임대분)
+    private final AtomicReference<BigDecimal> centralUsage = new AtomicReference<>(BigDecimal.ZERO);
+
+    private QuotaLeaseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setSweepIntervalMillis(600_000);
+        given(usageRepository.addAndGet(any(), any(), any(), any()))
+                .willAnswer(invocation -> centralUsage.accumulateAndGet(invocation.getArgument(3), BigDecimal::add));
+        IdGeneratorProperties idGeneratorProperties = new IdGeneratorProperties();
+        idGeneratorProperties.setNodeId(0);
+        manager = new QuotaLeaseManager(usageRepository, leaseRepository, properties,
+                idGeneratorProperties, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("임대 금액 안의 예약은 사용량 행을 거치지 않고 메모리에서 처리")
+    void reserve_WithinLeaseIsLocal() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(reserve("30000")).isNotNull();
+        }
+
+        // 최초 임대 한 번만 사용량 행을 갱신 (미사용분 반납 + 임대)
+        verify(usageRepository, times(2)).addAndGet(any(), eq(TransactionType.WITHDRAWAL), any(), any());
+        assertThat(centralUsage.get()).isEqualByComparingTo("100000");
+        assertThat(manager.getStats().getLocalReservations()).isEqualTo(2);
+        assertThat(manager.getStats().getLeaseAcquisitions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("남은 한도보다 큰 임대는 하지 않으며 전체 한도를 넘는 예약은 거절")
+    void reserve_NeverExceedsGlobalCap() {
+        // given: 다른 노드가 이미 950,000원을 사용/임대
+        centralUsage.set(new BigDecimal("950000"));
+
+        // when & then
+        assertThat(reserve("30000")).isNotNull();
+        assertThat(centralUsage.get()).isEqualByComparingTo("1000000");
+        assertThat(reserve("30000")).isNull();
+        assertThat(centralUsage.get()).isEqualByComparingTo("980000");
+        assertThat(manager.getStats().getRejections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("취소한 예약은 임대로 돌아가 다시 사용 가능")
+    void cancel_RefundsLease() {
+        // given: 남은 한도 100,000원
+        centralUsage.set(new BigDecimal("900000"));
+        QuotaReservation reservation = reserve("100000");
+
+        // when
+        reservation.cancel();
+        reservation.cancel();
+
+        // then
+        assertThat(reserve("100000")).isNotNull();
+        assertThat(manager.getStats().getLocalReservations()).isEqualTo(1);
+        assertThat(reserve("10000")).isNull();
+        assertThat(centralUsage.get()).isEqualByComparingTo("1000000");
+    }
+
+    @Test
+    @DisplayName("만료된 임대는 미사용분을 반납하고 임대 행을 삭제")
+    void returnExpired_ReturnsUnused() {
+        // given
+        properties.setTtlMillis(0);
+        properties.setSafetyMarginMillis(0);
+        reserve("30000");
+        assertThat(centralUsage.get()).isEqualByComparingTo("100000");
+
+        // when
+        manager.returnExpired();
+
+        // then
+        assertThat(centralUsage.get()).isEqualByComparingTo("30000");
+        assertThat(manager.getStats().getActiveLeases()).isZero();
+        verify(leaseRepository).delete(eq(0), eq(1L), eq(TransactionType.WITHDRAWAL), any());
+    }
+
+    @Test
+    @DisplayName("거래 트랜잭션 안에서는 임대를 갱신하지 않고 현재 트랜잭션으로 사용량 행에 바로 더함")
+    void reserve_InTransactionDoesNotOpenLeaseTransaction() {
+        // given: 거래 트랜잭션 안
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when & then
+        assertThat(reserve("30000")).isNotNull();
+        centralUsage.set(new BigDecimal("990000"));
+        assertThat(reserve("30000")).isNull();
+
+        verify(transactionManager, never()).getTransaction(any());
+        assertThat(centralUsage.get()).isEqualByComparingTo("990000");
+        assertThat(manager.getStats().getLeaseAcquisitions()).isZero();
+        assertThat(manager.getStats().getDirectReservations()).isEqualTo(2);
+        assertThat(manager.getStats().getRejections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거래 트랜잭션 전에 갱신한 임대는 트랜잭션 안에서 메모리로 차감")
+    void prepare_RenewsBeforeTransaction() {
+        // given: 트랜잭션 밖에서 미리 갱신
+        manager.prepare(1L, TransactionType.WITHDRAWAL, new BigDecimal("30000"), LIMIT);
+        manager.prepare(1L, TransactionType.WITHDRAWAL, new BigDecimal("30000"), LIMIT);
+
+        // when
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        QuotaReservation reservation = reserve("30000");
+
+        // then
+        assertThat(reservation).isNotNull();
+        assertThat(centralUsage.get()).isEqualByComparingTo("100000");
+        assertThat(manager.getStats().getLeaseAcquisitions()).isEqualTo(1);
+        assertThat(manager.getStats().getLocalReservations()).isEqualTo(1);
+        assertThat(manager.getStats().getDirectReservations()).isZero();
+    }
+
+    private QuotaReservation reserve(String amount) {
+        return manager.reserve(1L, TransactionType.WITHDRAWAL, new BigDecimal(amount), LIMIT);
+    }
+}
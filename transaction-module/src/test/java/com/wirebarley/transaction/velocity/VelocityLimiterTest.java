@@ -0,0 +1,107 @@
+package com.wirebarley.transaction.velocity;
+
+import com.wirebarley.common.exception.BusinessException;
+import com.wirebarley.common.exception.ErrorCode;
+import com.wirebarley.transaction.entity.TransactionType;
+import com.wirebarley.transaction.repository.AccountVelocityBucketRepository;
+import com.wirebarley.transaction.repository.AccountVelocityBucketRepository.Bucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("VelocityLimiter 단위 테스트")
+class VelocityLimiterTest {
+
+    private final AccountVelocityBucketRepository repository = mock(AccountVelocityBucketRepository.class);
+    private final VelocityLimitProperties properties = new VelocityLimitProperties();
+    private final VelocityLimiter limiter = new VelocityLimiter(repository, properties);
+
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setRules(List.of(
+                rule("rolling-24h-amount", Duration.ofHours(24), new BigDecimal("1000000"), null),
+                rule("hourly-count", Duration.ofHours(1), null, 3)));
+        now = System.currentTimeMillis() / 60_000;
+    }
+
+    @Test
+    @DisplayName("버킷을 한 번 읽어 모든 기간의 합계를 계산하고 어느 하나라도 넘으면 거절")
+    void check_EvaluatesAllWindows() {
+        // given: 2시간 전 800,000원 1건, 10분 전 100,000원 2건
+        given(repository.findSinceForUpdate(eq(1L), anyLong())).willReturn(List.of(
+                new Bucket(TransactionType.WITHDRAWAL, now - 120, new BigDecimal("800000"), 1),
+                new Bucket(TransactionType.TRANSFER_OUT, now - 10, new BigDecimal("100000"), 2)));
+        VelocityState state = limiter.load(1L);
+
+        // when & then: 24시간 950,000원, 1시간 3건 → 통과
+        limiter.check(state, TransactionType.WITHDRAWAL, new BigDecimal("50000"));
+        // 1시간 4건 → 거절
+        assertThatThrownBy(() -> limiter.check(state, TransactionType.WITHDRAWAL, new BigDecimal("10000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.VELOCITY_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("기간이 지난 버킷은 합계에서 제외")
+    void check_IgnoresExpiredBuckets() {
+        // given: 25시간 전 1,000,000원
+        given(repository.findSinceForUpdate(eq(1L), anyLong())).willReturn(List.of(
+                new Bucket(TransactionType.WITHDRAWAL, now - 25 * 60, new BigDecimal("1000000"), 1)));
+
+        // when
+        limiter.checkAndRecord(1L, TransactionType.WITHDRAWAL, new BigDecimal("1000000"));
+
+        // then
+        verify(repository).add(eq(1L), eq(TransactionType.WITHDRAWAL), anyInt(), anyLong(),
+                eq(new BigDecimal("1000000")), eq(1));
+    }
+
+    @Test
+    @DisplayName("통과한 건만 유형별로 합산해 현재 분 버킷에 한 번 기록")
+    void flush_WritesPendingOnce() {
+        // given
+        given(repository.findSinceForUpdate(eq(1L), anyLong())).willReturn(List.of());
+        VelocityState state = limiter.load(1L);
+        limiter.check(state, TransactionType.TRANSFER_OUT, new BigDecimal("300000"));
+        limiter.check(state, TransactionType.TRANSFER_OUT, new BigDecimal("200000"));
+        assertThatThrownBy(() -> limiter.check(state, TransactionType.TRANSFER_OUT, new BigDecimal("600000")))
+                .isInstanceOf(BusinessException.class);
+
+        // when
+        limiter.flush(state);
+
+        // then
+        int slot = (int) Math.floorMod(state.getMinute(), 24 * 60L);
+        verify(repository).add(1L, TransactionType.TRANSFER_OUT, slot, state.getMinute(), new BigDecimal("500000"), 2);
+        verify(repository, never()).add(any(), eq(TransactionType.WITHDRAWAL), anyInt(), anyLong(), any(), anyInt());
+    }
+
+    private static VelocityLimitProperties.Rule rule(String name, Duration window, BigDecimal maxAmount,
+                                                     Integer maxCount) {
+        VelocityLimitProperties.Rule rule = new VelocityLimitProperties.Rule();
+        rule.setName(name);
+        rule.setTypes(EnumSet.of(TransactionType.WITHDRAWAL, TransactionType.TRANSFER_OUT));
+        rule.setWindow(window);
+        rule.setMaxAmount(maxAmount);
+        rule.setMaxCount(maxCount);
+        return rule;
+    }
+}